@@ -0,0 +1,70 @@
+package org.example.benchmark;
+
+import org.example.MutantDetectorApplication;
+import org.example.service.MutantService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MutantService.analyzeDna de punta a punta contra H2 en memoria: huella,
+ * caché, Bloom filter, detección y MERGE, con el contexto Spring completo
+ * (sin servidor web).
+ *
+ * Ejecutar con: ./gradlew jmh -Pjmh.includes=AnalyzeDnaBenchmark
+ *
+ * - NEW: cada invocación usa un ADN 6x6 nunca visto (camino de escritura)
+ * - REPEAT: siempre el mismo ADN (camino de caché)
+ * - REPEAT_NO_CACHE: el mismo ADN con la caché deshabilitada (camino de lectura en BD)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnalyzeDnaBenchmark {
+
+    @Param({"NEW", "REPEAT", "REPEAT_NO_CACHE"})
+    private String mode;
+
+    private final AtomicLong nextId = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private MutantService mutantService;
+    private String[] repeated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MutantDetectorApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "logging.level.root=WARN",
+                        "mutant.cache.enabled=" + !"REPEAT_NO_CACHE".equals(mode))
+                .run();
+        mutantService = context.getBean(MutantService.class);
+
+        repeated = DnaMatrices.create(6, DnaMatrices.Workload.MUTANT_MIDDLE);
+        mutantService.analyzeDna(repeated);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean analyzeDna() {
+        String[] dna = "NEW".equals(mode) ? DnaMatrices.unique(nextId.getAndIncrement()) : repeated;
+        return mutantService.analyzeDna(dna);
+    }
+}
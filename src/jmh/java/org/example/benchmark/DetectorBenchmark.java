@@ -0,0 +1,67 @@
+package org.example.benchmark;
+
+import org.example.service.MutantDetector;
+import org.example.service.engine.BitboardDetectionEngine;
+import org.example.service.engine.DetectionEngine;
+import org.example.service.engine.FusedDetectionEngine;
+import org.example.service.engine.RunLengthDetectionEngine;
+import org.example.service.engine.ScalarDetectionEngine;
+import org.example.service.engine.VectorDetectionEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MutantDetector.isMutant por motor, tamaño y forma de la matriz.
+ *
+ * Ejecutar con: ./gradlew jmh -Pjmh.includes=DetectorBenchmark
+ *
+ * El resultado se devuelve desde el método @Benchmark: JMH lo consume con
+ * un Blackhole, por lo que el JIT no puede eliminar el análisis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DetectorBenchmark {
+
+    @Param({"fused", "scalar", "runlength", "bitboard", "vector"})
+    private String engine;
+
+    @Param({"6", "100", "1000", "10000"})
+    private int n;
+
+    @Param({"HUMAN", "MUTANT_FIRST_ROW", "MUTANT_MIDDLE", "MUTANT_LAST_ROW", "RANDOM"})
+    private DnaMatrices.Workload workload;
+
+    private MutantDetector detector;
+    private String[] dna;
+
+    @Setup
+    public void setUp() {
+        detector = new MutantDetector(createEngine(engine));
+        dna = DnaMatrices.create(n, workload);
+    }
+
+    @Benchmark
+    public boolean isMutant() {
+        return detector.isMutant(dna);
+    }
+
+    private static DetectionEngine createEngine(String name) {
+        return switch (name) {
+            case "fused" -> new FusedDetectionEngine();
+            case "scalar" -> new ScalarDetectionEngine();
+            case "runlength" -> new RunLengthDetectionEngine();
+            case "bitboard" -> new BitboardDetectionEngine();
+            case "vector" -> new VectorDetectionEngine();
+            default -> throw new IllegalArgumentException("Unknown engine: " + name);
+        };
+    }
+}
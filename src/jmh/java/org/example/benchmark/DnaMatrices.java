@@ -0,0 +1,109 @@
+package org.example.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generador de matrices de ADN para los benchmarks.
+ *
+ * La base humana usa (fila, col) -> BASES[(col + 2·fila) % 4]: ninguna celda
+ * es igual a su vecina en ninguna dirección (→ +1, ↓ +2, ↘ +3, ↙ +1), por lo
+ * que la matriz no tiene ninguna secuencia y obliga a recorrerla completa.
+ */
+public final class DnaMatrices {
+
+    private static final char[] BASES = {'A', 'T', 'G', 'C'};
+
+    private DnaMatrices() {
+    }
+
+    /**
+     * Forma de la matriz a analizar.
+     */
+    public enum Workload {
+        /** Sin secuencias: recorrido completo, sin Early Termination. */
+        HUMAN,
+        /** Corrida de A en la primera fila: Early Termination inmediato. */
+        MUTANT_FIRST_ROW,
+        /** Corrida de A en la fila N/2. */
+        MUTANT_MIDDLE,
+        /** Corrida de A en la última fila: Early Termination al final. */
+        MUTANT_LAST_ROW,
+        /** Bases aleatorias: alta densidad de secuencias. */
+        RANDOM
+    }
+
+    /**
+     * @param n Tamaño de la matriz
+     * @param workload Forma de la matriz
+     * @return Matriz NxN de la forma pedida
+     */
+    static String[] create(int n, Workload workload) {
+        return switch (workload) {
+            case HUMAN -> human(n);
+            case MUTANT_FIRST_ROW -> withRun(human(n), 0);
+            case MUTANT_MIDDLE -> withRun(human(n), n / 2);
+            case MUTANT_LAST_ROW -> withRun(human(n), n - 1);
+            case RANDOM -> random(n, new Random(42));
+        };
+    }
+
+    /**
+     * Matriz NxN sin secuencias.
+     */
+    static String[] human(int n) {
+        String[] dna = new String[n];
+        char[] row = new char[n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                row[c] = BASES[(c + 2 * r) & 3];
+            }
+            dna[r] = new String(row);
+        }
+        return dna;
+    }
+
+    /**
+     * Matriz NxN con bases aleatorias.
+     */
+    static String[] random(int n, Random random) {
+        String[] dna = new String[n];
+        char[] row = new char[n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                row[c] = BASES[random.nextInt(4)];
+            }
+            dna[r] = new String(row);
+        }
+        return dna;
+    }
+
+    /**
+     * Matriz 6x6 distinta para cada id: las primeras 32 celdas codifican los
+     * 64 bits del id en base 4, por lo que ids distintos nunca comparten huella.
+     */
+    static String[] unique(long id) {
+        String[] dna = new String[6];
+        char[] row = new char[6];
+        long bits = id;
+        for (int r = 0; r < 6; r++) {
+            for (int c = 0; c < 6; c++) {
+                row[c] = BASES[(int) (bits & 3)];
+                bits >>>= 2;
+            }
+            dna[r] = new String(row);
+        }
+        return dna;
+    }
+
+    /**
+     * Reemplaza el inicio de una fila por una corrida de A (de hasta 8 celdas:
+     * 2 a 5 secuencias solapadas), suficiente para que la matriz sea mutante.
+     */
+    private static String[] withRun(String[] dna, int row) {
+        char[] cells = dna[row].toCharArray();
+        Arrays.fill(cells, 0, Math.min(cells.length, 8), 'A');
+        dna[row] = new String(cells);
+        return dna;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.benchmark;
+
+import org.example.service.fingerprint.DnaFingerprint;
+import org.example.service.fingerprint.DnaFingerprinter;
+import org.example.service.fingerprint.Murmur3Fingerprinter;
+import org.example.service.fingerprint.Sha256Fingerprinter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Huella del ADN (sucesora de MutantService.calculateDnaHash) por algoritmo y tamaño.
+ *
+ * Ejecutar con: ./gradlew jmh -Pjmh.includes=FingerprintBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FingerprintBenchmark {
+
+    @Param({"murmur3", "sha256"})
+    private String algorithm;
+
+    @Param({"6", "100", "1000", "10000"})
+    private int n;
+
+    private DnaFingerprinter fingerprinter;
+    private String[] dna;
+
+    @Setup
+    public void setUp() {
+        fingerprinter = "sha256".equals(algorithm) ? new Sha256Fingerprinter() : new Murmur3Fingerprinter();
+        dna = DnaMatrices.create(n, DnaMatrices.Workload.RANDOM);
+    }
+
+    @Benchmark
+    public DnaFingerprint fingerprint() {
+        return fingerprinter.fingerprint(dna);
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.benchmark;
+
+import org.example.config.StoreProperties;
+import org.example.entity.DnaRecord;
+import org.example.repository.mapped.MappedDnaVerdictStore;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * MappedDnaVerdictStore.findVerdict sobre una tabla con {@code entries}
+ * huellas ya persistidas: el camino "¿ya vimos esta huella?" del índice mapped.
+ *
+ * Ejecutar con: ./gradlew jmh -Pjmh.includes=MappedStoreBenchmark
+ *
+ * - HIT: huellas insertadas, en orden aleatorio
+ * - MISS: huellas nunca insertadas (recorren la cadena de probing hasta un slot vacío)
+ *
+ * Las huellas a consultar se generan antes de medir y se recorren en ciclo,
+ * así que cada invocación mide solo la lectura de la tabla.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappedStoreBenchmark {
+
+    private static final int PROBES = 1 << 16;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int entries;
+
+    @Param({"HIT", "MISS"})
+    private String lookup;
+
+    private Path directory;
+    private MappedDnaVerdictStore store;
+    private DnaFingerprint[] probes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-store-bench");
+        StoreProperties.Mapped properties = new StoreProperties.Mapped();
+        properties.setDirectory(directory.toString());
+        properties.setInitialCapacity(entries * 2);
+        properties.setSync(false);
+        store = MappedDnaVerdictStore.open(properties, Thread.ofPlatform().daemon().factory());
+
+        SplittableRandom random = new SplittableRandom(42);
+        DnaFingerprint[] inserted = new DnaFingerprint[entries];
+        List<DnaRecord> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < entries; i++) {
+            inserted[i] = new DnaFingerprint(random.nextLong(), random.nextLong());
+            batch.add(new DnaRecord(inserted[i].toUuid(), (i & 1) == 0));
+            if (batch.size() == INSERT_BATCH || i == entries - 1) {
+                store.insertAll(batch);
+                batch.clear();
+            }
+        }
+
+        probes = new DnaFingerprint[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = "HIT".equals(lookup)
+                    ? inserted[random.nextInt(entries)]
+                    : new DnaFingerprint(random.nextLong(), random.nextLong());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Boolean findVerdict() {
+        return store.findVerdict(probes[next++ & (PROBES - 1)]);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.benchmark;
+
+import org.example.service.engine.DnaAlphabet;
+import org.example.validation.DnaValidationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DnaAlphabet.validate (forma NxN + alfabeto) por tamaño.
+ *
+ * Ejecutar con: ./gradlew jmh -Pjmh.includes=ValidatorBenchmark
+ *
+ * invalidLastCell ubica el único carácter inválido en la última celda: el
+ * peor caso, en el que la validación recorre toda la matriz.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidatorBenchmark {
+
+    @Param({"6", "100", "1000", "10000"})
+    private int n;
+
+    @Param({"false", "true"})
+    private boolean invalidLastCell;
+
+    private String[] dna;
+
+    @Setup
+    public void setUp() {
+        dna = DnaMatrices.create(n, DnaMatrices.Workload.RANDOM);
+        if (invalidLastCell) {
+            String last = dna[n - 1];
+            dna[n - 1] = last.substring(0, n - 1) + 'X';
+        }
+    }
+
+    @Benchmark
+    public DnaValidationError validate() {
+        return DnaAlphabet.validate(dna);
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.loadtest;
+
+import org.example.service.MutantDetector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Genera los bodies {"dna": [...]} de POST /mutant según la mezcla configurada.
+ *
+ * - ADN nuevo: aleatorio, clasificado localmente con MutantDetector para
+ *   respetar la fracción de mutantes. Un humano grande aleatorio es casi
+ *   imposible, así que para N >= 32 se parte de una base sin secuencias
+ *   (fila, col) -> BASES[(col + 2·fila) % 4] y se alteran al azar celdas de
+ *   las filas múltiplo de 4 (base + 2): esas filas nunca forman 4 iguales.
+ * - ADN repetido: uno ya generado, de un pool acotado por tamaño, para medir
+ *   el camino de caché.
+ */
+final class DnaBodyGenerator {
+
+    private static final char[] BASES = {'A', 'T', 'G', 'C'};
+    private static final int SMALL_HUMAN_LIMIT = 32;
+    private static final int MAX_ATTEMPTS = 1000;
+
+    private final LoadTestConfig config;
+    private final MutantDetector detector = new MutantDetector();
+    private final NavigableMap<Integer, Integer> sizeByCumulativeWeight = new TreeMap<>();
+    private final int totalWeight;
+    private final Map<Integer, List<String>> repeatPools = new HashMap<>();
+
+    DnaBodyGenerator(LoadTestConfig config) {
+        this.config = config;
+        int cumulative = 0;
+        for (Map.Entry<Integer, Integer> entry : config.sizes().entrySet()) {
+            cumulative += entry.getValue();
+            sizeByCumulativeWeight.put(cumulative, entry.getKey());
+        }
+        this.totalWeight = cumulative;
+    }
+
+    /**
+     * Llena el pool de ADN repetibles de cada tamaño.
+     */
+    void fillRepeatPools() {
+        for (int n : config.sizes().keySet()) {
+            int poolSize = n >= 1000 ? Math.min(config.repeatPoolSize(), 50) : config.repeatPoolSize();
+            List<String> pool = new ArrayList<>(poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                pool.add(newBody(n));
+            }
+            repeatPools.put(n, pool);
+        }
+    }
+
+    /**
+     * @return Todos los bodies de los pools de repetidos
+     */
+    List<String> repeatBodies() {
+        return repeatPools.values().stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * @return Tamaño N sorteado según los pesos de load.sizes
+     */
+    int nextSize() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        return sizeByCumulativeWeight.higherEntry(ticket).getValue();
+    }
+
+    /**
+     * @param n Tamaño de la matriz
+     * @param repeat true para un ADN del pool de repetidos
+     * @return Body JSON de POST /mutant
+     */
+    String body(int n, boolean repeat) {
+        List<String> pool = repeatPools.get(n);
+        if (repeat && pool != null && !pool.isEmpty()) {
+            return pool.get(ThreadLocalRandom.current().nextInt(pool.size()));
+        }
+        return newBody(n);
+    }
+
+    private String newBody(int n) {
+        boolean mutant = ThreadLocalRandom.current().nextDouble() < config.mutantRatio();
+        return toJson(mutant ? mutant(n) : human(n));
+    }
+
+    private String[] mutant(int n) {
+        String[] dna = random(n);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && !detector.isMutant(dna); attempt++) {
+            dna = random(n);
+        }
+        return dna;
+    }
+
+    private String[] human(int n) {
+        if (n < SMALL_HUMAN_LIMIT) {
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                String[] dna = random(n);
+                if (!detector.isMutant(dna)) {
+                    return dna;
+                }
+            }
+        }
+        return perturbedHuman(n);
+    }
+
+    private static String[] random(int n) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] dna = new String[n];
+        char[] row = new char[n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                row[c] = BASES[random.nextInt(4)];
+            }
+            dna[r] = new String(row);
+        }
+        return dna;
+    }
+
+    /**
+     * Base sin secuencias con celdas alteradas al azar en las filas múltiplo
+     * de 4: la celda alterada vale lo mismo que sus vecinas verticales (corrida
+     * de 3) y difiere de las horizontales y diagonales, así que sigue siendo humano.
+     */
+    private static String[] perturbedHuman(int n) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] dna = new String[n];
+        char[] row = new char[n];
+        for (int r = 0; r < n; r++) {
+            boolean perturb = (r & 3) == 0;
+            for (int c = 0; c < n; c++) {
+                int shift = perturb && random.nextBoolean() ? 2 : 0;
+                row[c] = BASES[(c + 2 * r + shift) & 3];
+            }
+            dna[r] = new String(row);
+        }
+        return dna;
+    }
+
+    private static String toJson(String[] dna) {
+        StringBuilder json = new StringBuilder(dna.length * (dna.length + 3) + 12);
+        json.append("{\"dna\":[");
+        for (int r = 0; r < dna.length; r++) {
+            if (r > 0) {
+                json.append(',');
+            }
+            json.append('"').append(dna[r]).append('"');
+        }
+        return json.append("]}").toString();
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y códigos de estado por endpoint, en HdrHistogram
+ * (3 dígitos significativos, autoajustable: no se pierden outliers).
+ */
+final class LatencyReport {
+
+    /** Estado registrado cuando el request falla en el cliente (timeout, conexión). */
+    static final int CLIENT_ERROR = -1;
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final Histogram all = new ConcurrentHistogram(3);
+
+    void record(String endpoint, long latencyNanos, int status) {
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(3)).recordValue(latencyNanos);
+        all.recordValue(latencyNanos);
+        String statusKey = status == CLIENT_ERROR ? "client error" : String.valueOf(status);
+        statuses.computeIfAbsent(statusKey, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Imprime percentiles por endpoint, throughput y códigos de estado.
+     *
+     * @param elapsedNanos Duración real de la fase medida
+     * @param targetRate Tasa objetivo en requests por segundo
+     */
+    void print(PrintStream out, long elapsedNanos, int targetRate) {
+        double seconds = elapsedNanos / 1e9;
+        out.println();
+        out.printf("%-32s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "req/s");
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            printRow(out, entry.getKey(), entry.getValue(), seconds);
+        }
+        printRow(out, "TOTAL", all, seconds);
+
+        out.printf("%nTarget rate: %d req/s, achieved: %.1f req/s%n", targetRate, all.getTotalCount() / seconds);
+        out.println("Status codes: " + new TreeMap<>(statuses));
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, double seconds) {
+        out.printf("%-32s %9d %9.2f %9.2f %9.2f %9.2f %9.1f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI,
+                histogram.getTotalCount() / seconds);
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga HTTP para POST /mutant y GET /stats.
+ *
+ * Ejecutar contra una instancia local ya levantada (./gradlew bootRun):
+ *   ./gradlew loadTest -Pload.rate=500 -Pload.duration=60s
+ *
+ * Modelo abierto (tasa de llegada constante): el request i tiene un
+ * instante programado start + i / rate, independiente de cuándo terminan
+ * los anteriores. La latencia se mide desde ese instante programado y no
+ * desde el envío real, así que si el servidor (o el cliente) se atrasa, la
+ * espera cuenta como latencia: sin coordinated omission.
+ *
+ * Cada request corre en un hilo virtual creado un poco antes de su instante
+ * programado (LEAD): arma el body, espera su turno y envía. La concurrencia
+ * no está limitada por un pool, como ocurre con clientes reales.
+ */
+public final class LoadTest {
+
+    /** Anticipación con la que se arma cada request antes de su instante programado. */
+    private static final long LEAD_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final LoadTestConfig config;
+    private final DnaBodyGenerator generator;
+    private final HttpClient client;
+    private final URI mutantUri;
+    private final URI statsUri;
+
+    LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.generator = new DnaBodyGenerator(config);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.mutantUri = config.baseUrl().resolve("/mutant");
+        this.statsUri = config.baseUrl().resolve("/stats");
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.printf("Load test against %s: %d req/s, warmup %s, duration %s, sizes %s%n",
+                config.baseUrl(), config.rate(), config.warmup(), config.duration(), config.sizes());
+        System.out.printf("mutant ratio %.2f, repeat ratio %.2f, /stats share %.2f%n",
+                config.mutantRatio(), config.repeatRatio(), config.statsShare());
+
+        new LoadTest(config).run();
+    }
+
+    void run() throws InterruptedException {
+        generator.fillRepeatPools();
+        primeRepeatPools();
+
+        LatencyReport warmup = new LatencyReport();
+        drive(config.warmup(), warmup);
+
+        LatencyReport report = new LatencyReport();
+        long elapsed = drive(config.duration(), report);
+        report.print(System.out, elapsed, config.rate());
+    }
+
+    /**
+     * Envía una vez cada ADN de los pools de repetidos para que el servidor
+     * ya los tenga persistidos: durante la medición son aciertos de caché.
+     */
+    private void primeRepeatPools() throws InterruptedException {
+        for (String body : generator.repeatBodies()) {
+            HttpRequest request = HttpRequest.newBuilder(mutantUri)
+                    .timeout(config.timeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot reach " + config.baseUrl() + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Programa requests a tasa constante durante la fase y espera que terminen.
+     *
+     * @return Duración real de la fase en nanosegundos (hasta la última respuesta)
+     */
+    private long drive(Duration phase, LatencyReport report) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long total = phase.toNanos() / intervalNanos;
+        long start = System.nanoTime() + LEAD_NANOS;
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * intervalNanos;
+                parkUntil(intended - LEAD_NANOS);
+                requests.execute(() -> send(intended, report));
+            }
+        } // close() espera a que terminen los requests en vuelo
+        return System.nanoTime() - start;
+    }
+
+    private void send(long intended, LatencyReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String endpoint;
+        HttpRequest request;
+
+        if (random.nextDouble() < config.statsShare()) {
+            endpoint = "GET /stats";
+            request = HttpRequest.newBuilder(statsUri).timeout(config.timeout()).GET().build();
+        } else {
+            int n = generator.nextSize();
+            boolean repeat = random.nextDouble() < config.repeatRatio();
+            endpoint = "POST /mutant N=" + n + (repeat ? " repeat" : " new");
+            request = HttpRequest.newBuilder(mutantUri)
+                    .timeout(config.timeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(generator.body(n, repeat)))
+                    .build();
+        }
+
+        parkUntil(intended);
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            status = LatencyReport.CLIENT_ERROR;
+        }
+        report.record(endpoint, System.nanoTime() - intended, status);
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
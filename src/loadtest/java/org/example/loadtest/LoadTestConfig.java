@@ -0,0 +1,78 @@
+package org.example.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parámetros del generador de carga, leídos de propiedades de sistema load.*
+ * (./gradlew loadTest -Pload.rate=500 ...).
+ *
+ * @param baseUrl URL de la instancia (load.base-url)
+ * @param rate Requests por segundo objetivo, constante (load.rate)
+ * @param warmup Duración del calentamiento, sin registrar latencias (load.warmup)
+ * @param duration Duración de la medición (load.duration)
+ * @param sizes Mezcla de tamaños N → peso relativo (load.sizes, ej. "6:90,100:9,1000:1")
+ * @param mutantRatio Fracción de ADN nuevo que es mutante (load.mutant-ratio)
+ * @param repeatRatio Fracción de POST /mutant con ADN ya enviado: acierto de caché (load.repeat-ratio)
+ * @param statsShare Fracción de requests que son GET /stats (load.stats-share)
+ * @param repeatPoolSize ADN distintos por tamaño disponibles para repetir (load.repeat-pool-size)
+ * @param timeout Timeout por request (load.timeout)
+ */
+record LoadTestConfig(
+        URI baseUrl,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Map<Integer, Integer> sizes,
+        double mutantRatio,
+        double repeatRatio,
+        double statsShare,
+        int repeatPoolSize,
+        Duration timeout) {
+
+    static LoadTestConfig fromSystemProperties() {
+        LoadTestConfig config = new LoadTestConfig(
+                URI.create(property("base-url", "http://localhost:8080")),
+                Integer.parseInt(property("rate", "200")),
+                Duration.parse("PT" + property("warmup", "10s")),
+                Duration.parse("PT" + property("duration", "60s")),
+                parseSizes(property("sizes", "6:90,100:9,1000:1")),
+                Double.parseDouble(property("mutant-ratio", "0.4")),
+                Double.parseDouble(property("repeat-ratio", "0.5")),
+                Double.parseDouble(property("stats-share", "0.05")),
+                Integer.parseInt(property("repeat-pool-size", "1000")),
+                Duration.parse("PT" + property("timeout", "30s")));
+        config.validate();
+        return config;
+    }
+
+    private void validate() {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("load.rate must be positive");
+        }
+        if (sizes.isEmpty() || sizes.keySet().stream().anyMatch(n -> n < 4)) {
+            throw new IllegalArgumentException("load.sizes needs at least one size N >= 4");
+        }
+        for (double ratio : new double[]{mutantRatio, repeatRatio, statsShare}) {
+            if (ratio < 0 || ratio > 1) {
+                throw new IllegalArgumentException("Ratios must be between 0 and 1");
+            }
+        }
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("load." + name, defaultValue);
+    }
+
+    private static Map<Integer, Integer> parseSizes(String value) {
+        Map<Integer, Integer> sizes = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            sizes.put(Integer.parseInt(parts[0].trim()), weight);
+        }
+        return sizes;
+    }
+}
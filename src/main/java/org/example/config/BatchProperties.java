@@ -0,0 +1,35 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de los endpoints POST /mutant/batch y /mutant/ndjson (prefijo mutant.batch).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.batch")
+public class BatchProperties {
+
+    /**
+     * Cantidad máxima de ADN por request.
+     */
+    private int maxItems = 10_000;
+
+    /**
+     * Hilos del executor de detección (0 = procesadores disponibles).
+     */
+    private int parallelism = 0;
+
+    /**
+     * Líneas de /mutant/ndjson que se analizan juntas como un batch.
+     * Acota la memoria: nunca hay más de este número de ADN en proceso.
+     */
+    private int ndjsonChunkSize = 256;
+
+    /**
+     * Largo máximo en caracteres de una línea de /mutant/ndjson (1M alcanza
+     * para una matriz de 1000x1000). Una línea más larga se descarta sin
+     * guardarla y se responde con un error en su índice.
+     */
+    private int ndjsonMaxLineLength = 1_048_576;
+}
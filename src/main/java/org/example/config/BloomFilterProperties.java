@@ -0,0 +1,27 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del Bloom filter de hashes persistidos (prefijo mutant.bloom).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.bloom")
+public class BloomFilterProperties {
+
+    /**
+     * Habilita el filtro: ADN nunca visto se analiza sin consultar la BD.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Capacidad de la primera etapa; el filtro crece solo al superarla.
+     */
+    private long initialCapacity = 1_000_000;
+
+    /**
+     * Tasa de falsos positivos objetivo (consultas a la BD que no encuentran el hash).
+     */
+    private double falsePositiveRate = 0.01;
+}
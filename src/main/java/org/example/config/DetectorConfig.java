@@ -0,0 +1,100 @@
+package org.example.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.service.engine.BitboardDetectionEngine;
+import org.example.service.engine.DetectionEngine;
+import org.example.service.engine.DetectionRule;
+import org.example.service.engine.FusedDetectionEngine;
+import org.example.service.engine.ParallelDetectionEngine;
+import org.example.service.engine.RunLengthDetectionEngine;
+import org.example.service.engine.ScalarDetectionEngine;
+import org.example.service.engine.VectorDetectionEngine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del motor de detección usado por MutantDetector.
+ *
+ * Motores disponibles (mutant.detector.engine):
+ * - fused: validación y detección en una sola pasada por fila (por defecto)
+ * - scalar: recorrido celda por celda original
+ * - runlength: un barrido por dirección con arreglos de corridas por línea
+ * - bitboard: máscaras de bits por base con desplazamientos y AND
+ * - vector: SIMD con la JDK Vector API (cae a scalar si el módulo no está habilitado)
+ *
+ * Con mutant.detector.parallel.enabled=true el motor elegido se envuelve en
+ * un ParallelDetectionEngine que lo usa por debajo del umbral de tamaño.
+ *
+ * La regla (mutant.detector.sequence-length = K, min-sequences = T) aplica a
+ * todos los motores. bitboard, vector y el modo paralelo están armados para
+ * K = 4: con otro K se usa fused, cuyo costo no depende de K.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DetectorProperties.class)
+public class DetectorConfig {
+
+    /**
+     * Crea el motor de detección según la configuración.
+     * Si es paralelo, Spring cierra su pool al apagar el contexto (close()).
+     *
+     * @param properties Propiedades mutant.detector
+     * @return Motor de detección configurado
+     */
+    @Bean
+    public DetectionEngine detectionEngine(DetectorProperties properties) {
+        DetectionRule rule = new DetectionRule(properties.getSequenceLength(), properties.getMinSequences());
+        DetectionEngine engine = createEngine(properties.getEngine(), rule);
+
+        DetectorProperties.Parallel parallel = properties.getParallel();
+        if (!parallel.isEnabled()) {
+            return engine;
+        }
+        if (rule.sequenceLength() != DetectionRule.DEFAULT.sequenceLength()) {
+            log.warn("Parallel detection only supports sequence length {}, using sequential engine",
+                    DetectionRule.DEFAULT.sequenceLength());
+            return engine;
+        }
+
+        return new ParallelDetectionEngine(parallel.getParallelism(), parallel.getThreshold(), engine);
+    }
+
+    /**
+     * Crea el motor de detección a partir de su nombre.
+     *
+     * @throws IllegalArgumentException si el nombre no corresponde a ningún motor
+     */
+    private DetectionEngine createEngine(String engineName, DetectionRule rule) {
+        String name = engineName.trim().toLowerCase();
+        if ((name.equals("bitboard") || name.equals("vector"))
+                && rule.sequenceLength() != DetectionRule.DEFAULT.sequenceLength()) {
+            log.warn("Engine {} only supports sequence length {}, falling back to fused engine",
+                    name, DetectionRule.DEFAULT.sequenceLength());
+            return new FusedDetectionEngine(rule);
+        }
+
+        return switch (name) {
+            case "fused" -> new FusedDetectionEngine(rule);
+            case "scalar" -> new ScalarDetectionEngine(rule);
+            case "runlength" -> new RunLengthDetectionEngine(rule);
+            case "bitboard" -> new BitboardDetectionEngine(rule);
+            case "vector" -> createVectorEngine(rule);
+            default -> throw new IllegalArgumentException(
+                    "Unknown mutant.detector.engine: " + engineName);
+        };
+    }
+
+    /**
+     * Crea el motor SIMD solo si jdk.incubator.vector fue habilitado con
+     * --add-modules; de lo contrario la clase no puede cargarse y se usa el escalar.
+     */
+    private DetectionEngine createVectorEngine(DetectionRule rule) {
+        if (ModuleLayer.boot().findModule(VectorDetectionEngine.VECTOR_MODULE).isEmpty()) {
+            log.warn("Module {} not enabled (--add-modules), falling back to scalar engine",
+                    VectorDetectionEngine.VECTOR_MODULE);
+            return new ScalarDetectionEngine(rule);
+        }
+        return new VectorDetectionEngine(rule);
+    }
+}
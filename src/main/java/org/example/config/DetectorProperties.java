@@ -0,0 +1,53 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración del detector de mutantes (prefijo mutant.detector).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.detector")
+public class DetectorProperties {
+
+    /**
+     * Motor de detección secuencial: fused, scalar, runlength, bitboard o vector.
+     */
+    private String engine = "fused";
+
+    /**
+     * Letras iguales consecutivas que forman una secuencia (K). También es
+     * el tamaño mínimo N de la matriz. Con K distinto de 4 se usa el motor fused.
+     */
+    private int sequenceLength = 4;
+
+    /**
+     * Secuencias necesarias para ser mutante (T): "al menos T". El valor
+     * por defecto 2 equivale a la regla original "más de una secuencia".
+     */
+    private int minSequences = 2;
+
+    /**
+     * Configuración del modo paralelo fork/join.
+     */
+    private Parallel parallel = new Parallel();
+
+    @Data
+    public static class Parallel {
+
+        /**
+         * Habilita el modo paralelo para matrices grandes.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Tamaño N mínimo a partir del cual se usa el modo paralelo.
+         */
+        private int threshold = 1000;
+
+        /**
+         * Cantidad de hilos del pool fork/join (0 = procesadores disponibles).
+         */
+        private int parallelism = 0;
+    }
+}
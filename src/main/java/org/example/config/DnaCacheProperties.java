@@ -0,0 +1,33 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propiedades de la caché en memoria hash → veredicto (prefijo mutant.cache).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.cache")
+public class DnaCacheProperties {
+
+    /**
+     * Habilita la caché delante de DnaVerdictStore.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Presupuesto de memoria de la caché (estimado por entrada).
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Precarga al iniciar los registros más recientes de dna_records.
+     */
+    private boolean warmLoad = false;
+
+    /**
+     * Cantidad máxima de registros a precargar.
+     */
+    private int warmLoadLimit = 100_000;
+}
@@ -0,0 +1,41 @@
+package org.example.config;
+
+import org.example.service.fingerprint.DnaFingerprinter;
+import org.example.service.fingerprint.Murmur3Fingerprinter;
+import org.example.service.fingerprint.Sha256Fingerprinter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la huella de ADN usada por MutantService.
+ *
+ * Algoritmos disponibles (mutant.fingerprint.algorithm):
+ * - murmur3: MurmurHash3 x64 128 bits, no criptográfico (por defecto)
+ * - sha256: SHA-256 truncado a 128 bits
+ *
+ * Cambiar el algoritmo con una BD persistente invalida los hashes guardados:
+ * el mismo ADN se vuelve a analizar y se guarda con la huella nueva.
+ */
+@Configuration
+@EnableConfigurationProperties(FingerprintProperties.class)
+public class FingerprintConfig {
+
+    /**
+     * Crea la estrategia de huella según la configuración.
+     *
+     * @param properties Propiedades mutant.fingerprint
+     * @return Estrategia de huella configurada
+     * @throws IllegalArgumentException si el nombre no corresponde a ningún algoritmo
+     */
+    @Bean
+    public DnaFingerprinter dnaFingerprinter(FingerprintProperties properties) {
+        String algorithm = properties.getAlgorithm();
+        return switch (algorithm.trim().toLowerCase()) {
+            case "murmur3" -> new Murmur3Fingerprinter();
+            case "sha256" -> new Sha256Fingerprinter();
+            default -> throw new IllegalArgumentException(
+                    "Unknown mutant.fingerprint.algorithm: " + algorithm);
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de la huella de ADN usada para deduplicar (prefijo mutant.fingerprint).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.fingerprint")
+public class FingerprintProperties {
+
+    /**
+     * Algoritmo de la huella de 128 bits: murmur3 o sha256.
+     */
+    private String algorithm = "murmur3";
+}
@@ -0,0 +1,21 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades del single-flight de MutantService (prefijo mutant.single-flight).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.single-flight")
+public class SingleFlightProperties {
+
+    /**
+     * Espera máxima de un request por el análisis en curso del mismo ADN.
+     * Vencida, el request falla en lugar de quedar colgado detrás de un
+     * análisis bloqueado (por ejemplo, en JDBC).
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+}
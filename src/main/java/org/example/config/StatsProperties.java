@@ -0,0 +1,46 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de las estadísticas de verificaciones (prefijo mutant.stats).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.stats")
+public class StatsProperties {
+
+    /**
+     * Modo estricto: GET /stats recuenta la tabla con COUNT en cada llamada
+     * (auditoría) en lugar de leer los contadores en memoria.
+     */
+    private boolean strict = false;
+
+    /**
+     * Configuración de los buckets por minuto, hora y día de GET /stats?from=&to=.
+     */
+    private Rollup rollup = new Rollup();
+
+    @Data
+    public static class Rollup {
+
+        /**
+         * Cada cuánto se vuelcan a dna_stats_buckets los conteos acumulados en memoria.
+         */
+        private Duration flushInterval = Duration.ofSeconds(5);
+
+        /**
+         * Antigüedad máxima de los buckets por minuto; los rangos más viejos
+         * se responden con buckets por hora.
+         */
+        private Duration minuteRetention = Duration.ofDays(2);
+
+        /**
+         * Antigüedad máxima de los buckets por hora; los rangos más viejos
+         * se responden con buckets por día (que no expiran).
+         */
+        private Duration hourRetention = Duration.ofDays(90);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.config;
+
+import org.example.repository.DnaRecordRepository;
+import org.example.repository.DnaVerdictStore;
+import org.example.repository.JpaDnaVerdictStore;
+import org.example.repository.mapped.MappedDnaVerdictStore;
+import org.example.repository.sharded.ShardedDnaVerdictStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Configuración del índice huella → veredicto usado por los servicios.
+ *
+ * Implementaciones disponibles (mutant.store.type):
+ * - jpa: tabla dna_records en H2 (por defecto)
+ * - mapped: tabla hash off-heap en un archivo mapeado en memoria con log
+ *   append-only (mutant.store.mapped.*)
+ * - sharded: dna_records repartida por prefijo de huella entre N
+ *   datasources, cada uno con su pool (mutant.store.sharded.shards[i].*)
+ *
+ * Cambiar de implementación no migra los datos: cada una ve solo lo que
+ * insertó. El modo reactivo solo admite jpa (ver ReactiveConfig).
+ */
+@Configuration
+@EnableConfigurationProperties(StoreProperties.class)
+public class StoreConfig {
+
+    /**
+     * Crea el índice según la configuración. El mapeado y el repartido son
+     * AutoCloseable: Spring los cierra (checkpoint de la tabla, pools de los
+     * shards) al destruir el contexto.
+     *
+     * @param properties Propiedades mutant.store
+     * @return Índice configurado
+     * @throws IllegalArgumentException si el nombre no corresponde a ninguna implementación
+     * @throws IOException si no se puede abrir el índice mapeado
+     */
+    @Bean
+    public DnaVerdictStore dnaVerdictStore(StoreProperties properties,
+                                           DnaRecordRepository repository,
+                                           JdbcTemplate jdbcTemplate,
+                                           PlatformTransactionManager transactionManager,
+                                           ThreadFactory ioThreadFactory) throws IOException {
+        String type = properties.getType();
+        return switch (type.trim().toLowerCase()) {
+            case "jpa" -> new JpaDnaVerdictStore(repository, jdbcTemplate, transactionManager);
+            case "mapped" -> MappedDnaVerdictStore.open(properties.getMapped(), ioThreadFactory);
+            case "sharded" -> ShardedDnaVerdictStore.open(properties.getSharded(), ioThreadFactory);
+            default -> throw new IllegalArgumentException("Unknown mutant.store.type: " + type);
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propiedades del índice huella → veredicto (prefijo mutant.store).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.store")
+public class StoreProperties {
+
+    /**
+     * Implementación: jpa (tabla dna_records), mapped (archivo mapeado en
+     * memoria) o sharded (dna_records repartida entre varios datasources).
+     */
+    private String type = "jpa";
+
+    /**
+     * Configuración del índice mapeado en memoria.
+     */
+    private Mapped mapped = new Mapped();
+
+    /**
+     * Configuración del índice repartido en shards.
+     */
+    private Sharded sharded = new Sharded();
+
+    @Data
+    public static class Mapped {
+
+        /**
+         * Directorio de la tabla (verdicts.tbl) y del log (verdicts.log).
+         */
+        private String directory = "data/verdicts";
+
+        /**
+         * Cantidad inicial de slots de la tabla (se redondea a potencia de 2);
+         * se duplica al superar el 75% de ocupación.
+         */
+        private int initialCapacity = 1 << 20;
+
+        /**
+         * Hace fsync del log en cada group commit; false deja la escritura
+         * al sistema operativo (se pierden los últimos inserts si se cae la máquina).
+         */
+        private boolean sync = true;
+    }
+
+    @Data
+    public static class Sharded {
+
+        /**
+         * Un datasource por shard. Cada huella pertenece al shard de su
+         * prefijo: cambiar la cantidad de shards requiere redistribuir los datos.
+         */
+        private List<Shard> shards = new ArrayList<>();
+    }
+
+    @Data
+    public static class Shard {
+
+        /**
+         * URL JDBC del shard (por ejemplo jdbc:h2:file:./data/shards/shard-0).
+         */
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+
+        /**
+         * Conexiones del pool propio del shard.
+         */
+        private int maximumPoolSize = 10;
+    }
+}
@@ -37,7 +37,7 @@ public class SwaggerConfig {
                                         "**Funcionalidades:**\n" +
                                         "- Detección de mutantes (POST /mutant)\n" +
                                         "- Estadísticas de verificaciones (GET /stats)\n" +
-                                        "- Persistencia con deduplicación por hash SHA-256\n\n" +
+                                        "- Persistencia con deduplicación por huella de 128 bits (Murmur3 o SHA-256)\n\n" +
                                         "**Criterio de mutante:**\n" +
                                         "Un ADN es mutante si contiene MÁS DE UNA secuencia de 4 letras iguales " +
                                         "en dirección horizontal, vertical o diagonal."
@@ -0,0 +1,43 @@
+package org.example.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Configuración de hilos para el modo de hilos virtuales.
+ *
+ * Con spring.threads.virtual.enabled=true (Java 21) Spring Boot atiende los
+ * requests de Tomcat en hilos virtuales; esta configuración extiende el
+ * modo al trabajo de I/O propio (escritor write-behind). Un hilo virtual
+ * bloqueado en JDBC libera su carrier, por lo que la concurrencia deja de
+ * estar limitada por el pool de Tomcat y pasa a estarlo por el pool de
+ * conexiones (spring.datasource.hikari.maximum-pool-size).
+ *
+ * El trabajo CPU-bound (detección en MutantBatchService y en el motor
+ * paralelo) sigue en pools de hilos de plataforma acotados: los hilos
+ * virtuales no agregan CPU.
+ */
+@Slf4j
+@Configuration
+public class ThreadingConfig {
+
+    /**
+     * Fábrica de hilos para tareas que bloquean en I/O.
+     *
+     * @param environment Entorno de Spring (spring.threads.virtual.enabled)
+     * @return Hilos virtuales si el modo está activo; de plataforma daemon si no
+     */
+    @Bean
+    public ThreadFactory ioThreadFactory(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Virtual threads enabled for request handling and DNA persistence");
+            return Thread.ofVirtual().name("dna-io-", 0).factory();
+        }
+        return Thread.ofPlatform().name("dna-io-", 0).daemon().factory();
+    }
+}
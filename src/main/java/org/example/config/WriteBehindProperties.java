@@ -0,0 +1,52 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Propiedades de la persistencia write-behind de resultados (prefijo mutant.write-behind).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * Habilita la cola write-behind; deshabilitada, cada resultado se guarda
+     * de forma sincrónica dentro del request.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Capacidad de la cola; al llenarse los requests esperan (backpressure).
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Espera máxima de un request con la cola llena; después guarda su
+     * resultado de forma sincrónica, en un solo intento.
+     */
+    private Duration enqueueTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Cantidad máxima de registros por batch JDBC.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Tiempo máximo que un registro espera en la cola antes de un flush.
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * Reintentos del hilo escritor para un batch fallido antes de
+     * descartarlo (dna.write_behind.dropped).
+     */
+    private int maxRetries = 3;
+
+    /**
+     * Espera antes del primer reintento; se duplica en cada uno.
+     */
+    private Duration retryBackoff = Duration.ofMillis(100);
+}
@@ -1,41 +1,72 @@
 package org.example.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.AnalysisResult;
+import org.example.dto.BatchItemResult;
+import org.example.dto.BloomFilterStatsResponse;
+import org.example.dto.CacheStatsResponse;
+import org.example.dto.DnaBatchRequest;
+import org.example.dto.DnaBatchResponse;
 import org.example.dto.DnaRequest;
 import org.example.dto.ErrorResponse;
 import org.example.dto.StatsResponse;
+import org.example.service.DnaHashFilter;
+import org.example.service.DnaResultCache;
+import org.example.service.MutantBatchService;
 import org.example.service.MutantService;
+import org.example.service.NdjsonIngestService;
 import org.example.service.StatsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.Instant;
+
 /**
  * Controlador REST para endpoints de detección de mutantes.
  *
  * Endpoints:
  * - POST /mutant: Verifica si un ADN es mutante
- * - GET /stats: Obtiene estadísticas de verificaciones
+ * - POST /mutant/stream: Igual que /mutant, leyendo el body fila por fila
+ * - POST /mutant/batch: Verifica varios ADN en un solo request
+ * - POST /mutant/ndjson: Ingesta masiva NDJSON con resultados en streaming
+ * - GET /stats: Obtiene estadísticas de verificaciones (total o por rango from/to)
+ * - GET /stats/cache: Obtiene estadísticas de la caché de veredictos
+ * - GET /stats/filter: Obtiene estadísticas del Bloom filter de hashes
  *
  * Documentado con Swagger/OpenAPI para pruebas interactivas.
+ * En el modo reactivo (perfil "reactive") lo reemplaza ReactiveMutantController.
  */
 @RestController
 @RequiredArgsConstructor
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "Mutant Detector", description = "API para detección de mutantes mediante análisis de ADN")
 public class MutantController {
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final MutantService mutantService;
+    private final MutantBatchService mutantBatchService;
+    private final NdjsonIngestService ndjsonIngestService;
     private final StatsService statsService;
+    private final DnaResultCache resultCache;
+    private final DnaHashFilter hashFilter;
 
     /**
      * POST /mutant
@@ -96,10 +127,158 @@ public class MutantController {
         }
     }
 
+    /**
+     * POST /mutant/stream
+     *
+     * Mismo contrato que POST /mutant, pero el body se lee fila por fila
+     * sin construir el String[] completo (memoria O(N) en lugar de O(N²)).
+     * Pensado para matrices grandes.
+     *
+     * @param request Request HTTP cuyo body es {"dna": [...]}
+     * @return ResponseEntity con AnalysisResult
+     * @throws IOException si falla la lectura del body
+     */
+    @PostMapping(value = "/mutant/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Verificar si un ADN es mutante (lectura fila por fila)",
+            description = "Igual que POST /mutant, pero valida, analiza y calcula el hash de cada fila " +
+                    "a medida que se lee el body. Recomendado para matrices grandes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "El ADN corresponde a un mutante",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AnalysisResult.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "El ADN corresponde a un humano (no mutante)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AnalysisResult.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Secuencia de ADN inválida",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = DnaRequest.class)
+            )
+    )
+    public ResponseEntity<AnalysisResult> checkMutantStream(HttpServletRequest request) throws IOException {
+        if (mutantService.analyzeDnaStream(request.getInputStream())) {
+            return ResponseEntity.ok(new AnalysisResult("mutant"));
+        } else {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new AnalysisResult("human"));
+        }
+    }
+
+    /**
+     * POST /mutant/batch
+     *
+     * Verifica varias secuencias de ADN en un solo request.
+     *
+     * Request body:
+     * {
+     *   "dna_list": [["ATGCGA", ...], ["ATGCGA", ...]]
+     * }
+     *
+     * Respuesta (siempre 200 si el batch es procesable):
+     * {
+     *   "results": [{"index": 0, "result": "mutant"}, {"index": 1, "error": "..."}]
+     * }
+     *
+     * @param request DnaBatchRequest con las secuencias de ADN
+     * @return ResponseEntity con un resultado por elemento
+     */
+    @PostMapping("/mutant/batch")
+    @Operation(
+            summary = "Verificar varios ADN en un solo request",
+            description = "Recibe una lista de secuencias de ADN y retorna un resultado por elemento, " +
+                    "en el mismo orden: mutant/human o el motivo por el que el ADN es inválido. " +
+                    "Los ADN repetidos se analizan y se guardan una sola vez."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch procesado (cada elemento trae su resultado o error)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DnaBatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lista vacía o con más elementos que el máximo permitido",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<DnaBatchResponse> checkMutantBatch(@Valid @RequestBody DnaBatchRequest request) {
+        return ResponseEntity.ok(new DnaBatchResponse(mutantBatchService.analyzeBatch(request.getDnaList())));
+    }
+
+    /**
+     * POST /mutant/ndjson
+     *
+     * Ingesta masiva: el body tiene un {"dna": [...]} por línea y la
+     * respuesta un resultado por línea, en el mismo orden, escritos
+     * mientras se sigue leyendo el body.
+     *
+     * Request body:
+     * {"dna": ["ATGCGA", ...]}
+     * {"dna": ["ATGCGA", ...]}
+     *
+     * Respuesta (200, application/x-ndjson):
+     * {"index":0,"result":"mutant"}
+     * {"index":1,"error":"..."}
+     *
+     * @param request Request HTTP con el body NDJSON
+     * @param response Response HTTP donde se escriben los resultados
+     * @throws IOException si falla la lectura o la escritura
+     */
+    @PostMapping(value = "/mutant/ndjson", consumes = APPLICATION_NDJSON, produces = APPLICATION_NDJSON)
+    @Operation(
+            summary = "Verificar ADN en masa (NDJSON en streaming)",
+            description = "Recibe un ADN por línea ({\"dna\": [...]}) y responde un resultado por línea " +
+                    "a medida que los procesa, en bloques con memoria acotada. Si el procesamiento " +
+                    "se atrasa, el body deja de leerse y el cliente es frenado por TCP."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultados en NDJSON (cada línea trae su resultado o error)",
+                    content = @Content(
+                            mediaType = APPLICATION_NDJSON,
+                            schema = @Schema(implementation = BatchItemResult.class)
+                    )
+            )
+    })
+    public void checkMutantNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(APPLICATION_NDJSON);
+        ndjsonIngestService.analyze(request.getInputStream(), response.getOutputStream());
+    }
+
     /**
      * GET /stats
      *
-     * Obtiene estadísticas de todas las verificaciones de ADN realizadas.
+     * Obtiene estadísticas de todas las verificaciones de ADN realizadas,
+     * o de las insertadas en [from, to) si se indica alguno de los límites
+     * (ISO-8601, por ejemplo 2025-01-07T15:00:00Z; redondeados al minuto).
      *
      * Respuesta:
      * {
@@ -108,13 +287,16 @@ public class MutantController {
      *   "ratio": 0.4
      * }
      *
+     * @param from Inicio del rango (inclusive), opcional
+     * @param to Fin del rango (exclusivo), opcional; por defecto ahora
      * @return StatsResponse con las estadísticas
      */
     @GetMapping("/stats")
     @Operation(
             summary = "Obtener estadísticas de verificaciones",
             description = "Retorna estadísticas de todas las verificaciones de ADN: " +
-                    "cantidad de mutantes, cantidad de humanos y el ratio entre ambos."
+                    "cantidad de mutantes, cantidad de humanos y el ratio entre ambos. " +
+                    "Con from/to, solo las insertadas en ese rango."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -124,10 +306,78 @@ public class MutantController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = StatsResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Rango inválido (from posterior a to o fecha mal formada)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
-    public ResponseEntity<StatsResponse> getStats() {
-        StatsResponse stats = statsService.getStats();
+    public ResponseEntity<StatsResponse> getStats(
+            @Parameter(description = "Inicio del rango (ISO-8601), inclusive", example = "2025-01-07T15:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "Fin del rango (ISO-8601), exclusivo", example = "2025-01-07T16:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        StatsResponse stats = statsService.getStats(from, to);
         return ResponseEntity.ok(stats);
     }
-}
\ No newline at end of file
+
+    /**
+     * GET /stats/cache
+     *
+     * Obtiene hits, misses y desalojos de la caché en memoria hash → veredicto,
+     * para dimensionarla según la distribución real de claves.
+     *
+     * @return CacheStatsResponse con los contadores de la caché
+     */
+    @GetMapping("/stats/cache")
+    @Operation(
+            summary = "Obtener estadísticas de la caché de veredictos",
+            description = "Retorna hits, misses, hit rate, desalojos y tamaño estimado de la caché " +
+                    "en memoria que evita consultar la BD para ADN repetido."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estadísticas de la caché obtenidas exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CacheStatsResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(resultCache.getStats());
+    }
+
+    /**
+     * GET /stats/filter
+     *
+     * Obtiene la tasa de falsos positivos configurada, esperada y observada
+     * del Bloom filter que evita la query findByDnaHash para ADN nuevo.
+     *
+     * @return BloomFilterStatsResponse con los contadores del filtro
+     */
+    @GetMapping("/stats/filter")
+    @Operation(
+            summary = "Obtener estadísticas del Bloom filter de hashes",
+            description = "Retorna el tamaño del filtro y su tasa de falsos positivos configurada, " +
+                    "esperada según la carga actual y observada en las consultas a la BD."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Estadísticas del filtro obtenidas exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BloomFilterStatsResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BloomFilterStatsResponse> getFilterStats() {
+        return ResponseEntity.ok(hashFilter.getStats());
+    }
+}
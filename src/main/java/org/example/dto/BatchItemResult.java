@@ -0,0 +1,48 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de un elemento de POST /mutant/batch: veredicto o error de validación.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado del análisis de un ADN del batch")
+public class BatchItemResult {
+
+    @Schema(description = "Posición del ADN en el request", example = "0")
+    @JsonProperty("index")
+    private int index;
+
+    @Schema(description = "El resultado del análisis (ausente si el ADN es inválido)", example = "mutant")
+    @JsonProperty("result")
+    private String result;
+
+    @Schema(description = "Motivo del rechazo (ausente si el ADN es válido)",
+            example = "Invalid DNA sequence: only A, T, C, G characters are allowed")
+    @JsonProperty("error")
+    private String error;
+
+    /**
+     * @param index Posición del ADN en el request
+     * @param isMutant Veredicto
+     */
+    public static BatchItemResult of(int index, boolean isMutant) {
+        return new BatchItemResult(index, isMutant ? "mutant" : "human", null);
+    }
+
+    /**
+     * @param index Posición del ADN en el request
+     * @param error Motivo del rechazo
+     */
+    public static BatchItemResult invalid(int index, String error) {
+        return new BatchItemResult(index, null, error);
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para la respuesta del endpoint GET /stats/filter.
+ * Reporta la tasa de falsos positivos del Bloom filter de hashes persistidos.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estadísticas del Bloom filter de hashes persistidos")
+public class BloomFilterStatsResponse {
+
+    @Schema(description = "Indica si el filtro está habilitado", example = "true")
+    @JsonProperty("enabled")
+    private boolean enabled;
+
+    @Schema(description = "Indica si el filtro terminó de reconstruirse desde la BD", example = "true")
+    @JsonProperty("ready")
+    private boolean ready;
+
+    @Schema(description = "Cantidad de hashes agregados", example = "1000")
+    @JsonProperty("size")
+    private long size;
+
+    @Schema(description = "Cantidad de etapas del filtro escalable", example = "1")
+    @JsonProperty("stages")
+    private int stages;
+
+    @Schema(description = "Bytes ocupados por los bits del filtro", example = "1198080")
+    @JsonProperty("bit_size_bytes")
+    private long bitSizeBytes;
+
+    @Schema(description = "Tasa de falsos positivos configurada", example = "0.01")
+    @JsonProperty("target_fpp")
+    private double targetFpp;
+
+    @Schema(description = "Tasa de falsos positivos esperada con la carga actual", example = "0.0001")
+    @JsonProperty("expected_fpp")
+    private double expectedFpp;
+
+    @Schema(description = "Tasa de falsos positivos observada sobre hashes ausentes", example = "0.0")
+    @JsonProperty("observed_fpp")
+    private double observedFpp;
+
+    @Schema(description = "Lookups que evitaron la BD (definitivamente ausente)", example = "900")
+    @JsonProperty("definitely_absent")
+    private long definitelyAbsent;
+
+    @Schema(description = "Lookups que consultaron la BD (puede estar)", example = "100")
+    @JsonProperty("might_be_present")
+    private long mightBePresent;
+
+    @Schema(description = "Consultas a la BD que no encontraron el hash", example = "1")
+    @JsonProperty("false_positives")
+    private long falsePositives;
+}
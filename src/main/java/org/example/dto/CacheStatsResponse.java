@@ -0,0 +1,46 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para la respuesta del endpoint GET /stats/cache.
+ * Permite dimensionar la caché de veredictos según la distribución real de claves.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estadísticas de la caché en memoria hash → veredicto")
+public class CacheStatsResponse {
+
+    @Schema(description = "Indica si la caché está habilitada", example = "true")
+    @JsonProperty("enabled")
+    private boolean enabled;
+
+    @Schema(description = "Cantidad de lookups resueltos por la caché", example = "950")
+    @JsonProperty("hit_count")
+    private long hitCount;
+
+    @Schema(description = "Cantidad de lookups que fueron a la BD", example = "50")
+    @JsonProperty("miss_count")
+    private long missCount;
+
+    @Schema(description = "Proporción de hits sobre el total de lookups", example = "0.95")
+    @JsonProperty("hit_rate")
+    private double hitRate;
+
+    @Schema(description = "Cantidad de entradas desalojadas por el presupuesto de memoria", example = "0")
+    @JsonProperty("eviction_count")
+    private long evictionCount;
+
+    @Schema(description = "Cantidad estimada de entradas en caché", example = "1000")
+    @JsonProperty("size")
+    private long size;
+
+    @Schema(description = "Bytes estimados ocupados por las entradas", example = "168000")
+    @JsonProperty("weighted_bytes")
+    private long weightedBytes;
+}
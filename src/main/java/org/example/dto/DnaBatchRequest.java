@@ -0,0 +1,35 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para recibir varias secuencias de ADN en el request POST /mutant/batch.
+ *
+ * Cada elemento se valida por separado en MutantBatchService: un ADN
+ * inválido produce un error en su posición sin rechazar el batch completo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para verificar varias secuencias de ADN")
+public class DnaBatchRequest {
+
+    @Schema(
+            description = "Secuencias de ADN, cada una como matriz NxN de strings.",
+            example = "[[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]," +
+                    "[\"ATGCGA\",\"CAGTGC\",\"TTATTT\",\"AGACGG\",\"GCGTCA\",\"TCACTG\"]]",
+            required = true
+    )
+    @JsonProperty("dna_list")
+    @NotNull(message = "La lista de ADN no puede ser null")
+    @NotEmpty(message = "La lista de ADN no puede estar vacía")
+    private List<String[]> dnaList;
+}
@@ -0,0 +1,24 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para la respuesta del endpoint POST /mutant/batch.
+ * Un resultado por elemento del request, en el mismo orden.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultados del análisis de un batch de ADN")
+public class DnaBatchResponse {
+
+    @Schema(description = "Resultado por elemento, en el orden del request")
+    @JsonProperty("results")
+    private List<BatchItemResult> results;
+}
@@ -6,11 +6,13 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.example.validation.ValidDnaSequence;
 
 /**
  * DTO para recibir la secuencia de ADN en el request POST /mutant.
- * Incluye validaciones automáticas con Bean Validation.
+ *
+ * Bean Validation solo verifica null/vacío (O(1)). La forma NxN y el
+ * alfabeto se validan en la misma pasada que la detección
+ * (MutantService.analyzeDna), evitando recorrer la matriz dos veces.
  */
 @Data
 @NoArgsConstructor
@@ -26,6 +28,5 @@ public class DnaRequest {
     )
     @NotNull(message = "La secuencia de ADN no puede ser null")
     @NotEmpty(message = "La secuencia de ADN no puede estar vacía")
-    @ValidDnaSequence
     private String[] dna;
 }
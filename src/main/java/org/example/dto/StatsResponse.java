@@ -37,4 +37,28 @@ public class StatsResponse {
     )
     @JsonProperty("ratio")
     private double ratio;
-}
\ No newline at end of file
+
+    /**
+     * Crea la respuesta calculando el ratio de mutantes sobre humanos.
+     *
+     * Fórmula: ratio = count_mutant_dna / count_human_dna
+     *
+     * Casos especiales:
+     * - Si no hay humanos (división por 0): retorna número de mutantes o 0
+     * - Si no hay ninguno: retorna 0.0
+     *
+     * @param countMutant Cantidad de mutantes
+     * @param countHuman Cantidad de humanos
+     * @return StatsResponse con contadores y ratio
+     */
+    public static StatsResponse of(long countMutant, long countHuman) {
+        double ratio;
+        if (countHuman == 0) {
+            // Caso especial: no hay humanos registrados
+            ratio = countMutant > 0 ? (double) countMutant : 0.0;
+        } else {
+            ratio = (double) countMutant / countHuman;
+        }
+        return new StatsResponse(countMutant, countHuman, ratio);
+    }
+}
@@ -1,32 +1,39 @@
 package org.example.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Entidad JPA que representa un registro de ADN analizado.
- * Almacena el hash del ADN, si es mutante y la fecha de creación.
+ * Almacena la huella del ADN, si es mutante y la fecha de creación.
+ *
+ * La huella de 128 bits es la clave primaria natural (UUID: 16 bytes
+ * binarios en H2), sin id IDENTITY ni índice adicional sobre dna_hash:
+ * un solo B-tree con claves de 16 bytes en lugar de dos con VARCHAR(64).
+ * Como el id es asignado, Hibernate puede agrupar los INSERT en batches JDBC.
+ *
+ * Implementa Persistable para que save() haga persist directamente en
+ * lugar de un merge con SELECT previo por tener el id ya asignado.
  */
 @Entity
 @Table(name = "dna_records", indexes = {
-        @Index(name = "idx_dna_hash", columnList = "dna_hash"),
         @Index(name = "idx_is_mutant", columnList = "is_mutant")
 })
 @Getter
 @Setter
 @NoArgsConstructor
-public class DnaRecord {
+public class DnaRecord implements Persistable<UUID> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(name = "dna_hash", unique = true, nullable = false, length = 64)
-    private String dnaHash;
+    @Column(name = "dna_hash", nullable = false)
+    private UUID dnaHash;
 
     @Column(name = "is_mutant", nullable = false)
     private boolean isMutant;
@@ -34,15 +41,39 @@ public class DnaRecord {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newRecord = true;
+
     /**
      * Constructor con parámetros para crear un nuevo registro.
      *
-     * @param dnaHash Hash SHA-256 del ADN
+     * @param dnaHash Huella del ADN (DnaFingerprint.toUuid)
      * @param isMutant true si es mutante, false si es humano
      */
-    public DnaRecord(String dnaHash, boolean isMutant) {
+    public DnaRecord(UUID dnaHash, boolean isMutant) {
         this.dnaHash = dnaHash;
         this.isMutant = isMutant;
         this.createdAt = LocalDateTime.now();
     }
-}
\ No newline at end of file
+
+    @Override
+    public UUID getId() {
+        return dnaHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    /**
+     * Un registro leído o ya insertado deja de ser nuevo.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newRecord = false;
+    }
+}
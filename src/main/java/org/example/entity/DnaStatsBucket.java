@@ -0,0 +1,86 @@
+package org.example.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+
+/**
+ * Entidad JPA de un bucket de estadísticas: mutantes y humanos insertados
+ * en un minuto, una hora o un día (UTC).
+ *
+ * Solo define el esquema de dna_stats_buckets; DnaStatsRollup la lee y la
+ * escribe con JDBC (MERGE que suma al bucket existente).
+ */
+@Entity
+@Table(name = "dna_stats_buckets")
+@Getter
+@Setter
+@NoArgsConstructor
+public class DnaStatsBucket {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "mutant_count", nullable = false)
+    private long mutantCount;
+
+    @Column(name = "human_count", nullable = false)
+    private long humanCount;
+
+    /**
+     * Granularidad del bucket, con su duración en segundos.
+     */
+    public enum Granularity {
+        MINUTE(60),
+        HOUR(3_600),
+        DAY(86_400);
+
+        private final long seconds;
+
+        Granularity(long seconds) {
+            this.seconds = seconds;
+        }
+
+        /**
+         * @return Duración del bucket en segundos
+         */
+        public long getSeconds() {
+            return seconds;
+        }
+
+        /**
+         * @param epochSecond Instante en segundos desde epoch
+         * @return Inicio del bucket que contiene al instante
+         */
+        public long floor(long epochSecond) {
+            return Math.floorDiv(epochSecond, seconds) * seconds;
+        }
+    }
+
+    /**
+     * Clave primaria: granularidad e inicio del bucket en segundos desde epoch.
+     */
+    @Embeddable
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Enumerated(EnumType.STRING)
+        @JdbcTypeCode(SqlTypes.VARCHAR)
+        @Column(name = "granularity", length = 6, nullable = false)
+        private Granularity granularity;
+
+        @Column(name = "bucket_start", nullable = false)
+        private long bucketStart;
+    }
+}
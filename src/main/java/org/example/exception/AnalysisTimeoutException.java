@@ -0,0 +1,27 @@
+package org.example.exception;
+
+/**
+ * Excepción lanzada cuando un request no obtuvo a tiempo el veredicto del
+ * análisis en curso del mismo ADN (single-flight de MutantService).
+ */
+public class AnalysisTimeoutException extends RuntimeException {
+
+    /**
+     * Constructor con mensaje.
+     *
+     * @param message Mensaje descriptivo del error
+     */
+    public AnalysisTimeoutException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor con mensaje y causa.
+     *
+     * @param message Mensaje descriptivo del error
+     * @param cause Causa raíz de la excepción
+     */
+    public AnalysisTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,12 +2,14 @@ package org.example.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.example.dto.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.stream.Collectors;
@@ -15,8 +17,10 @@ import java.util.stream.Collectors;
 /**
  * Manejador global de excepciones para toda la aplicación.
  * Captura excepciones y las transforma en respuestas HTTP estandarizadas.
+ * En el modo reactivo lo reemplaza ReactiveExceptionHandler.
  */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     /**
@@ -51,7 +55,78 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Maneja errores en el cálculo del hash SHA-256.
+     * Maneja ADN inválido detectado fuera de Bean Validation
+     * (por ejemplo, en la lectura fila por fila de /mutant/stream).
+     *
+     * @param ex Excepción de ADN inválido
+     * @param request Request HTTP
+     * @return ResponseEntity con código 400 y detalles del error
+     */
+    @ExceptionHandler(InvalidDnaException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDnaException(
+            InvalidDnaException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Maneja un rango inválido en GET /stats?from=&to=.
+     *
+     * @param ex Excepción de rango inválido
+     * @param request Request HTTP
+     * @return ResponseEntity con código 400 y detalles del error
+     */
+    @ExceptionHandler(InvalidStatsRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidStatsRangeException(
+            InvalidStatsRangeException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Maneja parámetros con formato inválido (por ejemplo, from/to que no
+     * son fechas ISO-8601 en GET /stats).
+     *
+     * @param ex Excepción de conversión del parámetro
+     * @param request Request HTTP
+     * @return ResponseEntity con código 400 y detalles del error
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(
+            MethodArgumentTypeMismatchException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Invalid value for parameter '" + ex.getName() + "'",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Maneja errores en el cálculo de la huella SHA-256.
      *
      * @param ex Excepción de cálculo de hash
      * @param request Request HTTP
@@ -73,6 +148,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    /**
+     * Maneja la espera vencida por el análisis en curso del mismo ADN.
+     *
+     * @param ex Excepción de espera vencida
+     * @param request Request HTTP
+     * @return ResponseEntity con código 503 y detalles del error
+     */
+    @ExceptionHandler(AnalysisTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleAnalysisTimeoutException(
+            AnalysisTimeoutException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * Maneja cualquier excepción no prevista.
      *
@@ -0,0 +1,51 @@
+package org.example.exception;
+
+import org.example.validation.DnaValidationError;
+
+/**
+ * Excepción lanzada cuando una secuencia de ADN no es válida.
+ * La validación ocurre en la misma pasada que la detección
+ * (motor fused o lectura fila por fila), no vía Bean Validation.
+ */
+public class InvalidDnaException extends RuntimeException {
+
+    private final DnaValidationError reason;
+
+    /**
+     * Constructor con el motivo del rechazo.
+     *
+     * @param reason Motivo por el que el ADN es inválido
+     */
+    public InvalidDnaException(DnaValidationError reason) {
+        super(reason.getMessage());
+        this.reason = reason;
+    }
+
+    /**
+     * Constructor solo con mensaje.
+     *
+     * @param message Mensaje descriptivo del error
+     */
+    public InvalidDnaException(String message) {
+        super(message);
+        this.reason = null;
+    }
+
+    /**
+     * Constructor con mensaje y causa.
+     *
+     * @param message Mensaje descriptivo del error
+     * @param cause Causa raíz de la excepción
+     */
+    public InvalidDnaException(String message, Throwable cause) {
+        super(message, cause);
+        this.reason = null;
+    }
+
+    /**
+     * @return Motivo del rechazo, o null si el error no es de contenido (por ejemplo, JSON mal formado)
+     */
+    public DnaValidationError getReason() {
+        return reason;
+    }
+}
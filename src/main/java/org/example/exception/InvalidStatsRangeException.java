@@ -0,0 +1,16 @@
+package org.example.exception;
+
+/**
+ * Excepción lanzada cuando el rango de GET /stats?from=&to= no es válido.
+ */
+public class InvalidStatsRangeException extends RuntimeException {
+
+    /**
+     * Constructor con mensaje.
+     *
+     * @param message Mensaje descriptivo del error
+     */
+    public InvalidStatsRangeException(String message) {
+        super(message);
+    }
+}
@@ -1,26 +1,32 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.entity.DnaRecord;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repositorio JPA para operaciones de base de datos sobre DnaRecord.
  * Spring Data JPA genera automáticamente las implementaciones.
  */
 @Repository
-public interface DnaRecordRepository extends JpaRepository<DnaRecord, Long> {
+public interface DnaRecordRepository extends JpaRepository<DnaRecord, UUID> {
 
     /**
-     * Busca un registro de ADN por su hash SHA-256.
-     * Utiliza el índice idx_dna_hash para búsqueda O(log N).
+     * Busca un registro de ADN por su huella.
+     * Utiliza la clave primaria (16 bytes) para búsqueda O(log N).
      *
-     * @param dnaHash Hash SHA-256 del ADN
+     * @param dnaHash Huella del ADN (DnaFingerprint.toUuid)
      * @return Optional con el registro si existe, vacío si no
      */
-    Optional<DnaRecord> findByDnaHash(String dnaHash);
+    Optional<DnaRecord> findByDnaHash(UUID dnaHash);
 
     /**
      * Cuenta la cantidad de registros según si son mutantes o humanos.
@@ -30,4 +36,15 @@ public interface DnaRecordRepository extends JpaRepository<DnaRecord, Long> {
      * @return Cantidad de registros que cumplen la condición
      */
     long countByIsMutant(boolean isMutant);
-}
\ No newline at end of file
+
+    /**
+     * Recorre todos los hashes persistidos sin cargar las entidades.
+     * Se usa para reconstruir el Bloom filter al iniciar; debe consumirse
+     * dentro de una transacción y cerrarse al terminar.
+     *
+     * @return Stream con todos los dna_hash
+     */
+    @Query("select r.dnaHash from DnaRecord r")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UUID> streamAllDnaHashes();
+}
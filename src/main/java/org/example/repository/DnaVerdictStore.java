@@ -0,0 +1,102 @@
+package org.example.repository;
+
+import org.example.entity.DnaRecord;
+import org.example.service.fingerprint.DnaFingerprint;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Índice persistente huella → veredicto que usan los servicios.
+ *
+ * Implementaciones (mutant.store.type):
+ * - jpa (por defecto): tabla dna_records en H2 vía DnaRecordRepository y JDBC
+ * - mapped: tabla hash off-heap en un archivo mapeado en memoria, con log
+ *   append-only para la durabilidad (MappedDnaVerdictStore)
+ * - sharded: dna_records repartida por prefijo de huella entre varios
+ *   datasources (ShardedDnaVerdictStore)
+ *
+ * Los inserts son insert-if-absent: el veredicto de una huella es siempre el
+ * mismo, así que una huella existente no se sobrescribe ni se cuenta dos veces.
+ */
+public interface DnaVerdictStore {
+
+    /**
+     * @param fingerprint Huella del ADN
+     * @return Veredicto almacenado, o null si la huella no existe
+     */
+    Boolean findVerdict(DnaFingerprint fingerprint);
+
+    /**
+     * @param fingerprints Huellas a buscar
+     * @return Veredicto de las huellas existentes (las ausentes no aparecen)
+     */
+    Map<DnaFingerprint, Boolean> findVerdicts(Collection<DnaFingerprint> fingerprints);
+
+    /**
+     * Inserta un registro si su huella no existe.
+     *
+     * @param record Registro nuevo
+     * @return true si se insertó; false si la huella ya existía
+     */
+    boolean insertIfAbsent(DnaRecord record);
+
+    /**
+     * Inserta los registros cuya huella no existe.
+     *
+     * @param records Registros nuevos (sin huellas repetidas)
+     * @return Por cada registro, true si se insertó
+     */
+    boolean[] insertAll(List<DnaRecord> records);
+
+    /**
+     * @param isMutant true para contar mutantes, false para humanos
+     * @return Cantidad de registros con ese veredicto
+     */
+    long countByIsMutant(boolean isMutant);
+
+    /**
+     * Cuenta mutantes y humanos en una sola pasada si la implementación
+     * puede hacerlo (sharded consulta todos los shards en paralelo).
+     *
+     * @return {mutantes, humanos}
+     */
+    default long[] countVerdicts() {
+        return new long[]{countByIsMutant(true), countByIsMutant(false)};
+    }
+
+    /**
+     * Recorre todas las huellas almacenadas (reconstrucción del Bloom filter).
+     *
+     * @param action Acción por huella
+     */
+    void forEachFingerprint(Consumer<DnaFingerprint> action);
+
+    /**
+     * Recorre hasta limit registros, los más recientes primero si la
+     * implementación conoce el orden (precarga de la caché).
+     *
+     * @param limit Cantidad máxima de registros
+     * @param action Acción por huella y veredicto
+     */
+    void forEachRecent(int limit, BiConsumer<DnaFingerprint, Boolean> action);
+
+    /**
+     * Recorre todos los registros con su veredicto y momento de creación
+     * (backfill de los buckets de /stats).
+     *
+     * @param action Acción por registro
+     */
+    void forEachVerdict(VerdictConsumer action);
+
+    /**
+     * Veredicto de un registro y su created_at en milisegundos epoch.
+     */
+    @FunctionalInterface
+    interface VerdictConsumer {
+        void accept(boolean isMutant, long createdAtMillis);
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.repository;
+
+import org.example.entity.DnaRecord;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Índice huella → veredicto sobre la tabla dna_records (mutant.store.type=jpa).
+ *
+ * Las lecturas usan DnaRecordRepository (clave primaria UUID). Cada insert
+ * es un MERGE ... WHEN NOT MATCHED de H2: inserta si la huella no existe y
+ * no hace nada si ya existe, en una sola sentencia atómica y sin violar la
+ * clave primaria. El update count (1 o 0) indica qué filas se insertaron.
+ *
+ * Si dos transacciones concurrentes insertan la misma huella, la segunda
+ * puede fallar con DuplicateKeyException al esperar el lock de la fila; en
+ * ese caso el batch se reintenta fila por fila.
+ */
+public class JpaDnaVerdictStore implements DnaVerdictStore {
+
+    /**
+     * Insert-if-absent de un registro en dna_records. También lo usa cada
+     * shard de ShardedDnaVerdictStore (DnaRecordShard).
+     */
+    public static final String UPSERT_SQL =
+            "MERGE INTO dna_records t "
+                    + "USING (VALUES (CAST(? AS UUID), CAST(? AS BOOLEAN), CAST(? AS TIMESTAMP))) "
+                    + "s (dna_hash, is_mutant, created_at) ON t.dna_hash = s.dna_hash "
+                    + "WHEN NOT MATCHED THEN INSERT (dna_hash, is_mutant, created_at) "
+                    + "VALUES (s.dna_hash, s.is_mutant, s.created_at)";
+
+    private static final int RECENT_PAGE_SIZE = 1_000;
+
+    private final DnaRecordRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public JpaDnaVerdictStore(DnaRecordRepository repository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public Boolean findVerdict(DnaFingerprint fingerprint) {
+        return repository.findByDnaHash(fingerprint.toUuid())
+                .map(DnaRecord::isMutant)
+                .orElse(null);
+    }
+
+    /**
+     * Una sola query IN sobre la clave primaria.
+     */
+    @Override
+    public Map<DnaFingerprint, Boolean> findVerdicts(Collection<DnaFingerprint> fingerprints) {
+        List<UUID> ids = new ArrayList<>(fingerprints.size());
+        for (DnaFingerprint fingerprint : fingerprints) {
+            ids.add(fingerprint.toUuid());
+        }
+
+        Map<DnaFingerprint, Boolean> verdicts = new HashMap<>();
+        for (DnaRecord record : repository.findAllById(ids)) {
+            verdicts.put(DnaFingerprint.fromUuid(record.getDnaHash()), record.isMutant());
+        }
+        return verdicts;
+    }
+
+    /**
+     * Un solo round trip, en autocommit.
+     *
+     * @throws org.springframework.dao.DataAccessException si falla la BD
+     */
+    @Override
+    public boolean insertIfAbsent(DnaRecord record) {
+        try {
+            return jdbcTemplate.update(UPSERT_SQL,
+                    record.getDnaHash(), record.isMutant(), Timestamp.valueOf(record.getCreatedAt())) > 0;
+        } catch (DuplicateKeyException e) {
+            return false; // Otro request la insertó en paralelo: el veredicto es el mismo
+        }
+    }
+
+    /**
+     * Un batch JDBC en una sola transacción.
+     *
+     * @throws org.springframework.dao.DataAccessException si falla la BD
+     */
+    @Override
+    public boolean[] insertAll(List<DnaRecord> records) {
+        boolean[] inserted = new boolean[records.size()];
+        if (records.isEmpty()) {
+            return inserted;
+        }
+
+        try {
+            int[][] counts = transactionTemplate.execute(status -> upsertBatch(records));
+            int index = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    inserted[index++] = count > 0;
+                }
+            }
+        } catch (DuplicateKeyException e) {
+            for (int i = 0; i < records.size(); i++) {
+                inserted[i] = insertIfAbsent(records.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public long countByIsMutant(boolean isMutant) {
+        return repository.countByIsMutant(isMutant);
+    }
+
+    /**
+     * Recorre los hashes en streaming (fetch size 1000) dentro de una
+     * transacción de solo lectura, sin cargar las entidades.
+     */
+    @Override
+    public void forEachFingerprint(Consumer<DnaFingerprint> action) {
+        readOnlyTemplate.executeWithoutResult(status -> {
+            try (Stream<UUID> hashes = repository.streamAllDnaHashes()) {
+                hashes.map(DnaFingerprint::fromUuid).forEach(action);
+            }
+        });
+    }
+
+    /**
+     * Recorre los registros por created_at descendente, en páginas de 1000.
+     */
+    @Override
+    public void forEachRecent(int limit, BiConsumer<DnaFingerprint, Boolean> action) {
+        int visited = 0;
+        PageRequest page = PageRequest.of(0, RECENT_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        while (visited < limit) {
+            Slice<DnaRecord> slice = repository.findAll(page);
+            for (DnaRecord record : slice) {
+                if (visited++ >= limit) {
+                    return;
+                }
+                action.accept(DnaFingerprint.fromUuid(record.getDnaHash()), record.isMutant());
+            }
+            if (!slice.hasNext()) {
+                return;
+            }
+            page = page.next();
+        }
+    }
+
+    /**
+     * Una sola query JDBC en streaming, sin cargar las entidades.
+     */
+    @Override
+    public void forEachVerdict(VerdictConsumer action) {
+        // created_at es LocalDateTime.now(): la zona del JVM, igual que getTimestamp
+        jdbcTemplate.query("SELECT is_mutant, created_at FROM dna_records", rs -> {
+            action.accept(rs.getBoolean(1), rs.getTimestamp(2).getTime());
+        });
+    }
+
+    private int[][] upsertBatch(List<DnaRecord> records) {
+        return jdbcTemplate.batchUpdate(UPSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setObject(1, record.getDnaHash());
+            ps.setBoolean(2, record.isMutant());
+            ps.setTimestamp(3, Timestamp.valueOf(record.getCreatedAt()));
+        });
+    }
+}
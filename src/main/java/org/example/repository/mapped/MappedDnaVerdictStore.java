@@ -0,0 +1,454 @@
+package org.example.repository.mapped;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.StoreProperties;
+import org.example.entity.DnaRecord;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Índice huella → veredicto embebido (mutant.store.type=mapped), sin
+ * Hibernate, H2 ni B-tree en el camino del request.
+ *
+ * - Lectura: OffHeapVerdictTable, una tabla hash off-heap en un archivo
+ *   mapeado en memoria; sin lock, sin asignar memoria y con uno o dos
+ *   accesos a memoria por búsqueda en el caso típico
+ * - Escritura: un escritor a la vez agrega el registro a VerdictLog y lo
+ *   reserva como en vuelo; fuera del lock espera el group commit y recién
+ *   entonces lo publica en la tabla. Un veredicto nunca es visible antes de
+ *   ser durable, y si el log falla no queda en la tabla
+ * - Resize online: al superar el 75% de ocupación un escritor copia la
+ *   tabla a un archivo del doble de slots fuera del lock, mientras los
+ *   demás siguen insertando en la anterior (hasta el 87,5%); bajo el lock
+ *   aplica a la copia lo insertado durante la copia y la reemplaza. El
+ *   mapeo de la tabla anterior lo libera el GC cuando ningún lector la usa
+ * - Reinicio: una tabla cerrada limpia se usa tal cual (solo se aplica la
+ *   cola del log posterior a su checkpoint); si el proceso murió, la tabla
+ *   se reconstruye desde el log, que es la fuente de verdad
+ *
+ * Límite: 2^26 slots (una sola región mapeada), unos 50 millones de huellas.
+ * Con este índice dna_records queda vacía: el backfill de buckets de /stats
+ * lee de acá (forEachVerdict) y el modo reactivo, que lee dna_records por
+ * R2DBC, no arranca (ReactiveConfig).
+ */
+@Slf4j
+public class MappedDnaVerdictStore implements DnaVerdictStore, AutoCloseable {
+
+    static final String TABLE_FILE = "verdicts.tbl";
+    static final String RESIZE_FILE = "verdicts.tbl.resize";
+    static final String LOG_FILE = "verdicts.log";
+
+    private final Path directory;
+    private final VerdictLog verdictLog;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Huellas ya agregadas al log que esperan su fsync para publicarse en la
+     * tabla (con writeLock). Evita que dos escritores agreguen la misma.
+     */
+    private final Set<UUID> inFlight = new HashSet<>();
+
+    /**
+     * Señal de inserts publicados o de resize terminado.
+     */
+    private final Condition tableChanged = writeLock.newCondition();
+
+    /**
+     * Inserts publicados mientras se copia la tabla, para aplicarlos a la
+     * copia (con writeLock). null si no hay un resize en curso.
+     */
+    private List<long[]> resizeBacklog;
+
+    // Se modifica con writeLock; volatile para que los lectores fallen al cerrar
+    private volatile boolean closed;
+
+    private volatile OffHeapVerdictTable table;
+
+    private MappedDnaVerdictStore(Path directory, VerdictLog verdictLog, OffHeapVerdictTable table) {
+        this.directory = directory;
+        this.verdictLog = verdictLog;
+        this.table = table;
+    }
+
+    /**
+     * Abre el índice del directorio configurado, reconstruyendo la tabla
+     * desde el log si no se cerró limpia.
+     *
+     * @param properties Propiedades mutant.store.mapped
+     * @param threadFactory Fábrica del hilo de group commit
+     * @return Índice abierto
+     * @throws IOException si no se pueden abrir o mapear los archivos
+     */
+    public static MappedDnaVerdictStore open(StoreProperties.Mapped properties,
+                                             ThreadFactory threadFactory) throws IOException {
+        Path directory = Path.of(properties.getDirectory());
+        Files.createDirectories(directory);
+
+        VerdictLog verdictLog = VerdictLog.open(directory.resolve(LOG_FILE), properties.isSync());
+        long logEntries = verdictLog.durablePosition() / VerdictLog.RECORD_BYTES;
+
+        OffHeapVerdictTable table = OffHeapVerdictTable.open(directory.resolve(TABLE_FILE));
+        long replayFrom;
+        if (table != null && table.logPosition() <= verdictLog.durablePosition()) {
+            replayFrom = table.logPosition();
+        } else {
+            if (table != null || logEntries > 0) {
+                log.warn("Mapped verdict table was not closed cleanly, rebuilding from {} log entries", logEntries);
+            }
+            int capacity = OffHeapVerdictTable.capacityFor(Math.max(properties.getInitialCapacity() * 3L / 4, logEntries));
+            table = OffHeapVerdictTable.create(directory.resolve(TABLE_FILE), capacity);
+            replayFrom = 0;
+        }
+        table.markOpen();
+
+        MappedDnaVerdictStore store = new MappedDnaVerdictStore(directory, verdictLog, table);
+        verdictLog.replay(replayFrom, store::replay);
+        verdictLog.start(threadFactory);
+
+        log.info("Mapped verdict store opened at {}: {} entries, {} slots",
+                directory, store.table.size(), store.table.capacity());
+        return store;
+    }
+
+    @Override
+    public Boolean findVerdict(DnaFingerprint fingerprint) {
+        long meta = readableTable().get(fingerprint.high(), fingerprint.low());
+        return meta == 0 ? null : OffHeapVerdictTable.isMutant(meta);
+    }
+
+    @Override
+    public Map<DnaFingerprint, Boolean> findVerdicts(Collection<DnaFingerprint> fingerprints) {
+        OffHeapVerdictTable current = readableTable();
+        Map<DnaFingerprint, Boolean> verdicts = new HashMap<>();
+        for (DnaFingerprint fingerprint : fingerprints) {
+            long meta = current.get(fingerprint.high(), fingerprint.low());
+            if (meta != 0) {
+                verdicts.put(fingerprint, OffHeapVerdictTable.isMutant(meta));
+            }
+        }
+        return verdicts;
+    }
+
+    /**
+     * @throws DataAccessResourceFailureException si falla el log o la tabla está llena
+     */
+    @Override
+    public boolean insertIfAbsent(DnaRecord record) {
+        return insertAll(List.of(record))[0];
+    }
+
+    /**
+     * Todos los registros en el mismo grupo del log: un solo fsync. Se
+     * publican en la tabla recién cuando el grupo es durable. El lugar para
+     * el batch entero se reserva antes del primer append; si un append falla
+     * a mitad del batch, lo ya agregado al log igual se confirma y se publica
+     * antes de lanzar la excepción, para que log y tabla no difieran.
+     *
+     * @throws DataAccessResourceFailureException si falla el log o la tabla está llena
+     */
+    @Override
+    public boolean[] insertAll(List<DnaRecord> records) {
+        boolean[] inserted = new boolean[records.size()];
+        long[] metas = new long[records.size()];
+        long position = -1;
+        IOException appendFailure = null;
+
+        try {
+            writeLock.lock();
+            try {
+                awaitRoom(records.size()); // Puede soltar el lock: antes de buscar las huellas
+                for (int i = 0; i < records.size(); i++) {
+                    DnaRecord record = records.get(i);
+                    UUID hash = record.getDnaHash();
+                    if (table.get(hash.getMostSignificantBits(), hash.getLeastSignificantBits()) != 0
+                            || inFlight.contains(hash)) {
+                        continue;
+                    }
+
+                    metas[i] = OffHeapVerdictTable.meta(record.isMutant(),
+                            record.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                    try {
+                        position = verdictLog.append(hash.getMostSignificantBits(), hash.getLeastSignificantBits(), metas[i]);
+                    } catch (IOException e) {
+                        appendFailure = e;
+                        break;
+                    }
+                    inFlight.add(hash);
+                    inserted[i] = true;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+
+            if (position >= 0) {
+                verdictLog.awaitDurable(position);
+            }
+        } catch (IOException e) {
+            // El grupo no fue durable: lo reservado no se publica
+            writeLock.lock();
+            try {
+                forEachInserted(records, inserted, (i, hash) -> inFlight.remove(hash));
+                tableChanged.signalAll();
+            } finally {
+                writeLock.unlock();
+            }
+            throw new DataAccessResourceFailureException("Mapped verdict store write failed", e);
+        }
+
+        if (position >= 0) {
+            publish(records, inserted, metas);
+        }
+        if (appendFailure != null) {
+            throw new DataAccessResourceFailureException("Mapped verdict store write failed", appendFailure);
+        }
+        return inserted;
+    }
+
+    @Override
+    public long countByIsMutant(boolean isMutant) {
+        OffHeapVerdictTable current = table;
+        long mutants = current.mutants();
+        return isMutant ? mutants : current.size() - mutants;
+    }
+
+    @Override
+    public void forEachFingerprint(Consumer<DnaFingerprint> action) {
+        readableTable().forEach((high, low, meta) -> action.accept(new DnaFingerprint(high, low)));
+    }
+
+    /**
+     * La tabla no conserva el orden de inserción: se recorre completa
+     * guardando en un min-heap acotado los limit slots de created_at más
+     * reciente, que se entregan del más nuevo al más viejo.
+     */
+    @Override
+    public void forEachRecent(int limit, BiConsumer<DnaFingerprint, Boolean> action) {
+        if (limit <= 0) {
+            return;
+        }
+
+        PriorityQueue<RecentSlot> newest = new PriorityQueue<>(Comparator.comparingLong(RecentSlot::createdAtMillis));
+        readableTable().forEach((high, low, meta) -> {
+            if (newest.size() < limit) {
+                newest.add(new RecentSlot(high, low, meta));
+            } else if (OffHeapVerdictTable.createdAtMillis(meta) > newest.peek().createdAtMillis()) {
+                newest.poll();
+                newest.add(new RecentSlot(high, low, meta));
+            }
+        });
+
+        RecentSlot[] ordered = new RecentSlot[newest.size()];
+        for (int i = ordered.length - 1; i >= 0; i--) {
+            ordered[i] = newest.poll();
+        }
+        for (RecentSlot slot : ordered) {
+            action.accept(new DnaFingerprint(slot.high(), slot.low()), OffHeapVerdictTable.isMutant(slot.meta()));
+        }
+    }
+
+    /**
+     * El created_at se guarda en el meta del slot (milisegundos epoch).
+     */
+    @Override
+    public void forEachVerdict(VerdictConsumer action) {
+        readableTable().forEach((high, low, meta) ->
+                action.accept(OffHeapVerdictTable.isMutant(meta), OffHeapVerdictTable.createdAtMillis(meta)));
+    }
+
+    /**
+     * Confirma el log, espera que se publique lo que estaba en vuelo y que
+     * termine un resize y marca la tabla como cerrada limpia. Las lecturas
+     * posteriores fallan.
+     */
+    @Override
+    public void close() throws IOException {
+        verdictLog.close();
+        writeLock.lock();
+        try {
+            while (!inFlight.isEmpty() || resizeBacklog != null) {
+                tableChanged.awaitUninterruptibly();
+            }
+            closed = true;
+            table.checkpoint(verdictLog.durablePosition());
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Mapped verdict store closed: {} entries", table.size());
+    }
+
+    /**
+     * @return Tabla actual para leer
+     * @throws DataAccessResourceFailureException si el índice está cerrado
+     */
+    private OffHeapVerdictTable readableTable() {
+        if (closed) {
+            throw new DataAccessResourceFailureException("Mapped verdict store is closed");
+        }
+        return table;
+    }
+
+    /**
+     * Publica en la tabla los registros ya durables de un batch.
+     */
+    private void publish(List<DnaRecord> records, boolean[] inserted, long[] metas) {
+        OffHeapVerdictTable source = null;
+        writeLock.lock();
+        try {
+            OffHeapVerdictTable current = table;
+            List<long[]> backlog = resizeBacklog;
+            forEachInserted(records, inserted, (i, hash) -> {
+                long high = hash.getMostSignificantBits();
+                long low = hash.getLeastSignificantBits();
+                current.putIfAbsent(high, low, metas[i]);
+                if (backlog != null) {
+                    backlog.add(new long[]{high, low, metas[i]});
+                }
+                inFlight.remove(hash);
+            });
+            tableChanged.signalAll();
+
+            if (backlog == null && !closed && current.isFull(1) && current.capacity() < OffHeapVerdictTable.MAX_CAPACITY) {
+                resizeBacklog = new ArrayList<>();
+                source = current;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (source != null) {
+            try {
+                resize(source);
+            } catch (IOException e) {
+                log.error("Mapped verdict table resize failed, retrying on next insert", e);
+            }
+        }
+    }
+
+    private static void forEachInserted(List<DnaRecord> records, boolean[] inserted, BiConsumer<Integer, UUID> action) {
+        for (int i = 0; i < records.size(); i++) {
+            if (inserted[i]) {
+                action.accept(i, records.get(i).getDnaHash());
+            }
+        }
+    }
+
+    /**
+     * Aplica un registro del log al abrir (antes de aceptar requests).
+     */
+    private void replay(long high, long low, long meta) {
+        if (table.isFull(1)) {
+            resizeBacklog = new ArrayList<>();
+            try {
+                resize(table);
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException("Mapped verdict table resize failed", e);
+            }
+        }
+        table.putIfAbsent(high, low, meta);
+    }
+
+    /**
+     * Espera lugar para inserts más, contando los que están en vuelo: al
+     * publicarlos siempre hay un slot libre. Si la tabla llegó al 87,5% y no
+     * hay un resize en curso lo hace este escritor. Requiere writeLock, que
+     * se suelta mientras se espera o se copia; el lugar queda reservado
+     * mientras no se vuelva a soltar.
+     *
+     * @param inserts Inserts por reservar
+     */
+    private void awaitRoom(int inserts) throws IOException {
+        while (!table.hasRoom(inFlight.size() + inserts)) {
+            if (closed) {
+                throw new IOException("Mapped verdict store is closed");
+            }
+            if (resizeBacklog != null) {
+                tableChanged.awaitUninterruptibly();
+                continue;
+            }
+
+            OffHeapVerdictTable source = table;
+            resizeBacklog = new ArrayList<>();
+            writeLock.unlock();
+            try {
+                resize(source);
+            } finally {
+                writeLock.lock();
+            }
+        }
+        if (closed) {
+            throw new IOException("Mapped verdict store is closed");
+        }
+    }
+
+    /**
+     * Copia la tabla a un archivo del doble de slots sin writeLock; bajo el
+     * lock aplica los inserts publicados durante la copia (resizeBacklog,
+     * ya creado por quien llama) y reemplaza la tabla y su archivo.
+     */
+    private void resize(OffHeapVerdictTable source) throws IOException {
+        OffHeapVerdictTable larger = null;
+        try {
+            if (source.capacity() >= OffHeapVerdictTable.MAX_CAPACITY) {
+                throw new IOException("Mapped verdict table is full (" + source.size() + " entries)");
+            }
+
+            Path resized = directory.resolve(RESIZE_FILE);
+            larger = source.copyTo(resized, source.capacity() * 2);
+
+            writeLock.lock();
+            try {
+                for (long[] slot : resizeBacklog) {
+                    larger.putIfAbsent(slot[0], slot[1], slot[2]);
+                }
+                larger.markOpen();
+                Files.move(resized, directory.resolve(TABLE_FILE),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                table = larger;
+            } finally {
+                writeLock.unlock();
+            }
+        } finally {
+            writeLock.lock();
+            try {
+                resizeBacklog = null;
+                tableChanged.signalAll();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        log.info("Mapped verdict table resized to {} slots ({} entries)", larger.capacity(), larger.size());
+    }
+
+    /**
+     * Slot candidato para la precarga de la caché (forEachRecent).
+     */
+    private record RecentSlot(long high, long low, long meta) {
+
+        long createdAtMillis() {
+            return OffHeapVerdictTable.createdAtMillis(meta);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package org.example.repository.mapped;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Tabla hash de direccionamiento abierto (linear probing) sobre un archivo
+ * mapeado en memoria: los slots viven fuera del heap y no generan trabajo
+ * para el GC, y el sistema operativo persiste las páginas.
+ *
+ * Layout: cabecera de 64 bytes y capacity slots de 24 bytes:
+ * - [0] high y [8] low: huella de 128 bits
+ * - [16] meta: createdAtMillis << 2 | isMutant << 1 | 1 (0 = slot vacío)
+ *
+ * Concurrencia: lectores sin lock y un solo escritor a la vez (lo garantiza
+ * MappedDnaVerdictStore). El escritor publica meta con setRelease después de
+ * escribir la huella y el lector lo lee con getAcquire antes de compararla,
+ * por lo que nunca ve una huella a medio escribir. No hay borrados.
+ *
+ * La cabecera guarda la posición del log ya aplicada y un flag de cierre
+ * limpio: una tabla que no se cerró limpia no se usa (se reconstruye del log).
+ *
+ * Liberación: no hay unmap explícito. Una tabla reemplazada por un resize
+ * sigue mapeada mientras algún lector la tenga tomada y el GC libera el
+ * mapeo al recolectar el buffer: un lector atrasado lee datos viejos, nunca
+ * memoria liberada.
+ */
+final class OffHeapVerdictTable {
+
+    static final int HEADER_BYTES = 64;
+    static final int SLOT_BYTES = 24;
+
+    /**
+     * Una sola región mapeada (MappedByteBuffer admite hasta 2 GiB): 1,5 GiB de slots.
+     */
+    static final int MAX_CAPACITY = 1 << 26;
+
+    private static final long MAGIC = 0x444E_4156_4552_4431L; // "DNAVERD1"
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    private static final int MUTANTS_OFFSET = 24;
+    private static final int LOG_POSITION_OFFSET = 32;
+    private static final int CLEAN_OFFSET = 40;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+
+    // Solo los modifica el escritor; volatile para countByIsMutant
+    private volatile int size;
+    private volatile long mutants;
+
+    private OffHeapVerdictTable(MappedByteBuffer buffer, int capacity) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Crea una tabla vacía, reemplazando el archivo si existe.
+     *
+     * @param file Archivo de la tabla
+     * @param capacity Cantidad de slots (potencia de 2, hasta MAX_CAPACITY)
+     */
+    static OffHeapVerdictTable create(Path file, int capacity) throws IOException {
+        MappedByteBuffer buffer = map(file, HEADER_BYTES + (long) capacity * SLOT_BYTES,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putLong(MAGIC_OFFSET, MAGIC);
+        buffer.putLong(CAPACITY_OFFSET, capacity);
+        return new OffHeapVerdictTable(buffer, capacity);
+    }
+
+    /**
+     * Abre una tabla cerrada limpiamente.
+     *
+     * @param file Archivo de la tabla
+     * @return La tabla, o null si no existe, está corrupta o no se cerró limpia
+     */
+    static OffHeapVerdictTable open(Path file) throws IOException {
+        if (!Files.exists(file) || Files.size(file) < HEADER_BYTES) {
+            return null;
+        }
+
+        long fileSize = Files.size(file);
+        MappedByteBuffer buffer = map(file, fileSize);
+        long capacity = buffer.getLong(CAPACITY_OFFSET);
+        boolean valid = buffer.getLong(MAGIC_OFFSET) == MAGIC
+                && capacity > 0 && capacity <= MAX_CAPACITY && Long.bitCount(capacity) == 1
+                && fileSize == HEADER_BYTES + capacity * SLOT_BYTES
+                && buffer.getLong(CLEAN_OFFSET) == 1;
+        if (!valid) {
+            return null;
+        }
+
+        OffHeapVerdictTable table = new OffHeapVerdictTable(buffer, (int) capacity);
+        table.size = (int) buffer.getLong(SIZE_OFFSET);
+        table.mutants = buffer.getLong(MUTANTS_OFFSET);
+        return table;
+    }
+
+    /**
+     * @return Meta del slot de la huella, o 0 si no está
+     */
+    long get(long high, long low) {
+        int index = indexOf(high, low);
+        for (int probe = 0; probe < capacity; probe++) {
+            int offset = offsetOf(index);
+            long meta = (long) LONGS.getAcquire(buffer, offset + 16);
+            if (meta == 0) {
+                return 0;
+            }
+            if ((long) LONGS.get(buffer, offset) == high && (long) LONGS.get(buffer, offset + 8) == low) {
+                return meta;
+            }
+            index = (index + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Inserta una huella si no está. Requiere un slot libre (ver isFull).
+     *
+     * @return true si se insertó; false si la huella ya estaba
+     */
+    boolean putIfAbsent(long high, long low, long meta) {
+        int index = indexOf(high, low);
+        while (true) {
+            int offset = offsetOf(index);
+            long current = (long) LONGS.get(buffer, offset + 16);
+            if (current == 0) {
+                LONGS.set(buffer, offset, high);
+                LONGS.set(buffer, offset + 8, low);
+                LONGS.setRelease(buffer, offset + 16, meta);
+                size++;
+                if (isMutant(meta)) {
+                    mutants++;
+                }
+                return true;
+            }
+            if ((long) LONGS.get(buffer, offset) == high && (long) LONGS.get(buffer, offset + 8) == low) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * @param inserts Inserts por aplicar
+     * @return true si superan el 75% de ocupación
+     */
+    boolean isFull(int inserts) {
+        return (long) (size + inserts) * 4 > (long) capacity * 3;
+    }
+
+    /**
+     * @param inserts Inserts por aplicar
+     * @return true si caben sin superar el 87,5% de ocupación (margen
+     *         mientras se copia la tabla a una más grande)
+     */
+    boolean hasRoom(int inserts) {
+        return (long) (size + inserts) * 8 <= (long) capacity * 7;
+    }
+
+    /**
+     * Copia todas las huellas a una tabla nueva de otra capacidad. Puede
+     * correr junto con el escritor: un insert concurrente puede quedar
+     * fuera de la copia.
+     *
+     * @param file Archivo de la tabla nueva
+     * @param newCapacity Cantidad de slots (potencia de 2)
+     */
+    OffHeapVerdictTable copyTo(Path file, int newCapacity) throws IOException {
+        OffHeapVerdictTable copy = create(file, newCapacity);
+        forEach(copy::putIfAbsent);
+        return copy;
+    }
+
+    /**
+     * Recorre los slots ocupados, en orden de slot.
+     */
+    void forEach(SlotConsumer action) {
+        for (int index = 0; index < capacity; index++) {
+            int offset = offsetOf(index);
+            long meta = (long) LONGS.getAcquire(buffer, offset + 16);
+            if (meta != 0) {
+                action.accept((long) LONGS.get(buffer, offset), (long) LONGS.get(buffer, offset + 8), meta);
+            }
+        }
+    }
+
+    /**
+     * Marca la tabla como abierta: si el proceso muere, no se vuelve a usar.
+     */
+    void markOpen() {
+        buffer.putLong(CLEAN_OFFSET, 0);
+        buffer.force(0, HEADER_BYTES);
+    }
+
+    /**
+     * Persiste los slots y la cabecera y marca la tabla como cerrada limpia.
+     *
+     * @param logPosition Posición del log ya aplicada a la tabla
+     */
+    void checkpoint(long logPosition) {
+        buffer.putLong(SIZE_OFFSET, size);
+        buffer.putLong(MUTANTS_OFFSET, mutants);
+        buffer.putLong(LOG_POSITION_OFFSET, logPosition);
+        buffer.force();
+        buffer.putLong(CLEAN_OFFSET, 1);
+        buffer.force(0, HEADER_BYTES);
+    }
+
+    long logPosition() {
+        return buffer.getLong(LOG_POSITION_OFFSET);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long mutants() {
+        return mutants;
+    }
+
+    static long meta(boolean isMutant, long createdAtMillis) {
+        return createdAtMillis << 2 | (isMutant ? 2L : 0L) | 1L;
+    }
+
+    static boolean isMutant(long meta) {
+        return (meta & 2L) != 0;
+    }
+
+    static long createdAtMillis(long meta) {
+        return meta >>> 2;
+    }
+
+    /**
+     * @return Menor potencia de 2 que aloja entries huellas por debajo del 75% de ocupación
+     */
+    static int capacityFor(long entries) {
+        long needed = Math.max(16, entries * 4 / 3 + 1);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Mapped verdict table cannot hold " + entries + " entries");
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private int indexOf(long high, long low) {
+        // La huella ya es un hash uniforme: alcanza con mezclar sus dos mitades
+        long mixed = high ^ low;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private static int offsetOf(int index) {
+        return HEADER_BYTES + index * SLOT_BYTES;
+    }
+
+    private static MappedByteBuffer map(Path file, long bytes, StandardOpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, withReadWrite(options))) {
+            // El mapeo sigue siendo válido después de cerrar el canal
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        }
+    }
+
+    private static StandardOpenOption[] withReadWrite(StandardOpenOption... options) {
+        StandardOpenOption[] all = new StandardOpenOption[options.length + 2];
+        all[0] = StandardOpenOption.READ;
+        all[1] = StandardOpenOption.WRITE;
+        System.arraycopy(options, 0, all, 2, options.length);
+        return all;
+    }
+
+    /**
+     * Acción sobre un slot ocupado.
+     */
+    @FunctionalInterface
+    interface SlotConsumer {
+        void accept(long high, long low, long meta);
+    }
+}
@@ -0,0 +1,235 @@
+package org.example.repository.mapped;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Log append-only de huellas insertadas, fuente de verdad del índice mapeado.
+ *
+ * Cada registro ocupa 24 bytes (high, low, meta, big-endian). Group commit:
+ * los escritores agregan su registro a un buffer en memoria y esperan; un
+ * hilo escribe todo lo acumulado y hace un solo fsync. Mientras dura un
+ * fsync, los inserts que llegan forman el siguiente grupo, así que la
+ * cantidad de fsync por segundo no crece con la de inserts.
+ *
+ * Al abrir se descarta un registro final incompleto (caída a mitad de write).
+ */
+final class VerdictLog implements AutoCloseable {
+
+    static final int RECORD_BYTES = 24;
+
+    private static final int INITIAL_BUFFER_BYTES = 64 * 1024;
+
+    private final FileChannel channel;
+    private final boolean sync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Condition committed = lock.newCondition();
+
+    private ByteBuffer active = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+    private long appendPosition;
+    private long durablePosition;
+    private boolean closed;
+    private IOException failure;
+    private Thread committer;
+
+    private VerdictLog(FileChannel channel, boolean sync, long size) {
+        this.channel = channel;
+        this.sync = sync;
+        this.appendPosition = size;
+        this.durablePosition = size;
+    }
+
+    /**
+     * Abre (o crea) el log, descartando un registro final incompleto.
+     *
+     * @param file Archivo del log
+     * @param sync true para hacer fsync en cada group commit
+     */
+    static VerdictLog open(Path file, boolean sync) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size() / RECORD_BYTES * RECORD_BYTES;
+        channel.truncate(size);
+        channel.position(size);
+        return new VerdictLog(channel, sync, size);
+    }
+
+    /**
+     * Aplica los registros desde una posición hasta el final del log.
+     *
+     * @param from Posición en bytes (múltiplo de RECORD_BYTES)
+     * @param action Acción por registro
+     */
+    void replay(long from, OffHeapVerdictTable.SlotConsumer action) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_BYTES * 4096);
+        long position = from;
+        long end = durablePosition;
+
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            while (buffer.hasRemaining()) {
+                position += channel.read(buffer, position);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                action.accept(buffer.getLong(), buffer.getLong(), buffer.getLong());
+            }
+        }
+    }
+
+    /**
+     * Inicia el hilo de group commit.
+     *
+     * @param threadFactory Fábrica del hilo (virtual si spring.threads.virtual.enabled=true)
+     */
+    void start(ThreadFactory threadFactory) {
+        committer = threadFactory.newThread(this::runCommitter);
+        committer.start();
+    }
+
+    /**
+     * Agrega un registro al grupo en curso, sin esperar el fsync.
+     *
+     * @return Posición del log a esperar con awaitDurable
+     * @throws IOException si el log está cerrado o un commit anterior falló
+     */
+    long append(long high, long low, long meta) throws IOException {
+        lock.lock();
+        try {
+            if (closed || failure != null) {
+                throw failure != null ? failure : new IOException("Verdict log is closed");
+            }
+            if (active.remaining() < RECORD_BYTES) {
+                ByteBuffer larger = ByteBuffer.allocate(active.capacity() * 2);
+                larger.put(active.flip());
+                active = larger;
+            }
+            active.putLong(high).putLong(low).putLong(meta);
+            appendPosition += RECORD_BYTES;
+            appended.signal();
+            return appendPosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Espera a que el log sea durable hasta la posición.
+     *
+     * @throws IOException si el commit del grupo falló
+     */
+    void awaitDurable(long position) throws IOException {
+        lock.lock();
+        try {
+            while (durablePosition < position) {
+                if (failure != null) {
+                    throw failure;
+                }
+                committed.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Posición hasta la que el log es durable
+     */
+    long durablePosition() {
+        lock.lock();
+        try {
+            return durablePosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Confirma lo pendiente, detiene el hilo de commit y cierra el archivo.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            appended.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        if (committer != null) {
+            try {
+                committer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        channel.force(true);
+        channel.close();
+    }
+
+    /**
+     * Bucle del hilo de commit: toma todo lo acumulado, lo escribe y hace un fsync.
+     */
+    private void runCommitter() {
+        while (true) {
+            ByteBuffer group;
+            long target;
+
+            lock.lock();
+            try {
+                while (active.position() == 0 && !closed) {
+                    appended.awaitUninterruptibly();
+                }
+                if (active.position() == 0) {
+                    return; // Cerrado y sin pendientes
+                }
+                group = active;
+                active = spare;
+                spare = group;
+                target = appendPosition;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            try {
+                group.flip();
+                while (group.hasRemaining()) {
+                    channel.write(group);
+                }
+                if (sync) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                error = e;
+            } finally {
+                group.clear();
+            }
+
+            lock.lock();
+            try {
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durablePosition = target;
+                }
+                committed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (error != null) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.repository.sharded;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.config.StoreProperties;
+import org.example.entity.DnaRecord;
+import org.example.repository.DnaVerdictStore;
+import org.example.repository.JpaDnaVerdictStore;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Un shard de dna_records: datasource y pool de conexiones propios.
+ *
+ * Solo JDBC (sin Hibernate): las mismas sentencias que JpaDnaVerdictStore
+ * (el insert-if-absent es su UPSERT_SQL) sobre una tabla con el mismo
+ * esquema, creada al abrir el shard si no existe.
+ */
+final class DnaRecordShard implements AutoCloseable {
+
+    static final String SCHEMA_SQL =
+            "CREATE TABLE IF NOT EXISTS dna_records ("
+                    + "dna_hash UUID NOT NULL PRIMARY KEY, "
+                    + "is_mutant BOOLEAN NOT NULL, "
+                    + "created_at TIMESTAMP(6) NOT NULL)";
+
+    static final String INDEX_SQL =
+            "CREATE INDEX IF NOT EXISTS idx_is_mutant ON dna_records (is_mutant)";
+
+    static final String FIND_SQL = "SELECT is_mutant FROM dna_records WHERE dna_hash = ?";
+
+    static final String COUNT_SQL = "SELECT is_mutant, COUNT(*) FROM dna_records GROUP BY is_mutant";
+
+    static final String RECENT_SQL =
+            "SELECT dna_hash, is_mutant, created_at FROM dna_records ORDER BY created_at DESC LIMIT ?";
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private final int index;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private DnaRecordShard(int index, HikariDataSource dataSource) {
+        this.index = index;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * Crea el pool del shard y la tabla si no existe.
+     *
+     * @param index Posición del shard (nombre del pool)
+     * @param properties Datasource del shard
+     */
+    static DnaRecordShard open(int index, StoreProperties.Shard properties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("dna-shard-" + index);
+        config.setJdbcUrl(properties.getUrl());
+        config.setUsername(properties.getUsername());
+        config.setPassword(properties.getPassword());
+        config.setMaximumPoolSize(properties.getMaximumPoolSize());
+
+        DnaRecordShard shard = new DnaRecordShard(index, new HikariDataSource(config));
+        try {
+            shard.jdbcTemplate.execute(SCHEMA_SQL);
+            shard.jdbcTemplate.execute(INDEX_SQL);
+        } catch (RuntimeException e) {
+            shard.close();
+            throw e;
+        }
+        return shard;
+    }
+
+    Boolean findVerdict(UUID dnaHash) {
+        List<Boolean> verdicts = jdbcTemplate.queryForList(FIND_SQL, Boolean.class, dnaHash);
+        return verdicts.isEmpty() ? null : verdicts.get(0);
+    }
+
+    /**
+     * Una sola query IN sobre la clave primaria.
+     */
+    Map<UUID, Boolean> findVerdicts(List<UUID> dnaHashes) {
+        String sql = "SELECT dna_hash, is_mutant FROM dna_records WHERE dna_hash IN ("
+                + String.join(",", Collections.nCopies(dnaHashes.size(), "?")) + ")";
+
+        Map<UUID, Boolean> verdicts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            verdicts.put(rs.getObject(1, UUID.class), rs.getBoolean(2));
+        }, dnaHashes.toArray());
+        return verdicts;
+    }
+
+    boolean insertIfAbsent(DnaRecord record) {
+        try {
+            return jdbcTemplate.update(JpaDnaVerdictStore.UPSERT_SQL,
+                    record.getDnaHash(), record.isMutant(), Timestamp.valueOf(record.getCreatedAt())) > 0;
+        } catch (DuplicateKeyException e) {
+            return false; // Otro request la insertó en paralelo: el veredicto es el mismo
+        }
+    }
+
+    /**
+     * Un batch JDBC en una sola transacción del shard; fila por fila si un
+     * insert concurrente viola la clave.
+     */
+    boolean[] insertAll(List<DnaRecord> records) {
+        boolean[] inserted = new boolean[records.size()];
+        try {
+            int[][] counts = transactionTemplate.execute(status ->
+                    jdbcTemplate.batchUpdate(JpaDnaVerdictStore.UPSERT_SQL, records, records.size(), (ps, record) -> {
+                        ps.setObject(1, record.getDnaHash());
+                        ps.setBoolean(2, record.isMutant());
+                        ps.setTimestamp(3, Timestamp.valueOf(record.getCreatedAt()));
+                    }));
+            int position = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    inserted[position++] = count > 0;
+                }
+            }
+        } catch (DuplicateKeyException e) {
+            for (int i = 0; i < records.size(); i++) {
+                inserted[i] = insertIfAbsent(records.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * @return {mutantes, humanos} con un solo GROUP BY
+     */
+    long[] countVerdicts() {
+        long[] counts = new long[2];
+        jdbcTemplate.query(COUNT_SQL, rs -> {
+            counts[rs.getBoolean(1) ? 0 : 1] = rs.getLong(2);
+        });
+        return counts;
+    }
+
+    /**
+     * Recorre los hashes en streaming (fetch size 1000).
+     */
+    void forEachHash(Consumer<UUID> action) {
+        jdbcTemplate.query("SELECT dna_hash FROM dna_records", rs -> {
+            action.accept(rs.getObject(1, UUID.class));
+        });
+    }
+
+    /**
+     * Recorre veredictos y created_at en streaming (fetch size 1000).
+     */
+    void forEachVerdict(DnaVerdictStore.VerdictConsumer action) {
+        jdbcTemplate.query("SELECT is_mutant, created_at FROM dna_records", rs -> {
+            action.accept(rs.getBoolean(1), rs.getTimestamp(2).getTime());
+        });
+    }
+
+    /**
+     * @return Hasta limit registros, los más recientes primero
+     */
+    List<RecentVerdict> findRecent(int limit) {
+        return jdbcTemplate.query(RECENT_SQL, (rs, row) -> new RecentVerdict(
+                rs.getObject(1, UUID.class), rs.getBoolean(2), rs.getTimestamp(3).getTime()), limit);
+    }
+
+    int index() {
+        return index;
+    }
+
+    int maximumPoolSize() {
+        return dataSource.getMaximumPoolSize();
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+    /**
+     * Registro leído para la precarga de la caché.
+     */
+    record RecentVerdict(UUID dnaHash, boolean isMutant, long createdAtMillis) {
+    }
+}
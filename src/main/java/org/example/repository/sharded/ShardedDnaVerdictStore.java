@@ -0,0 +1,252 @@
+package org.example.repository.sharded;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.StoreProperties;
+import org.example.entity.DnaRecord;
+import org.example.repository.DnaVerdictStore;
+import org.example.repository.sharded.DnaRecordShard.RecentVerdict;
+import org.example.service.fingerprint.DnaFingerprint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Índice huella → veredicto repartido entre N datasources
+ * (mutant.store.type=sharded), cada uno con su propio pool de conexiones.
+ *
+ * - Ruteo: cada huella pertenece al shard de su prefijo (los 32 bits altos,
+ *   escalados a [0, N)); la huella ya es un hash uniforme, así que los shards
+ *   reciben la misma carga sin tabla de ruteo
+ * - Lecturas e inserts de una huella van solo a su shard: las escrituras a
+ *   shards distintos no compiten por el mismo lock de tabla ni el mismo pool
+ * - Operaciones de varias huellas (findVerdicts, insertAll) se agrupan por
+ *   shard y los grupos se ejecutan en paralelo; los conteos y recorridos
+ *   consultan todos los shards en paralelo y suman los resultados
+ *
+ * Cambiar la cantidad de shards cambia el dueño de cada huella: no se
+ * redistribuyen los datos existentes.
+ */
+@Slf4j
+public class ShardedDnaVerdictStore implements DnaVerdictStore, AutoCloseable {
+
+    private final List<DnaRecordShard> shards;
+    private final ExecutorService executor;
+
+    ShardedDnaVerdictStore(List<DnaRecordShard> shards, ThreadFactory threadFactory) {
+        this.shards = List.copyOf(shards);
+        // No más hilos que conexiones: un hilo de más solo esperaría un pool
+        int threads = shards.stream().mapToInt(DnaRecordShard::maximumPoolSize).sum();
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * Abre el pool de cada shard y crea su tabla si no existe.
+     *
+     * @param properties Propiedades mutant.store.sharded
+     * @param threadFactory Fábrica de los hilos de fan-out
+     * @return Índice abierto
+     * @throws IllegalArgumentException si no hay shards configurados
+     */
+    public static ShardedDnaVerdictStore open(StoreProperties.Sharded properties, ThreadFactory threadFactory) {
+        List<StoreProperties.Shard> configured = properties.getShards();
+        if (configured.isEmpty()) {
+            throw new IllegalArgumentException("mutant.store.sharded.shards must list at least one datasource");
+        }
+
+        List<DnaRecordShard> shards = new ArrayList<>(configured.size());
+        try {
+            for (int i = 0; i < configured.size(); i++) {
+                shards.add(DnaRecordShard.open(i, configured.get(i)));
+            }
+        } catch (RuntimeException e) {
+            shards.forEach(DnaRecordShard::close);
+            throw e;
+        }
+
+        log.info("Sharded verdict store opened with {} shards", shards.size());
+        return new ShardedDnaVerdictStore(shards, threadFactory);
+    }
+
+    @Override
+    public Boolean findVerdict(DnaFingerprint fingerprint) {
+        return shardOf(fingerprint.high()).findVerdict(fingerprint.toUuid());
+    }
+
+    @Override
+    public Map<DnaFingerprint, Boolean> findVerdicts(Collection<DnaFingerprint> fingerprints) {
+        Map<DnaRecordShard, List<UUID>> groups = new HashMap<>();
+        for (DnaFingerprint fingerprint : fingerprints) {
+            groups.computeIfAbsent(shardOf(fingerprint.high()), shard -> new ArrayList<>())
+                    .add(fingerprint.toUuid());
+        }
+
+        Map<DnaFingerprint, Boolean> verdicts = new HashMap<>();
+        for (Map<UUID, Boolean> found : fanOut(List.copyOf(groups.keySet()),
+                shard -> shard.findVerdicts(groups.get(shard)))) {
+            found.forEach((hash, isMutant) -> verdicts.put(DnaFingerprint.fromUuid(hash), isMutant));
+        }
+        return verdicts;
+    }
+
+    @Override
+    public boolean insertIfAbsent(DnaRecord record) {
+        return shardOf(record.getDnaHash().getMostSignificantBits()).insertIfAbsent(record);
+    }
+
+    /**
+     * Un batch por shard, todos en paralelo. No es atómico entre shards: si
+     * uno falla, los demás pueden haber confirmado su parte (el reintento es
+     * seguro porque los inserts son insert-if-absent).
+     *
+     * @throws org.springframework.dao.DataAccessException si falla algún shard
+     */
+    @Override
+    public boolean[] insertAll(List<DnaRecord> records) {
+        boolean[] inserted = new boolean[records.size()];
+        Map<DnaRecordShard, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            groups.computeIfAbsent(shardOf(records.get(i).getDnaHash().getMostSignificantBits()),
+                    shard -> new ArrayList<>()).add(i);
+        }
+
+        List<DnaRecordShard> targets = List.copyOf(groups.keySet());
+        List<boolean[]> results = fanOut(targets, shard -> {
+            List<Integer> positions = groups.get(shard);
+            List<DnaRecord> group = new ArrayList<>(positions.size());
+            for (int position : positions) {
+                group.add(records.get(position));
+            }
+            return shard.insertAll(group);
+        });
+
+        for (int s = 0; s < targets.size(); s++) {
+            List<Integer> positions = groups.get(targets.get(s));
+            boolean[] shardInserted = results.get(s);
+            for (int i = 0; i < positions.size(); i++) {
+                inserted[positions.get(i)] = shardInserted[i];
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public long countByIsMutant(boolean isMutant) {
+        return countVerdicts()[isMutant ? 0 : 1];
+    }
+
+    /**
+     * Un GROUP BY por shard, todos en paralelo.
+     */
+    @Override
+    public long[] countVerdicts() {
+        long[] totals = new long[2];
+        for (long[] counts : fanOut(shards, DnaRecordShard::countVerdicts)) {
+            totals[0] += counts[0];
+            totals[1] += counts[1];
+        }
+        return totals;
+    }
+
+    /**
+     * Recorre los shards de a uno (la acción no necesita ser thread-safe).
+     */
+    @Override
+    public void forEachFingerprint(Consumer<DnaFingerprint> action) {
+        for (DnaRecordShard shard : shards) {
+            shard.forEachHash(hash -> action.accept(DnaFingerprint.fromUuid(hash)));
+        }
+    }
+
+    /**
+     * Recorre los shards de a uno (la acción no necesita ser thread-safe).
+     */
+    @Override
+    public void forEachVerdict(VerdictConsumer action) {
+        for (DnaRecordShard shard : shards) {
+            shard.forEachVerdict(action);
+        }
+    }
+
+    /**
+     * Los limit más recientes de cada shard, en paralelo, y de ellos los
+     * limit más recientes del total.
+     */
+    @Override
+    public void forEachRecent(int limit, BiConsumer<DnaFingerprint, Boolean> action) {
+        List<RecentVerdict> recent = new ArrayList<>();
+        fanOut(shards, shard -> shard.findRecent(limit)).forEach(recent::addAll);
+        recent.sort(Comparator.comparingLong(RecentVerdict::createdAtMillis).reversed());
+
+        for (RecentVerdict verdict : recent.subList(0, Math.min(limit, recent.size()))) {
+            action.accept(DnaFingerprint.fromUuid(verdict.dnaHash()), verdict.isMutant());
+        }
+    }
+
+    /**
+     * Cierra los hilos de fan-out y el pool de cada shard.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        shards.forEach(DnaRecordShard::close);
+        log.info("Sharded verdict store closed");
+    }
+
+    /**
+     * @param high 64 bits altos de la huella
+     * @return Índice del shard dueño: prefijo de 32 bits escalado a [0, N)
+     */
+    int shardIndex(long high) {
+        return (int) (((high >>> 32) * shards.size()) >>> 32);
+    }
+
+    DnaRecordShard shard(int index) {
+        return shards.get(index);
+    }
+
+    private DnaRecordShard shardOf(long high) {
+        return shards.get(shardIndex(high));
+    }
+
+    /**
+     * Ejecuta la tarea en cada shard en paralelo (uno solo, en el hilo actual).
+     *
+     * @return Resultados en el orden de targets
+     */
+    private <T> List<T> fanOut(List<DnaRecordShard> targets, Function<DnaRecordShard, T> task) {
+        if (targets.size() == 1) {
+            return List.of(task.apply(targets.get(0)));
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(targets.size());
+        for (DnaRecordShard shard : targets) {
+            futures.add(CompletableFuture.supplyAsync(() -> task.apply(shard), executor));
+        }
+
+        List<T> results = new ArrayList<>(targets.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.BloomFilterProperties;
+import org.example.dto.BloomFilterStatsResponse;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de pertenencia de los dna_hash persistidos.
+ *
+ * Si el filtro responde "definitivamente ausente", MutantService analiza e
+ * inserta sin hacer la query findByDnaHash, que para ADN nuevo siempre
+ * vuelve vacía. Con "puede estar" se consulta la BD como antes.
+ *
+ * El filtro se reconstruye desde el índice (DnaVerdictStore) al iniciar y se actualiza en cada
+ * save. Mientras no esté listo responde siempre "puede estar", por lo que
+ * nunca se saltea la BD para un hash que ya existe.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(BloomFilterProperties.class)
+public class DnaHashFilter {
+
+    private final BloomFilterProperties properties;
+    private final DnaVerdictStore store;
+    private final ScalableBloomFilter filter;
+    private volatile boolean ready;
+
+    private final LongAdder definitelyAbsent = new LongAdder();
+    private final LongAdder mightBePresent = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public DnaHashFilter(BloomFilterProperties properties, DnaVerdictStore store) {
+        this.properties = properties;
+        this.store = store;
+        this.filter = properties.isEnabled()
+                ? new ScalableBloomFilter(properties.getInitialCapacity(), properties.getFalsePositiveRate())
+                : null;
+    }
+
+    /**
+     * Reconstruye el filtro con todas las huellas del índice.
+     * Los hashes guardados durante la reconstrucción también se agregan (put),
+     * por lo que no se pierde ninguno.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (filter == null) {
+            return;
+        }
+
+        store.forEachFingerprint(this::put);
+        ready = true;
+
+        log.info("DNA hash Bloom filter rebuilt with {} hashes ({} bytes, target fpp {})",
+                filter.size(), filter.bitSizeBytes(), properties.getFalsePositiveRate());
+    }
+
+    /**
+     * @param fingerprint Huella del ADN
+     * @return false si la huella definitivamente no está en la BD
+     */
+    public boolean mightContain(DnaFingerprint fingerprint) {
+        if (filter == null || !ready) {
+            return true;
+        }
+
+        boolean result = filter.mightContain(fingerprint.high(), fingerprint.low());
+        (result ? mightBePresent : definitelyAbsent).increment();
+        return result;
+    }
+
+    /**
+     * Registra una huella persistida.
+     *
+     * @param fingerprint Huella del ADN
+     */
+    public void put(DnaFingerprint fingerprint) {
+        if (filter != null) {
+            filter.put(fingerprint.high(), fingerprint.low());
+        }
+    }
+
+    /**
+     * Registra que un "puede estar" no encontró el hash en la BD.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * @return Tasa de falsos positivos configurada, esperada y observada
+     */
+    public BloomFilterStatsResponse getStats() {
+        if (filter == null) {
+            return new BloomFilterStatsResponse(false, false, 0, 0, 0, 0.0, 0.0, 0.0, 0, 0, 0);
+        }
+
+        long absent = definitelyAbsent.sum();
+        long fp = falsePositives.sum();
+        double observed = absent + fp == 0 ? 0.0 : (double) fp / (absent + fp);
+
+        return new BloomFilterStatsResponse(
+                true,
+                ready,
+                filter.size(),
+                filter.stageCount(),
+                filter.bitSizeBytes(),
+                filter.getFalsePositiveRate(),
+                filter.expectedFalsePositiveRate(),
+                observed,
+                absent,
+                mightBePresent.sum(),
+                fp
+        );
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.engine.DnaScanResult.Verdict;
+import org.example.validation.DnaValidationError;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas Micrometer de cada fase de analyzeDna (expuestas en /actuator/prometheus).
+ *
+ * - dna.analysis.phase (timer): fingerprint, lookup, detect, persist,
+ *   por tamaño (size) y veredicto (verdict)
+ * - dna.detection.cells.scanned (summary): profundidad del Early Termination
+ * - dna.lookup (counter): huella encontrada (hit) o no (miss) y dónde
+ * - dna.validation.rejections (counter): ADN rechazado, por motivo
+ * - dna.write_behind.dropped (counter): registros write-behind descartados
+ *   tras agotar los reintentos
+ *
+ * OPTIMIZACIÓN: todos los medidores se registran al crear el bean y se
+ * guardan en arrays indexados por ordinal. Registrar una medición no busca
+ * ni crea tags ni asigna memoria: es un acceso a array y un add atómico.
+ */
+@Component
+public class DnaMetrics {
+
+    /**
+     * Fase de analyzeDna.
+     */
+    public enum Phase {
+        FINGERPRINT,
+        LOOKUP,
+        DETECT,
+        PERSIST
+    }
+
+    /**
+     * Dónde se resolvió la búsqueda de una huella.
+     */
+    public enum LookupSource {
+        /** Hit en DnaResultCache. */
+        CACHE(true),
+        /** Hit entre los pendientes del write-behind. */
+        PENDING(true),
+        /** Hit en dna_records. */
+        DATABASE(true),
+        /** Miss: el Bloom filter descartó la huella sin consultar la BD. */
+        FILTER(false),
+        /** Miss: la BD no tenía la huella (falso positivo del filtro o filtro no listo). */
+        DATABASE_MISS(false);
+
+        private final boolean hit;
+
+        LookupSource(boolean hit) {
+            this.hit = hit;
+        }
+    }
+
+    private static final String[] SIZE_BUCKETS = {"le_10", "le_100", "le_1000", "gt_1000"};
+
+    private final Timer[][][] phaseTimers;
+    private final DistributionSummary[][] cellsScanned;
+    private final Counter[] lookups;
+    private final Map<DnaValidationError, Counter> rejections = new EnumMap<>(DnaValidationError.class);
+    private final Counter writeBehindDropped;
+
+    public DnaMetrics(MeterRegistry registry) {
+        Phase[] phases = Phase.values();
+        Verdict[] verdicts = Verdict.values();
+
+        phaseTimers = new Timer[phases.length][SIZE_BUCKETS.length][verdicts.length];
+        cellsScanned = new DistributionSummary[SIZE_BUCKETS.length][verdicts.length];
+        for (int size = 0; size < SIZE_BUCKETS.length; size++) {
+            for (Verdict verdict : verdicts) {
+                for (Phase phase : phases) {
+                    phaseTimers[phase.ordinal()][size][verdict.ordinal()] = Timer.builder("dna.analysis.phase")
+                            .description("Duración de cada fase de analyzeDna")
+                            .tag("phase", tag(phase))
+                            .tag("size", SIZE_BUCKETS[size])
+                            .tag("verdict", tag(verdict))
+                            .register(registry);
+                }
+                cellsScanned[size][verdict.ordinal()] = DistributionSummary.builder("dna.detection.cells.scanned")
+                        .description("Celdas recorridas por la detección hasta decidir (Early Termination)")
+                        .baseUnit("cells")
+                        .tag("size", SIZE_BUCKETS[size])
+                        .tag("verdict", tag(verdict))
+                        .register(registry);
+            }
+        }
+
+        LookupSource[] sources = LookupSource.values();
+        lookups = new Counter[sources.length];
+        for (LookupSource source : sources) {
+            lookups[source.ordinal()] = Counter.builder("dna.lookup")
+                    .description("Búsquedas de huellas de ADN ya analizadas")
+                    .tag("result", source.hit ? "hit" : "miss")
+                    .tag("source", tag(source))
+                    .register(registry);
+        }
+
+        for (DnaValidationError reason : DnaValidationError.values()) {
+            rejections.put(reason, Counter.builder("dna.validation.rejections")
+                    .description("ADN rechazado por inválido")
+                    .tag("reason", tag(reason))
+                    .register(registry));
+        }
+
+        writeBehindDropped = Counter.builder("dna.write_behind.dropped")
+                .description("Registros write-behind descartados tras agotar los reintentos")
+                .baseUnit("records")
+                .register(registry);
+    }
+
+    /**
+     * Registra la duración de una fase.
+     *
+     * @param phase Fase medida
+     * @param n Tamaño de la matriz
+     * @param verdict Veredicto final del request
+     * @param nanos Duración en nanosegundos
+     */
+    public void recordPhase(Phase phase, int n, Verdict verdict, long nanos) {
+        phaseTimers[phase.ordinal()][sizeBucket(n)][verdict.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registra la fase de detección: duración, profundidad del recorrido y,
+     * si el ADN es inválido, el motivo del rechazo.
+     *
+     * @param n Tamaño de la matriz
+     * @param result Resultado del análisis
+     * @param nanos Duración en nanosegundos
+     */
+    public void recordDetection(int n, DnaScanResult result, long nanos) {
+        int size = sizeBucket(n);
+        int verdict = result.verdict().ordinal();
+        phaseTimers[Phase.DETECT.ordinal()][size][verdict].record(nanos, TimeUnit.NANOSECONDS);
+        if (result.cellsScanned() != DnaScanResult.UNKNOWN) {
+            cellsScanned[size][verdict].record(result.cellsScanned());
+        }
+        if (!result.isValid()) {
+            recordRejection(result.error());
+        }
+    }
+
+    /**
+     * @param source Dónde se resolvió la búsqueda de la huella
+     */
+    public void recordLookup(LookupSource source) {
+        lookups[source.ordinal()].increment();
+    }
+
+    /**
+     * @param reason Motivo del rechazo del ADN
+     */
+    public void recordRejection(DnaValidationError reason) {
+        rejections.get(reason).increment();
+    }
+
+    /**
+     * @param records Registros write-behind que no se pudieron persistir
+     */
+    public void recordWriteBehindDropped(int records) {
+        writeBehindDropped.increment(records);
+    }
+
+    /**
+     * @return Verdict.MUTANT o Verdict.HUMAN
+     */
+    public static Verdict verdict(boolean isMutant) {
+        return isMutant ? Verdict.MUTANT : Verdict.HUMAN;
+    }
+
+    private static int sizeBucket(int n) {
+        if (n <= 10) {
+            return 0;
+        }
+        if (n <= 100) {
+            return 1;
+        }
+        return n <= 1000 ? 2 : 3;
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.service;
+
+import org.example.entity.DnaRecord;
+import org.example.repository.DnaVerdictStore;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Inserción de registros en el índice huella → veredicto, con conteo en /stats.
+ *
+ * Cada registro se inserta solo si su huella no existe (DnaVerdictStore:
+ * MERGE en dna_records o tabla mapeada), y los contadores de /stats se
+ * actualizan solo con los insertados: el veredicto de una huella es siempre
+ * el mismo, así que un registro existente ya está contado.
+ *
+ * Lo usan MutantService (una fila), la cola write-behind y POST /mutant/batch.
+ */
+@Component
+public class DnaRecordBatchInserter {
+
+    private final DnaVerdictStore store;
+    private final DnaStatsCounter statsCounter;
+
+    public DnaRecordBatchInserter(DnaVerdictStore store, DnaStatsCounter statsCounter) {
+        this.store = store;
+        this.statsCounter = statsCounter;
+    }
+
+    /**
+     * Inserta un registro si su huella no existe.
+     *
+     * @param record Registro nuevo
+     * @return true si se insertó; false si la huella ya estaba persistida
+     * @throws org.springframework.dao.DataAccessException si falla el almacenamiento
+     */
+    public boolean insertIfAbsent(DnaRecord record) {
+        boolean inserted = store.insertIfAbsent(record);
+        if (inserted) {
+            statsCounter.recordInserted(record.isMutant());
+        }
+        return inserted;
+    }
+
+    /**
+     * Inserta los registros, ignorando los que ya existen.
+     *
+     * @param records Registros nuevos (sin huellas repetidas)
+     * @return Cantidad de registros insertados
+     * @throws org.springframework.dao.DataAccessException si falla el almacenamiento
+     */
+    public int insertAll(List<DnaRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        boolean[] inserted = store.insertAll(records);
+        long mutantCount = 0;
+        long humanCount = 0;
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i]) {
+                if (records.get(i).isMutant()) {
+                    mutantCount++;
+                } else {
+                    humanCount++;
+                }
+            }
+        }
+        statsCounter.recordInserted(mutantCount, humanCount);
+        return (int) (mutantCount + humanCount);
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.DnaCacheProperties;
+import org.example.dto.CacheStatsResponse;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caché en memoria acotada huella → veredicto delante de DnaVerdictStore.
+ *
+ * Usa Caffeine (desalojo W-TinyLFU) con un presupuesto en bytes: cada entrada
+ * pesa una estimación de su tamaño en heap. Se llena tanto en lecturas
+ * (registro encontrado en BD) como en escrituras (registro nuevo), por lo que
+ * un ADN repetido se responde sin tocar JDBC.
+ *
+ * OPTIMIZACIÓN: evita la query findByDnaHash para ADN repetido
+ * - Hit: lookup en memoria (~100ns)
+ * - Miss: query a BD + carga en caché
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(DnaCacheProperties.class)
+public class DnaResultCache {
+
+    /**
+     * Estimación del tamaño en heap de una entrada: DnaFingerprint
+     * (header + 2 long), Boolean compartido y nodo de Caffeine.
+     */
+    static final int ENTRY_BYTES = 16 + 16 + 64;
+
+    private final DnaCacheProperties properties;
+    private final DnaVerdictStore store;
+    private final Cache<DnaFingerprint, Boolean> cache;
+
+    public DnaResultCache(DnaCacheProperties properties, DnaVerdictStore store) {
+        this.properties = properties;
+        this.store = store;
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumWeight(properties.getMaxSize().toBytes())
+                        .weigher((DnaFingerprint fingerprint, Boolean isMutant) -> ENTRY_BYTES)
+                        .recordStats()
+                        .build()
+                : null;
+    }
+
+    /**
+     * Busca el veredicto de una huella.
+     *
+     * @param fingerprint Huella del ADN
+     * @return true/false si está en caché, null si no está (o la caché está deshabilitada)
+     */
+    public Boolean getIfPresent(DnaFingerprint fingerprint) {
+        return cache != null ? cache.getIfPresent(fingerprint) : null;
+    }
+
+    /**
+     * Registra el veredicto de una huella (leído de BD o recién guardado).
+     *
+     * @param fingerprint Huella del ADN
+     * @param isMutant Veredicto
+     */
+    public void put(DnaFingerprint fingerprint, boolean isMutant) {
+        if (cache != null) {
+            cache.put(fingerprint, isMutant);
+        }
+    }
+
+    /**
+     * Olvida el veredicto de una huella que no llegó a persistirse (batch de
+     * write-behind descartado): el próximo request la vuelve a analizar y guardar.
+     *
+     * @param fingerprint Huella del ADN
+     */
+    public void invalidate(DnaFingerprint fingerprint) {
+        if (cache != null) {
+            cache.invalidate(fingerprint);
+        }
+    }
+
+    /**
+     * Precarga la caché con los registros más recientes al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmLoad() {
+        if (cache == null || !properties.isWarmLoad()) {
+            return;
+        }
+
+        store.forEachRecent(properties.getWarmLoadLimit(), cache::put);
+
+        log.info("DNA result cache warmed with {} records", cache.estimatedSize());
+    }
+
+    /**
+     * @return Contadores de hits, misses y desalojos para dimensionar la caché
+     */
+    public CacheStatsResponse getStats() {
+        if (cache == null) {
+            return new CacheStatsResponse(false, 0, 0, 0.0, 0, 0, 0);
+        }
+
+        CacheStats stats = cache.stats();
+        long weightedBytes = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+
+        return new CacheStatsResponse(
+                true,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                cache.estimatedSize(),
+                weightedBytes
+        );
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.StatsProperties;
+import org.example.repository.DnaVerdictStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Totales de mutantes y humanos mantenidos en memoria.
+ *
+ * Se reconstruyen desde el índice (DnaVerdictStore) al crear el bean (antes de que el
+ * servidor acepte requests, por lo que ningún insert se cuenta dos veces)
+ * y se incrementan después de cada insert confirmado, tanto sincrónico como
+ * en los batches write-behind. La tabla sigue siendo la fuente de verdad:
+ * no hace falta checkpoint porque al reiniciar se recuentan.
+ *
+ * Cada insert también se suma al minuto actual de DnaStatsRollup, que
+ * responde GET /stats?from=&to=.
+ *
+ * OPTIMIZACIÓN: GET /stats lee dos LongAdder (O(1)) en lugar de ejecutar
+ * dos COUNT que recorren el índice idx_is_mutant (O(N)).
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(StatsProperties.class)
+public class DnaStatsCounter {
+
+    private final StatsProperties properties;
+    private final DnaVerdictStore store;
+    private final DnaStatsRollup rollup;
+    private final LongAdder mutants = new LongAdder();
+    private final LongAdder humans = new LongAdder();
+
+    public DnaStatsCounter(StatsProperties properties, DnaVerdictStore store, DnaStatsRollup rollup) {
+        this.properties = properties;
+        this.store = store;
+        this.rollup = rollup;
+    }
+
+    /**
+     * Recuenta los totales desde la tabla.
+     */
+    @PostConstruct
+    public void rebuild() {
+        mutants.reset();
+        humans.reset();
+        long[] counts = store.countVerdicts();
+        mutants.add(counts[0]);
+        humans.add(counts[1]);
+
+        log.info("DNA stats counters rebuilt: {} mutants, {} humans", mutants.sum(), humans.sum());
+    }
+
+    /**
+     * Registra un insert confirmado.
+     *
+     * @param isMutant Veredicto del registro insertado
+     */
+    public void recordInserted(boolean isMutant) {
+        (isMutant ? mutants : humans).increment();
+        rollup.record(isMutant ? 1 : 0, isMutant ? 0 : 1);
+    }
+
+    /**
+     * Registra un batch de inserts confirmados.
+     *
+     * @param mutantCount Mutantes insertados
+     * @param humanCount Humanos insertados
+     */
+    public void recordInserted(long mutantCount, long humanCount) {
+        mutants.add(mutantCount);
+        humans.add(humanCount);
+        rollup.record(mutantCount, humanCount);
+    }
+
+    /**
+     * @return Total de mutantes persistidos
+     */
+    public long getMutantCount() {
+        return mutants.sum();
+    }
+
+    /**
+     * @return Total de humanos persistidos
+     */
+    public long getHumanCount() {
+        return humans.sum();
+    }
+
+    /**
+     * @return true si /stats debe recontar la tabla en cada llamada
+     */
+    public boolean isStrict() {
+        return properties.isStrict();
+    }
+}
@@ -0,0 +1,468 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.StatsProperties;
+import org.example.dto.StatsResponse;
+import org.example.entity.DnaStatsBucket.Granularity;
+import org.example.repository.DnaVerdictStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Estadísticas por ventana de tiempo: buckets de mutantes y humanos
+ * insertados por minuto, hora y día (UTC) en dna_stats_buckets.
+ *
+ * - Escritura: DnaStatsCounter registra cada insert confirmado en un mapa
+ *   en memoria por minuto; cada flushInterval un hilo lo vuelca con un batch
+ *   de MERGE que suma a los tres niveles en una sola transacción
+ * - Lectura: el rango [from, to) (redondeado al minuto) se cubre con los
+ *   buckets más gruesos posibles: días completos, horas completas en los
+ *   bordes y minutos en los extremos. Son a lo sumo 5 rangos de clave en
+ *   una sola query, más los minutos todavía no volcados
+ * - Retención: los buckets por minuto más viejos que minuteRetention y los
+ *   por hora más viejos que hourRetention se borran; un borde de rango en
+ *   esa zona se redondea a la hora (o al día) que lo contiene
+ * - Inicio: si la tabla está vacía y el índice de veredictos no, se
+ *   completa una vez desde su created_at (DnaVerdictStore, así también con
+ *   los índices mapped y sharded, que no escriben en dna_records)
+ *
+ * OPTIMIZACIÓN: el costo de una consulta depende de la cantidad de buckets
+ * del rango (como máximo 2×59 minutos + 2×23 horas + días), no de la
+ * cantidad de filas de dna_records; el request de inserción solo suma dos
+ * LongAdder.
+ */
+@Slf4j
+@Component
+public class DnaStatsRollup {
+
+    static final String MERGE_SQL =
+            "MERGE INTO dna_stats_buckets t "
+                    + "USING (VALUES (CAST(? AS VARCHAR(6)), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT))) "
+                    + "s (granularity, bucket_start, mutant_count, human_count) "
+                    + "ON t.granularity = s.granularity AND t.bucket_start = s.bucket_start "
+                    + "WHEN MATCHED THEN UPDATE SET mutant_count = t.mutant_count + s.mutant_count, "
+                    + "human_count = t.human_count + s.human_count "
+                    + "WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, mutant_count, human_count) "
+                    + "VALUES (s.granularity, s.bucket_start, s.mutant_count, s.human_count)";
+
+    static final String SUM_SQL =
+            "SELECT COALESCE(SUM(mutant_count), 0), COALESCE(SUM(human_count), 0) FROM dna_stats_buckets WHERE ";
+
+    static final String SEGMENT_SQL = "(granularity = ? AND bucket_start >= ? AND bucket_start < ?)";
+
+    static final String PURGE_SQL = "DELETE FROM dna_stats_buckets WHERE granularity = ? AND bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DnaVerdictStore store;
+    private final TransactionTemplate transactionTemplate;
+    private final StatsProperties.Rollup properties;
+    private final ThreadFactory threadFactory;
+    private final Clock clock;
+
+    /**
+     * Lock de lectura para registrar inserts, de escritura solo para
+     * reemplazar el mapa de minutos al volcarlo (sin esperar a la BD).
+     */
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    /**
+     * Lock de lectura para consultar, de escritura para volcar: una consulta
+     * nunca ve un minuto a la vez en memoria y en la tabla.
+     */
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    private final ReentrantLock purgeLock = new ReentrantLock();
+
+    private volatile Map<Long, Counts> current = new ConcurrentHashMap<>();
+    private volatile Map<Long, Counts> flushing;
+    private long lastMinuteCutoff = Long.MIN_VALUE;
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public DnaStatsRollup(JdbcTemplate jdbcTemplate,
+                          DnaVerdictStore store,
+                          PlatformTransactionManager transactionManager,
+                          StatsProperties properties,
+                          ThreadFactory ioThreadFactory) {
+        this(jdbcTemplate, store, transactionManager, properties, ioThreadFactory, Clock.systemUTC());
+    }
+
+    DnaStatsRollup(JdbcTemplate jdbcTemplate,
+                   DnaVerdictStore store,
+                   PlatformTransactionManager transactionManager,
+                   StatsProperties properties,
+                   ThreadFactory ioThreadFactory,
+                   Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.store = store;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties.getRollup();
+        this.threadFactory = ioThreadFactory;
+        this.clock = clock;
+    }
+
+    /**
+     * Completa los buckets desde el índice si la tabla está vacía e inicia
+     * el volcado periódico (virtual si spring.threads.virtual.enabled=true).
+     */
+    @PostConstruct
+    public void start() {
+        backfill();
+
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        flusher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        flusher.scheduleWithFixedDelay(this::flushAndPurge, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene el volcado periódico y vuelca lo acumulado, antes de que
+     * Spring cierre el DataSource.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(properties.getFlushInterval().toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+        flush();
+    }
+
+    /**
+     * Registra inserts confirmados en el minuto actual.
+     *
+     * @param mutantCount Mutantes insertados
+     * @param humanCount Humanos insertados
+     */
+    public void record(long mutantCount, long humanCount) {
+        if (mutantCount == 0 && humanCount == 0) {
+            return;
+        }
+        long minute = Granularity.MINUTE.floor(clock.instant().getEpochSecond());
+
+        swapLock.readLock().lock();
+        try {
+            current.computeIfAbsent(minute, k -> new Counts()).add(mutantCount, humanCount);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Suma los buckets del rango [from, to), redondeado al minuto.
+     *
+     * @param from Inicio del rango (inclusive), o null para desde el principio
+     * @param to Fin del rango (exclusivo), o null para hasta ahora
+     * @return StatsResponse con los contadores y el ratio del rango
+     */
+    public StatsResponse query(Instant from, Instant to) {
+        long now = clock.instant().getEpochSecond();
+        long start = from != null ? Granularity.MINUTE.floor(from.getEpochSecond()) : 0;
+        long end = Granularity.MINUTE.floor((to != null ? to.getEpochSecond() : now) + Granularity.MINUTE.getSeconds() - 1);
+        List<Segment> segments = segments(start, end, minuteCutoff(now), hourCutoff(now));
+
+        flushLock.readLock().lock();
+        try {
+            long[] counts = sumBuckets(segments);
+            addPending(counts, flushing, start, end);
+            addPending(counts, current, start, end);
+            return StatsResponse.of(counts[0], counts[1]);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Vuelca a la tabla los minutos acumulados en memoria. Si la BD falla,
+     * se reintentan en el próximo volcado.
+     */
+    void flush() {
+        flushLock.writeLock().lock();
+        try {
+            if (flushing == null) {
+                swapLock.writeLock().lock();
+                try {
+                    if (current.isEmpty()) {
+                        return;
+                    }
+                    flushing = current;
+                    current = new ConcurrentHashMap<>();
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            }
+
+            Map<Long, long[]> minutes = new HashMap<>();
+            flushing.forEach((minute, counts) -> minutes.put(minute, counts.toArray()));
+            writeBuckets(minutes);
+            flushing = null;
+        } catch (DataAccessException | TransactionException e) {
+            log.error("DNA stats rollup flush failed, retrying on next interval", e);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Borra los buckets por minuto y por hora fuera de su retención.
+     */
+    void purge() {
+        purgeLock.lock();
+        try {
+            long now = clock.instant().getEpochSecond();
+            long minuteCutoff = minuteCutoff(now);
+            if (minuteCutoff <= lastMinuteCutoff) {
+                return; // La retención se mide en minutos: nada nuevo que borrar
+            }
+            int minutes = jdbcTemplate.update(PURGE_SQL, Granularity.MINUTE.name(), minuteCutoff);
+            int hours = jdbcTemplate.update(PURGE_SQL, Granularity.HOUR.name(), hourCutoff(now));
+            lastMinuteCutoff = minuteCutoff;
+            log.debug("DNA stats rollup purged {} minute and {} hour buckets", minutes, hours);
+        } catch (DataAccessException e) {
+            log.error("DNA stats rollup purge failed", e);
+        } finally {
+            purgeLock.unlock();
+        }
+    }
+
+    /**
+     * Cubre [from, to) con la menor cantidad de rangos de buckets: días
+     * completos, luego horas completas y minutos en los bordes. Un rango
+     * más viejo que la retención de su granularidad se reemplaza por el
+     * bucket más grueso que lo contiene.
+     *
+     * @param from Inicio en segundos desde epoch (múltiplo de 60)
+     * @param to Fin exclusivo en segundos desde epoch (múltiplo de 60)
+     * @param minuteCutoff Inicio del bucket por minuto más viejo retenido
+     * @param hourCutoff Inicio del bucket por hora más viejo retenido
+     * @return Rangos disjuntos de a pares (a lo sumo 5)
+     */
+    static List<Segment> segments(long from, long to, long minuteCutoff, long hourCutoff) {
+        List<Segment> exact = new ArrayList<>();
+        cover(from, to, Granularity.DAY, exact);
+
+        List<Segment> downsampled = new ArrayList<>(exact.size());
+        for (Segment segment : exact) {
+            downsampled.add(segment.downsample(minuteCutoff, hourCutoff));
+        }
+
+        // Se redondea después de cubrir: un borde redondeado al día (o a la
+        // hora) ya incluye los rangos más finos de ese bucket, y dos bordes
+        // pueden redondearse al mismo bucket. Se consulta cada bucket una vez
+        Set<Segment> segments = new LinkedHashSet<>();
+        for (Segment segment : downsampled) {
+            if (!coveredByCoarser(segment, downsampled)) {
+                segments.add(segment);
+            }
+        }
+        return new ArrayList<>(segments);
+    }
+
+    /**
+     * Un rango de cover() queda dentro de un solo bucket de la granularidad
+     * siguiente, y los rangos más gruesos son uniones de buckets completos:
+     * o lo contienen entero o no se solapan.
+     */
+    private static boolean coveredByCoarser(Segment segment, List<Segment> segments) {
+        for (Segment other : segments) {
+            if (other.granularity().compareTo(segment.granularity()) > 0 && other.contains(segment)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cada rango de una granularidad fina queda dentro de un solo bucket de
+     * la siguiente, lo que permite redondearlo sin solaparse con otro.
+     */
+    private static void cover(long from, long to, Granularity granularity, List<Segment> out) {
+        if (from >= to) {
+            return;
+        }
+        if (granularity == Granularity.MINUTE) {
+            out.add(new Segment(granularity, from, to));
+            return;
+        }
+
+        Granularity finer = granularity == Granularity.DAY ? Granularity.HOUR : Granularity.MINUTE;
+        long size = granularity.getSeconds();
+        long first = granularity.floor(from + size - 1);
+        long last = granularity.floor(to);
+        if (first > last) {
+            cover(from, to, finer, out); // Sin límite de bucket dentro del rango
+            return;
+        }
+        if (first < last) {
+            out.add(new Segment(granularity, first, last));
+        }
+        cover(from, first, finer, out);
+        cover(last, to, finer, out);
+    }
+
+    private long[] sumBuckets(List<Segment> segments) {
+        if (segments.isEmpty()) {
+            return new long[2];
+        }
+
+        StringBuilder sql = new StringBuilder(SUM_SQL);
+        Object[] args = new Object[segments.size() * 3];
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            sql.append(i == 0 ? "" : " OR ").append(SEGMENT_SQL);
+            args[i * 3] = segment.granularity().name();
+            args[i * 3 + 1] = segment.from();
+            args[i * 3 + 2] = segment.to();
+        }
+        return jdbcTemplate.queryForObject(sql.toString(),
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, args);
+    }
+
+    private static void addPending(long[] counts, Map<Long, Counts> pending, long from, long to) {
+        if (pending == null) {
+            return;
+        }
+        pending.forEach((minute, minuteCounts) -> {
+            if (minute >= from && minute < to) {
+                counts[0] += minuteCounts.mutants.sum();
+                counts[1] += minuteCounts.humans.sum();
+            }
+        });
+    }
+
+    /**
+     * Suma los conteos por minuto a sus buckets de minuto, hora y día en una
+     * sola transacción.
+     */
+    private void writeBuckets(Map<Long, long[]> minutes) {
+        Map<Granularity, Map<Long, long[]>> levels = new HashMap<>();
+        minutes.forEach((minute, counts) -> {
+            for (Granularity granularity : Granularity.values()) {
+                long[] bucket = levels.computeIfAbsent(granularity, g -> new HashMap<>())
+                        .computeIfAbsent(granularity.floor(minute), b -> new long[2]);
+                bucket[0] += counts[0];
+                bucket[1] += counts[1];
+            }
+        });
+
+        List<Object[]> rows = new ArrayList<>();
+        levels.forEach((granularity, buckets) -> buckets.forEach((bucketStart, counts) ->
+                rows.add(new Object[]{granularity.name(), bucketStart, counts[0], counts[1]})));
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MERGE_SQL, rows));
+    }
+
+    /**
+     * Completa la tabla desde el created_at de cada registro del índice
+     * (migración de una BD anterior a los buckets, o índice mapped/sharded
+     * que sobrevive a una H2 en memoria). No hace nada si ya hay buckets.
+     */
+    private void backfill() {
+        Long buckets = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dna_stats_buckets", Long.class);
+        if (buckets != null && buckets > 0) {
+            return;
+        }
+
+        Map<Long, long[]> minutes = new HashMap<>();
+        store.forEachVerdict((isMutant, createdAtMillis) -> {
+            long minute = Granularity.MINUTE.floor(Math.floorDiv(createdAtMillis, 1000L));
+            minutes.computeIfAbsent(minute, k -> new long[2])[isMutant ? 0 : 1]++;
+        });
+        if (!minutes.isEmpty()) {
+            writeBuckets(minutes);
+            log.info("DNA stats rollup backfilled {} minute buckets from the verdict store", minutes.size());
+        }
+    }
+
+    /**
+     * Tarea periódica: una excepción no capturada cancelaría en silencio el
+     * scheduleWithFixedDelay, así que cualquier error se registra y se
+     * reintenta en el próximo intervalo.
+     */
+    private void flushAndPurge() {
+        try {
+            flush();
+            purge();
+        } catch (RuntimeException e) {
+            log.error("DNA stats rollup flush/purge failed, retrying on next interval", e);
+        }
+    }
+
+    private long minuteCutoff(long now) {
+        return Granularity.MINUTE.floor(now - properties.getMinuteRetention().toSeconds());
+    }
+
+    private long hourCutoff(long now) {
+        return Granularity.HOUR.floor(now - properties.getHourRetention().toSeconds());
+    }
+
+    /**
+     * Rango [from, to) de inicios de bucket de una granularidad.
+     */
+    record Segment(Granularity granularity, long from, long to) {
+
+        /**
+         * @return Este rango, o el bucket más grueso que lo contiene si su
+         *         granularidad ya no se retiene desde from
+         */
+        Segment downsample(long minuteCutoff, long hourCutoff) {
+            if (granularity == Granularity.MINUTE && from < minuteCutoff) {
+                return widen(Granularity.HOUR).downsample(minuteCutoff, hourCutoff);
+            }
+            if (granularity == Granularity.HOUR && from < hourCutoff) {
+                return widen(Granularity.DAY);
+            }
+            return this;
+        }
+
+        boolean contains(Segment other) {
+            return from <= other.from && other.to <= to;
+        }
+
+        private Segment widen(Granularity coarser) {
+            long start = coarser.floor(from);
+            return new Segment(coarser, start, start + coarser.getSeconds());
+        }
+    }
+
+    /**
+     * Conteos de un minuto todavía no volcado.
+     */
+    private static final class Counts {
+
+        private final LongAdder mutants = new LongAdder();
+        private final LongAdder humans = new LongAdder();
+
+        void add(long mutantCount, long humanCount) {
+            mutants.add(mutantCount);
+            humans.add(humanCount);
+        }
+
+        long[] toArray() {
+            return new long[]{mutants.sum(), humans.sum()};
+        }
+    }
+}
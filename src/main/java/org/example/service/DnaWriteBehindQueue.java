@@ -0,0 +1,263 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.config.WriteBehindProperties;
+import org.example.entity.DnaRecord;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Persistencia write-behind de resultados nuevos.
+ *
+ * MutantService encola el resultado y responde sin esperar el commit; un
+ * hilo escritor los inserta con batches JDBC cada batchSize registros o
+ * cada flushInterval, lo que ocurra primero.
+ *
+ * - Backpressure: la cola es acotada; con la cola llena el request espera
+ *   como máximo enqueueTimeout y después guarda su resultado sincrónicamente,
+ *   en un solo intento (sin los reintentos con backoff del escritor)
+ * - Visibilidad: el veredicto queda en un mapa de pendientes hasta el commit,
+ *   por lo que un ADN repetido lo encuentra aunque todavía no esté en la BD
+ * - Fallas: un batch fallido se reintenta con backoff exponencial; agotados
+ *   los reintentos se descarta, se cuenta en dna.write_behind.dropped y sus
+ *   huellas se quitan de DnaResultCache para que un ADN repetido se vuelva
+ *   a analizar y guardar en lugar de responderse desde la caché
+ * - Apagado: @PreDestroy deja de aceptar registros, detiene el hilo después
+ *   de vaciar la cola, antes de que Spring cierre el DataSource
+ *
+ * OPTIMIZACIÓN: un commit por batch en lugar de uno por ADN nuevo,
+ * fuera del camino crítico del request.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class DnaWriteBehindQueue {
+
+    private final WriteBehindProperties properties;
+    private final DnaRecordBatchInserter batchInserter;
+    private final DnaResultCache resultCache;
+    private final DnaMetrics metrics;
+    private final ThreadFactory threadFactory;
+    private final BlockingQueue<DnaRecord> queue;
+    private final Map<DnaFingerprint, Boolean> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Lock de lectura para encolar, de escritura para dejar de aceptar: una
+     * vez que running es false ningún registro entra a la cola.
+     */
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public DnaWriteBehindQueue(WriteBehindProperties properties,
+                               DnaRecordBatchInserter batchInserter,
+                               DnaResultCache resultCache,
+                               DnaMetrics metrics,
+                               ThreadFactory ioThreadFactory) {
+        this.properties = properties;
+        this.batchInserter = batchInserter;
+        this.resultCache = resultCache;
+        this.metrics = metrics;
+        this.threadFactory = ioThreadFactory;
+        this.queue = properties.isEnabled() ? new ArrayBlockingQueue<>(properties.getQueueCapacity()) : null;
+    }
+
+    /**
+     * Inicia el hilo escritor si el modo write-behind está habilitado
+     * (virtual si spring.threads.virtual.enabled=true).
+     */
+    @PostConstruct
+    public void start() {
+        if (queue == null) {
+            return;
+        }
+        running = true;
+        writer = threadFactory.newThread(this::runWriter);
+        writer.start();
+    }
+
+    /**
+     * Detiene el hilo escritor después de persistir todo lo encolado.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        stopAccepting();
+        writer.join();
+
+        // El escritor ya terminó: lo que haya quedado se guarda aquí
+        List<DnaRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining, properties.getMaxRetries());
+        }
+        log.info("DNA write-behind queue drained ({} records pending)", pending.size());
+    }
+
+    /**
+     * @return true si los resultados se persisten con write-behind
+     */
+    public boolean isEnabled() {
+        return queue != null;
+    }
+
+    /**
+     * Encola un resultado nuevo. Con la cola llena espera como máximo
+     * enqueueTimeout; si no hay lugar o la cola se está deteniendo, lo
+     * guarda de forma sincrónica con un único intento, para no sumarle al
+     * request los backoffs de los reintentos. Una huella ya pendiente no se
+     * vuelve a encolar.
+     *
+     * El llamador registra el veredicto en DnaResultCache antes de encolar:
+     * si el registro se descarta, la invalidación llega después de ese put.
+     *
+     * @param fingerprint Huella del ADN
+     * @param isMutant Veredicto
+     */
+    public void enqueue(DnaFingerprint fingerprint, boolean isMutant) {
+        if (pending.putIfAbsent(fingerprint, isMutant) != null) {
+            return;
+        }
+
+        DnaRecord record = new DnaRecord(fingerprint.toUuid(), isMutant);
+        if (!offer(record)) {
+            flush(List.of(record), 0); // Apagado en curso o cola llena: escritura sincrónica
+        }
+    }
+
+    /**
+     * Busca un veredicto encolado que todavía no fue confirmado en la BD.
+     *
+     * @param fingerprint Huella del ADN
+     * @return Veredicto pendiente, o null si no hay ninguno
+     */
+    public Boolean getPending(DnaFingerprint fingerprint) {
+        return queue != null ? pending.get(fingerprint) : null;
+    }
+
+    /**
+     * Bucle del hilo escritor: arma batches de hasta batchSize registros
+     * esperando como máximo flushInterval desde el primero.
+     */
+    private void runWriter() {
+        final int batchSize = properties.getBatchSize();
+        final long intervalNanos = properties.getFlushInterval().toNanos();
+        final List<DnaRecord> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                DnaRecord first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + intervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    DnaRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                stopAccepting(); // Se persiste lo ya tomado y se vacía la cola
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch, properties.getMaxRetries());
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Encola si la cola está aceptando registros, esperando lugar como
+     * máximo enqueueTimeout.
+     *
+     * @return false si el registro no entró a la cola
+     */
+    private boolean offer(DnaRecord record) {
+        stateLock.readLock().lock();
+        try {
+            return running && queue.offer(record, properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    private void stopAccepting() {
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserta un batch (ignorando huellas ya persistidas) y libera sus
+     * pendientes. Si la BD falla reintenta con backoff exponencial hasta
+     * maxRetries veces; los pendientes se liberan recién con el commit o al
+     * descartar el batch, que también quita sus huellas de la caché.
+     */
+    private void flush(List<DnaRecord> batch, int maxRetries) {
+        long backoffMillis = properties.getRetryBackoff().toMillis();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                batchInserter.insertAll(batch);
+                break;
+            } catch (DataAccessException e) {
+                if (attempt >= maxRetries || !sleep(backoffMillis)) {
+                    log.error("Write-behind flush of {} DNA records failed after {} attempts, dropping them",
+                            batch.size(), attempt + 1, e);
+                    metrics.recordWriteBehindDropped(batch.size());
+                    batch.forEach(record -> resultCache.invalidate(DnaFingerprint.fromUuid(record.getDnaHash())));
+                    break;
+                }
+                log.warn("Write-behind flush of {} DNA records failed, retrying in {} ms: {}",
+                        batch.size(), backoffMillis, e.getMessage());
+                backoffMillis *= 2;
+            }
+        }
+
+        for (DnaRecord record : batch) {
+            pending.remove(DnaFingerprint.fromUuid(record.getDnaHash()));
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.config.BatchProperties;
+import org.example.dto.BatchItemResult;
+import org.example.entity.DnaRecord;
+import org.example.exception.InvalidDnaException;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.engine.DnaAlphabet;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.example.service.fingerprint.DnaFingerprinter;
+import org.example.validation.DnaValidationError;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Análisis de varios ADN en un solo request (POST /mutant/batch).
+ *
+ * Mismo resultado que llamar a MutantService.analyzeDna por cada elemento,
+ * pero pagando una sola vez lo que antes se pagaba por ADN:
+ * 1. Forma y huella de cada elemento; los repetidos se agrupan por huella
+ * 2. Caché en memoria y pendientes write-behind
+ * 3. Una sola búsqueda en el índice (query IN con jpa) para las huellas
+ *    que el Bloom filter no descarta
+ * 4. Detección en paralelo de las huellas desconocidas
+ * 5. Un solo batch JDBC para los resultados nuevos
+ *
+ * Cada ADN distinto se persiste (y se cuenta en /stats) una sola vez,
+ * aunque aparezca varias veces en el batch.
+ */
+@Service
+@EnableConfigurationProperties(BatchProperties.class)
+public class MutantBatchService {
+
+    private final BatchProperties properties;
+    private final MutantDetector mutantDetector;
+    private final DnaVerdictStore store;
+    private final DnaFingerprinter fingerprinter;
+    private final DnaResultCache resultCache;
+    private final DnaHashFilter hashFilter;
+    private final DnaWriteBehindQueue writeBehindQueue;
+    private final DnaRecordBatchInserter batchInserter;
+    private final ExecutorService executor;
+
+    public MutantBatchService(BatchProperties properties,
+                              MutantDetector mutantDetector,
+                              DnaVerdictStore store,
+                              DnaFingerprinter fingerprinter,
+                              DnaResultCache resultCache,
+                              DnaHashFilter hashFilter,
+                              DnaWriteBehindQueue writeBehindQueue,
+                              DnaRecordBatchInserter batchInserter) {
+        this.properties = properties;
+        this.mutantDetector = mutantDetector;
+        this.store = store;
+        this.fingerprinter = fingerprinter;
+        this.resultCache = resultCache;
+        this.hashFilter = hashFilter;
+        this.writeBehindQueue = writeBehindQueue;
+        this.batchInserter = batchInserter;
+
+        // Detección CPU-bound: pool de plataforma acotado también con hilos virtuales
+        int threads = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("dna-batch-", 0).daemon().factory());
+    }
+
+    /**
+     * Analiza un batch de ADN.
+     *
+     * @param dnaList Secuencias de ADN
+     * @return Un resultado por elemento, en el mismo orden
+     * @throws InvalidDnaException si el batch supera mutant.batch.max-items
+     */
+    public List<BatchItemResult> analyzeBatch(List<String[]> dnaList) {
+        if (dnaList.size() > properties.getMaxItems()) {
+            throw new InvalidDnaException(
+                    "Batch too large: maximum is " + properties.getMaxItems() + " DNA sequences");
+        }
+
+        BatchItemResult[] results = new BatchItemResult[dnaList.size()];
+
+        // 1. Validar forma y agrupar por huella (ADN repetido en el batch)
+        Map<DnaFingerprint, DistinctDna> distinct = new LinkedHashMap<>();
+        for (int i = 0; i < dnaList.size(); i++) {
+            String[] dna = dnaList.get(i);
+            DnaValidationError shapeError = DnaAlphabet.checkShape(dna, mutantDetector.getMinSize());
+            if (shapeError != null) {
+                results[i] = BatchItemResult.invalid(i, shapeError.getMessage());
+                continue;
+            }
+            distinct.computeIfAbsent(fingerprinter.fingerprint(dna), fingerprint -> new DistinctDna(dna))
+                    .indices.add(i);
+        }
+
+        // 2-3. Resolver huellas conocidas: memoria primero, luego una query IN
+        resolveKnown(distinct);
+
+        // 4. Detectar en paralelo las desconocidas
+        List<DistinctDna> unknown = distinct.values().stream()
+                .filter(item -> item.verdict == null)
+                .toList();
+        analyzeAll(unknown);
+
+        // 5. Persistir los resultados nuevos válidos
+        persistNew(distinct);
+
+        for (DistinctDna item : distinct.values()) {
+            for (int index : item.indices) {
+                results[index] = item.verdict != null
+                        ? BatchItemResult.of(index, item.verdict)
+                        : BatchItemResult.invalid(index, item.error.getMessage());
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Asigna el veredicto de las huellas ya analizadas: caché en memoria,
+     * pendientes write-behind y, para las que el Bloom filter no descarta,
+     * una sola búsqueda en el índice (query IN sobre la clave primaria con jpa).
+     */
+    private void resolveKnown(Map<DnaFingerprint, DistinctDna> distinct) {
+        List<DnaFingerprint> lookup = new ArrayList<>();
+
+        for (Map.Entry<DnaFingerprint, DistinctDna> entry : distinct.entrySet()) {
+            DnaFingerprint fingerprint = entry.getKey();
+            Boolean known = resultCache.getIfPresent(fingerprint);
+            if (known == null) {
+                known = writeBehindQueue.getPending(fingerprint);
+            }
+
+            if (known != null) {
+                entry.getValue().verdict = known;
+            } else if (hashFilter.mightContain(fingerprint)) {
+                lookup.add(fingerprint);
+            }
+        }
+
+        if (lookup.isEmpty()) {
+            return;
+        }
+
+        Map<DnaFingerprint, Boolean> found = store.findVerdicts(lookup);
+        found.forEach((fingerprint, isMutant) -> {
+            distinct.get(fingerprint).verdict = isMutant;
+            resultCache.put(fingerprint, isMutant);
+        });
+        for (int i = found.size(); i < lookup.size(); i++) {
+            hashFilter.recordFalsePositive();
+        }
+    }
+
+    /**
+     * Valida el alfabeto y detecta en el executor; con un solo ADN se
+     * analiza en el hilo del request.
+     */
+    private void analyzeAll(List<DistinctDna> unknown) {
+        if (unknown.size() < 2) {
+            unknown.forEach(this::analyze);
+            return;
+        }
+
+        CompletableFuture.allOf(unknown.stream()
+                        .map(item -> CompletableFuture.runAsync(() -> analyze(item), executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void analyze(DistinctDna item) {
+        DnaScanResult result = mutantDetector.analyze(item.dna);
+        if (result.isValid()) {
+            item.verdict = result.isMutant();
+            item.analyzed = true;
+        } else {
+            item.error = result.error();
+        }
+    }
+
+    /**
+     * Guarda en un solo batch JDBC (o encola con write-behind) los ADN
+     * analizados en este request, y los registra en caché y Bloom filter.
+     * Con write-behind la caché se llena antes de encolar, igual que en
+     * MutantService, para que un batch descartado pueda invalidarla.
+     */
+    private void persistNew(Map<DnaFingerprint, DistinctDna> distinct) {
+        Map<DnaFingerprint, Boolean> analyzed = new LinkedHashMap<>();
+        distinct.forEach((fingerprint, item) -> {
+            if (item.analyzed) {
+                analyzed.put(fingerprint, item.verdict);
+            }
+        });
+
+        if (writeBehindQueue.isEnabled()) {
+            analyzed.forEach((fingerprint, isMutant) -> {
+                resultCache.put(fingerprint, isMutant);
+                writeBehindQueue.enqueue(fingerprint, isMutant);
+            });
+        } else {
+            List<DnaRecord> newRecords = new ArrayList<>(analyzed.size());
+            analyzed.forEach((fingerprint, isMutant) -> newRecords.add(new DnaRecord(fingerprint.toUuid(), isMutant)));
+            batchInserter.insertAll(newRecords);
+            analyzed.forEach(resultCache::put);
+        }
+
+        analyzed.forEach((fingerprint, isMutant) -> hashFilter.put(fingerprint));
+    }
+
+    /**
+     * ADN distinto del batch con las posiciones en que aparece.
+     */
+    private static final class DistinctDna {
+
+        private final String[] dna;
+        private final List<Integer> indices = new ArrayList<>(1);
+        private Boolean verdict;
+        private DnaValidationError error;
+        private boolean analyzed;
+
+        DistinctDna(String[] dna) {
+            this.dna = dna;
+        }
+    }
+}
@@ -1,170 +1,105 @@
 package org.example.service;
 
+import org.example.service.engine.DetectionEngine;
+import org.example.service.engine.DetectionRule;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.engine.FusedDetectionEngine;
+import org.example.service.engine.RollingDnaScanner;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-
 /**
  * Servicio que contiene el algoritmo CORE para detectar si un ADN es mutante.
  *
- * Un humano es mutante si encuentra MÁS DE UNA secuencia de 4 letras iguales
- * en cualquier dirección: horizontal, vertical, diagonal descendente o diagonal ascendente.
+ * Un humano es mutante si tiene al menos T secuencias de K letras iguales
+ * en cualquier dirección: horizontal, vertical, diagonal descendente o
+ * diagonal ascendente. K y T forman la DetectionRule del despliegue
+ * (mutant.detector.sequence-length y min-sequences); con la regla por
+ * defecto K=4, T=2, basta con dos secuencias de 4 letras iguales.
+ *
+ * El recorrido lo realiza un DetectionEngine configurable
+ * (ver DetectorConfig, propiedades mutant.detector.*): fused (por defecto),
+ * scalar, runlength, bitboard o vector, opcionalmente envuelto en el motor
+ * paralelo para matrices grandes.
  *
- * OPTIMIZACIONES IMPLEMENTADAS:
- * 1. Early Termination: Retorna true apenas encuentra 2 secuencias (2.4 pts)
- * 2. Conversión a char[][]: Acceso O(1) rápido (2.0 pts)
- * 3. Boundary Checking: Verifica límites antes de buscar (1.6 pts)
- * 4. Direct Comparison: Sin loops internos en checks (1.2 pts)
- * 5. Validation Set O(1): Set.of() para validación constante (0.8 pts)
+ * Motor fused (FusedDetectionEngine + RollingDnaScanner):
+ * 1. Una sola pasada por fila: valida forma y alfabeto con la tabla de
+ *    256 entradas de DnaAlphabet mientras actualiza las corridas
+ * 2. Sin copia char[][]: solo la fila anterior y contadores de corrida
+ *    por columna, diagonal y antidiagonal
+ * 3. Early Termination: al llegar a T secuencias deja de contar y solo
+ *    valida las celdas restantes
  *
- * Complejidad:
- * - Temporal: O(N²) peor caso, O(N) promedio con early termination
- * - Espacial: O(1) adicional (solo contador)
+ * Complejidad (motor fused):
+ * - Temporal: O(N²) independiente de K; cada celda se lee una vez
+ * - Espacial: O(N) adicional
  */
 @Service
 public class MutantDetector {
 
-    private static final int SEQUENCE_LENGTH = 4;
-    private static final Set<Character> VALID_BASES = Set.of('A', 'T', 'C', 'G');
+    private final DetectionEngine engine;
 
     /**
-     * Determina si un ADN es mutante.
-     *
-     * @param dna Array de Strings representando la matriz NxN de ADN
-     * @return true si es mutante (2+ secuencias), false si es humano (0-1 secuencias)
+     * Constructor por defecto: usa el motor fusionado.
      */
-    public boolean isMutant(String[] dna) {
-        // Validación inicial
-        if (!isValidDna(dna)) {
-            return false;
-        }
-
-        final int n = dna.length;
-        int sequenceCount = 0;
-
-        // OPTIMIZACIÓN #1: Conversión a char[][] para acceso O(1)
-        char[][] matrix = new char[n][];
-        for (int i = 0; i < n; i++) {
-            matrix[i] = dna[i].toCharArray();
-        }
-
-        // OPTIMIZACIÓN #2: Single Pass - recorrer UNA SOLA VEZ
-        for (int row = 0; row < n; row++) {
-            for (int col = 0; col < n; col++) {
-
-                // OPTIMIZACIÓN #3: Boundary Checking - verificar ANTES de buscar
-
-                // Búsqueda Horizontal (→)
-                if (col <= n - SEQUENCE_LENGTH) {
-                    if (checkHorizontal(matrix, row, col)) {
-                        sequenceCount++;
-                        // OPTIMIZACIÓN #1: Early Termination (CRÍTICO)
-                        if (sequenceCount > 1) return true;
-                    }
-                }
-
-                // Búsqueda Vertical (↓)
-                if (row <= n - SEQUENCE_LENGTH) {
-                    if (checkVertical(matrix, row, col)) {
-                        sequenceCount++;
-                        if (sequenceCount > 1) return true;
-                    }
-                }
-
-                // Búsqueda Diagonal Descendente (↘)
-                if (row <= n - SEQUENCE_LENGTH && col <= n - SEQUENCE_LENGTH) {
-                    if (checkDiagonalDescending(matrix, row, col)) {
-                        sequenceCount++;
-                        if (sequenceCount > 1) return true;
-                    }
-                }
-
-                // Búsqueda Diagonal Ascendente (↗)
-                if (row >= SEQUENCE_LENGTH - 1 && col <= n - SEQUENCE_LENGTH) {
-                    if (checkDiagonalAscending(matrix, row, col)) {
-                        sequenceCount++;
-                        if (sequenceCount > 1) return true;
-                    }
-                }
-            }
-        }
-
-        return false; // Solo encontró 0 o 1 secuencia
+    public MutantDetector() {
+        this(new FusedDetectionEngine());
     }
 
     /**
-     * Valida que el ADN sea correcto.
-     * OPTIMIZACIÓN #5: Usa Set.of() para validación O(1)
+     * Constructor usado por Spring con el motor configurado en DetectorConfig.
+     *
+     * @param engine Motor de detección a utilizar
      */
-    private boolean isValidDna(String[] dna) {
-        if (dna == null || dna.length == 0) {
-            return false;
-        }
-
-        final int n = dna.length;
-
-        // Validar tamaño mínimo
-        if (n < SEQUENCE_LENGTH) {
-            return false;
-        }
-
-        // Validar matriz NxN y caracteres válidos
-        for (String row : dna) {
-            if (row == null || row.length() != n) {
-                return false;
-            }
-
-            for (char c : row.toCharArray()) {
-                if (!VALID_BASES.contains(c)) {
-                    return false;
-                }
-            }
-        }
+    @Autowired
+    public MutantDetector(DetectionEngine engine) {
+        this.engine = engine;
+    }
 
-        return true;
+    /**
+     * Determina si un ADN es mutante.
+     *
+     * @param dna Array de Strings representando la matriz NxN de ADN
+     * @return true si es mutante (T+ secuencias), false si es humano (menos de T) o inválido
+     */
+    public boolean isMutant(String[] dna) {
+        return analyze(dna).isMutant();
     }
 
     /**
-     * Verifica secuencia horizontal (→).
-     * OPTIMIZACIÓN #4: Comparación directa sin loops
+     * Valida y analiza un ADN. Con el motor fused ambas cosas ocurren
+     * en la misma pasada; el resto de los motores valida antes de recorrer.
+     *
+     * @param dna Array de Strings representando la matriz NxN de ADN
+     * @return Mutante, humano o inválido con el motivo del rechazo
      */
-    private boolean checkHorizontal(char[][] matrix, int row, int col) {
-        final char base = matrix[row][col];
-        return matrix[row][col + 1] == base &&
-                matrix[row][col + 2] == base &&
-                matrix[row][col + 3] == base;
+    public DnaScanResult analyze(String[] dna) {
+        return engine.scan(dna);
     }
 
     /**
-     * Verifica secuencia vertical (↓).
-     * OPTIMIZACIÓN #4: Comparación directa sin loops
+     * @return Regla (K, T) del motor configurado
      */
-    private boolean checkVertical(char[][] matrix, int row, int col) {
-        final char base = matrix[row][col];
-        return matrix[row + 1][col] == base &&
-                matrix[row + 2][col] == base &&
-                matrix[row + 3][col] == base;
+    public DetectionRule getRule() {
+        return engine.rule();
     }
 
     /**
-     * Verifica secuencia diagonal descendente (↘).
-     * OPTIMIZACIÓN #4: Comparación directa sin loops
+     * Tamaño mínimo N de la matriz: la longitud de secuencia K.
+     *
+     * @return Tamaño mínimo para DnaAlphabet.checkShape
      */
-    private boolean checkDiagonalDescending(char[][] matrix, int row, int col) {
-        final char base = matrix[row][col];
-        return matrix[row + 1][col + 1] == base &&
-                matrix[row + 2][col + 2] == base &&
-                matrix[row + 3][col + 3] == base;
+    public int getMinSize() {
+        return engine.rule().sequenceLength();
     }
 
     /**
-     * Verifica secuencia diagonal ascendente (↗).
-     * OPTIMIZACIÓN #4: Comparación directa sin loops
+     * Crea un detector incremental con la misma regla, para ADN leído fila por fila.
+     *
+     * @param n Tamaño de la matriz
+     * @return Detector de memoria O(N)
      */
-    private boolean checkDiagonalAscending(char[][] matrix, int row, int col) {
-        final char base = matrix[row][col];
-        return matrix[row - 1][col + 1] == base &&
-                matrix[row - 2][col + 2] == base &&
-                matrix[row - 3][col + 3] == base;
+    public RollingDnaScanner newScanner(int n) {
+        return new RollingDnaScanner(n, engine.rule());
     }
-}
\ No newline at end of file
+}
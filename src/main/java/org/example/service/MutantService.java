@@ -1,106 +1,385 @@
 package org.example.service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import lombok.RequiredArgsConstructor;
+import org.example.config.SingleFlightProperties;
 import org.example.entity.DnaRecord;
+import org.example.exception.AnalysisTimeoutException;
 import org.example.exception.DnaHashCalculationException;
-import org.example.repository.DnaRecordRepository;
+import org.example.exception.InvalidDnaException;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.DnaMetrics.LookupSource;
+import org.example.service.DnaMetrics.Phase;
+import org.example.service.engine.DnaAlphabet;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.engine.DnaScanResult.Verdict;
+import org.example.service.engine.RollingDnaScanner;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.example.service.fingerprint.DnaFingerprinter;
+import org.example.validation.DnaValidationError;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
 
 /**
  * Servicio de orquestación para el análisis de ADN.
  *
  * Responsabilidades:
- * - Calcular hash SHA-256 del ADN
+ * - Validar la forma del ADN (NxN) antes de calcular la huella
+ * - Calcular la huella de 128 bits del ADN (DnaFingerprinter configurable)
  * - Verificar si el ADN ya fue analizado (caché)
- * - Invocar al MutantDetector para análisis
- * - Persistir resultados en base de datos
+ * - Invocar al MutantDetector para validar el alfabeto y analizar en una sola pasada
+ * - Persistir resultados en base de datos (insert-if-absent atómico)
  *
- * OPTIMIZACIÓN: Caché con hash SHA-256
+ * OPTIMIZACIÓN: Caché con huella de 128 bits
  * - Primera request: ~16ms (cálculo + análisis + guardado)
  * - Requests posteriores: ~1ms (solo búsqueda en BD)
  * - Mejora: 15x más rápido
+ * - Huella Murmur3 fila por fila: sin concatenar la matriz ni formatear hex
+ * - DnaResultCache en memoria delante de la BD: ADN repetido sin tocar JDBC
+ * - DnaHashFilter (Bloom filter): ADN nunca visto sin query findByDnaHash
+ * - DnaWriteBehindQueue (opcional): ADN nuevo sin esperar el commit
+ * - DnaMetrics: duración de cada fase (huella, búsqueda, detección,
+ *   guardado) y aciertos de búsqueda, sin asignar memoria por request
+ * - Single-flight: requests concurrentes con el mismo ADN nuevo esperan el
+ *   análisis del primero en lugar de repetirlo y competir por el INSERT,
+ *   con una espera máxima (mutant.single-flight.timeout)
  */
 @Service
 @RequiredArgsConstructor
+@EnableConfigurationProperties(SingleFlightProperties.class)
 public class MutantService {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Análisis en curso por huella. ConcurrentHashMap.putIfAbsent no toma
+     * un lock global: solo el bin de la huella, y nunca durante el análisis.
+     */
+    private final ConcurrentMap<DnaFingerprint, CompletableFuture<Boolean>> inFlight =
+            new ConcurrentHashMap<>();
+
     private final MutantDetector mutantDetector;
-    private final DnaRecordRepository repository;
+    private final DnaVerdictStore store;
+    private final DnaFingerprinter fingerprinter;
+    private final DnaResultCache resultCache;
+    private final DnaHashFilter hashFilter;
+    private final DnaWriteBehindQueue writeBehindQueue;
+    private final DnaRecordBatchInserter batchInserter;
+    private final DnaMetrics metrics;
+    private final SingleFlightProperties singleFlightProperties;
 
     /**
      * Analiza un ADN y retorna si es mutante.
-     * Utiliza caché basado en hash para evitar re-análisis.
+     * Utiliza caché basado en la huella del ADN para evitar re-análisis.
      *
      * @param dna Array de strings representando el ADN
      * @return true si es mutante, false si es humano
-     * @throws DnaHashCalculationException si falla el cálculo del hash
+     * @throws InvalidDnaException si el ADN no es válido
+     * @throws DnaHashCalculationException si falla el cálculo de la huella (sha256)
      */
     public boolean analyzeDna(String[] dna) {
-        // 1. Calcular hash del DNA (SHA-256)
-        String dnaHash = calculateDnaHash(dna);
+        // 1. Validar forma (NxN, N >= K) en O(N): impide que una matriz mal
+        //    formada con la misma concatenación reutilice una huella existente
+        DnaValidationError shapeError = DnaAlphabet.checkShape(dna, mutantDetector.getMinSize());
+        if (shapeError != null) {
+            metrics.recordRejection(shapeError);
+            throw new InvalidDnaException(shapeError);
+        }
 
-        // 2. Buscar en BD si ya fue analizado (caché)
-        Optional<DnaRecord> existingRecord = repository.findByDnaHash(dnaHash);
+        // 2. Calcular la huella del DNA directamente sobre las filas
+        long start = System.nanoTime();
+        DnaFingerprint fingerprint = fingerprinter.fingerprint(dna);
+        long fingerprinted = System.nanoTime();
+
+        // 3. Buscar si ya fue analizado (caché en memoria, luego BD). Solo se
+        //    persiste ADN válido, así que una huella existente implica un alfabeto válido
+        Boolean existingResult = findExistingResult(fingerprint);
+        long lookedUp = System.nanoTime();
+
+        Verdict verdict = Verdict.INVALID;
+        try {
+            boolean isMutant = existingResult != null
+                    // Ya fue analizado, retornar resultado cacheado (O(1))
+                    ? existingResult
+                    // 4. No existe en BD: validar alfabeto y analizar en una sola pasada.
+                    //    Requests concurrentes con el mismo ADN esperan al primero
+                    : singleFlight(fingerprint, () -> analyzeAndSave(dna, fingerprint));
+            verdict = DnaMetrics.verdict(isMutant);
+            return isMutant;
+        } finally {
+            // Las fases previas se etiquetan con el veredicto final del request
+            metrics.recordPhase(Phase.FINGERPRINT, dna.length, verdict, fingerprinted - start);
+            metrics.recordPhase(Phase.LOOKUP, dna.length, verdict, lookedUp - fingerprinted);
+        }
+    }
 
-        if (existingRecord.isPresent()) {
-            // Ya fue analizado, retornar resultado cacheado (O(1))
-            return existingRecord.get().isMutant();
+    /**
+     * Valida el alfabeto, analiza y persiste un ADN nuevo, midiendo ambas fases.
+     */
+    private boolean analyzeAndSave(String[] dna, DnaFingerprint fingerprint) {
+        long start = System.nanoTime();
+        DnaScanResult result = mutantDetector.analyze(dna);
+        long analyzed = System.nanoTime();
+        metrics.recordDetection(dna.length, result, analyzed - start);
+        if (!result.isValid()) {
+            throw new InvalidDnaException(result.error());
         }
 
-        // 3. No existe en BD, analizar con el algoritmo
-        boolean isMutant = mutantDetector.isMutant(dna);
+        // 5. Guardar resultado en BD para futuros requests
+        saveResult(fingerprint, result.isMutant());
+        metrics.recordPhase(Phase.PERSIST, dna.length, result.verdict(), System.nanoTime() - analyzed);
+        return result.isMutant();
+    }
+
+    /**
+     * Analiza un ADN leyendo el body JSON {"dna": [...]} fila por fila.
+     *
+     * A diferencia de analyzeDna, nunca construye el String[] completo:
+     * cada fila se valida, se pasa a un RollingDnaScanner (memoria O(N)) y
+     * se agrega a la huella de forma incremental. La huella resultante es
+     * idéntica a la de analyzeDna, por lo que ambos caminos comparten caché.
+     *
+     * Una vez encontradas T secuencias las filas restantes solo se validan y
+     * se agregan a la huella: ambos son necesarios para responder 400 ante ADN
+     * inválido y para persistir el resultado.
+     *
+     * @param body Body del request
+     * @return true si es mutante, false si es humano
+     * @throws InvalidDnaException si el JSON o la secuencia de ADN no son válidos
+     * @throws IOException si falla la lectura del body
+     */
+    public boolean analyzeDnaStream(InputStream body) throws IOException {
+        DnaFingerprinter.Hasher hasher = fingerprinter.newHasher();
+        RollingDnaScanner scanner = null;
 
-        // 4. Guardar resultado en BD para futuros requests
-        DnaRecord record = new DnaRecord(dnaHash, isMutant);
-        repository.save(record);
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            moveToDnaArray(parser);
 
-        return isMutant;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                String row = readRow(parser, token);
+
+                if (scanner == null) {
+                    if (row == null) {
+                        throw new InvalidDnaException(DnaValidationError.NULL_ROW);
+                    }
+                    scanner = mutantDetector.newScanner(row.length());
+                }
+                DnaValidationError error = scanner.accept(row);
+                if (error != null) {
+                    throw new InvalidDnaException(error);
+                }
+                hasher.putRow(row);
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidDnaException("Malformed JSON: " + e.getOriginalMessage(), e);
+        }
+
+        if (scanner == null) {
+            throw new InvalidDnaException(DnaValidationError.EMPTY_DNA);
+        }
+        DnaValidationError error = scanner.finish();
+        if (error != null) {
+            throw new InvalidDnaException(error);
+        }
+
+        DnaFingerprint fingerprint = hasher.finish();
+        Boolean existingResult = findExistingResult(fingerprint);
+        if (existingResult != null) {
+            return existingResult;
+        }
+
+        boolean isMutant = scanner.isMutant();
+        return singleFlight(fingerprint, () -> {
+            saveResult(fingerprint, isMutant);
+            return isMutant;
+        });
     }
 
     /**
-     * Calcula el hash SHA-256 de una secuencia de ADN.
-     * El hash se utiliza como identificador único para deduplicación.
+     * Ejecuta el análisis y guardado de una huella nueva una sola vez aunque
+     * lleguen varios requests concurrentes con el mismo ADN: el primero
+     * registra un future en inFlight y lo ejecuta; los demás esperan ese
+     * future y reciben el mismo veredicto (o la misma InvalidDnaException),
+     * como mucho durante mutant.single-flight.timeout.
      *
-     * Proceso:
-     * 1. Concatenar array: ["ATGC","CAGT"] → "ATGCCAGT"
-     * 2. Aplicar SHA-256
-     * 3. Convertir a hexadecimal (64 caracteres)
+     * @param fingerprint Huella del ADN
+     * @param analysis Análisis y guardado, ejecutado solo por el primer request
+     * @return Veredicto del ADN
+     */
+    private boolean singleFlight(DnaFingerprint fingerprint, BooleanSupplier analysis) {
+        CompletableFuture<Boolean> flight = new CompletableFuture<>();
+        CompletableFuture<Boolean> leader = inFlight.putIfAbsent(fingerprint, flight);
+        if (leader != null) {
+            return await(leader);
+        }
+
+        try {
+            // Un análisis anterior pudo terminar entre findExistingResult y putIfAbsent
+            Boolean known = findInMemory(fingerprint);
+            boolean isMutant = known != null ? known : analysis.getAsBoolean();
+            flight.complete(isMutant);
+            return isMutant;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fingerprint, flight);
+        }
+    }
+
+    /**
+     * Espera el análisis en curso de otro request, propagando su excepción.
      *
-     * @param dna Array de strings del ADN
-     * @return Hash SHA-256 en formato hexadecimal (64 caracteres)
-     * @throws DnaHashCalculationException si SHA-256 no está disponible
+     * @throws AnalysisTimeoutException si no termina dentro del timeout o se
+     *         interrumpe la espera
      */
-    private String calculateDnaHash(String[] dna) {
+    private boolean await(CompletableFuture<Boolean> leader) {
+        Duration timeout = singleFlightProperties.getTimeout();
         try {
-            // Inicializar algoritmo SHA-256
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return leader.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new AnalysisTimeoutException(
+                    "Concurrent analysis of the same DNA did not finish within " + timeout, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AnalysisTimeoutException("Interrupted while waiting for a concurrent analysis of the same DNA", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Busca el veredicto de una huella: primero en la caché en memoria, luego
+     * entre los pendientes del write-behind y, si no está, en la BD
+     * (cargándolo en la caché). Si el Bloom filter indica que la huella nunca
+     * se persistió, la BD no se consulta.
+     *
+     * @param fingerprint Huella del ADN
+     * @return Veredicto almacenado, o null si el ADN nunca fue analizado
+     */
+    private Boolean findExistingResult(DnaFingerprint fingerprint) {
+        Boolean cached = resultCache.getIfPresent(fingerprint);
+        if (cached != null) {
+            metrics.recordLookup(LookupSource.CACHE);
+            return cached;
+        }
+
+        Boolean pending = writeBehindQueue.getPending(fingerprint);
+        if (pending != null) {
+            metrics.recordLookup(LookupSource.PENDING);
+            return pending;
+        }
+
+        if (!hashFilter.mightContain(fingerprint)) {
+            metrics.recordLookup(LookupSource.FILTER);
+            return null; // Definitivamente nuevo: sin query a la BD
+        }
+
+        Boolean stored = store.findVerdict(fingerprint);
+        if (stored == null) {
+            metrics.recordLookup(LookupSource.DATABASE_MISS);
+            hashFilter.recordFalsePositive();
+            return null;
+        }
+
+        metrics.recordLookup(LookupSource.DATABASE);
+        resultCache.put(fingerprint, stored);
+        return stored;
+    }
+
+    /**
+     * Busca el veredicto en memoria: caché y pendientes del write-behind.
+     *
+     * @param fingerprint Huella del ADN
+     * @return Veredicto conocido, o null si no está en memoria
+     */
+    private Boolean findInMemory(DnaFingerprint fingerprint) {
+        Boolean cached = resultCache.getIfPresent(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+        return writeBehindQueue.getPending(fingerprint);
+    }
 
-            // Concatenar todo el array en un solo string
-            String dnaString = String.join("", dna);
+    /**
+     * Persiste un veredicto nuevo y lo registra en la caché y en el Bloom filter.
+     * Con write-behind habilitado solo se encola; el commit ocurre en batch, y
+     * la caché se llena antes de encolar para que un batch descartado pueda
+     * invalidarla.
+     *
+     * Sin write-behind se escribe con un único MERGE (insert-if-absent): si otra
+     * instancia insertó la misma huella primero no hay violación de clave ni
+     * se cuenta dos veces, y tampoco hay SELECT ni flush de Hibernate previos.
+     */
+    private void saveResult(DnaFingerprint fingerprint, boolean isMutant) {
+        if (writeBehindQueue.isEnabled()) {
+            resultCache.put(fingerprint, isMutant);
+            writeBehindQueue.enqueue(fingerprint, isMutant);
+        } else {
+            batchInserter.insertIfAbsent(new DnaRecord(fingerprint.toUuid(), isMutant));
+            resultCache.put(fingerprint, isMutant);
+        }
+        hashFilter.put(fingerprint);
+    }
 
-            // Calcular hash
-            byte[] hashBytes = digest.digest(dnaString.getBytes(StandardCharsets.UTF_8));
+    /**
+     * Avanza el parser hasta el inicio del array "dna", ignorando otros campos.
+     */
+    private void moveToDnaArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new InvalidDnaException("Malformed JSON: expected an object with a \"dna\" array");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
 
-            // Convertir bytes a hexadecimal
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
+            if ("dna".equals(field)) {
+                if (value == JsonToken.VALUE_NULL) {
+                    throw new InvalidDnaException(DnaValidationError.NULL_DNA);
                 }
-                hexString.append(hex);
+                if (value != JsonToken.START_ARRAY) {
+                    throw new InvalidDnaException("Malformed JSON: \"dna\" must be an array of strings");
+                }
+                return;
             }
+            parser.skipChildren();
+        }
 
-            return hexString.toString();
+        throw new InvalidDnaException(DnaValidationError.NULL_DNA);
+    }
 
-        } catch (NoSuchAlgorithmException e) {
-            throw new DnaHashCalculationException(
-                    "Error calculating DNA hash: SHA-256 algorithm not available", e);
+    /**
+     * Lee la fila actual del array "dna" (null si el elemento es null).
+     */
+    private String readRow(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
         }
+        throw new InvalidDnaException("Malformed JSON: \"dna\" must be an array of strings");
     }
-}
\ No newline at end of file
+}
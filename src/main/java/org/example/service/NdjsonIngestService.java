@@ -0,0 +1,216 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+import org.example.config.BatchProperties;
+import org.example.dto.BatchItemResult;
+import org.example.dto.DnaRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Ingesta masiva NDJSON (POST /mutant/ndjson): una línea {"dna": [...]} por
+ * ADN en el request y una línea de resultado por ADN en la respuesta.
+ *
+ * Las líneas se leen y se analizan en bloques de ndjsonChunkSize con
+ * MutantBatchService (dedupe, una query IN, detección en paralelo y un batch
+ * JDBC por bloque), y el resultado de cada bloque se escribe y se envía
+ * antes de leer el siguiente. Cada línea se lee con un largo máximo
+ * (ndjsonMaxLineLength): una línea más larga se consume sin guardarla.
+ *
+ * Backpressure: lectura, análisis y escritura son sincrónicos en el hilo
+ * del request. Si el pipeline se atrasa el body deja de leerse y el buffer
+ * TCP frena al productor; si el cliente no lee la respuesta, la escritura
+ * bloquea y se deja de leer el body. La memoria queda acotada a un bloque.
+ */
+@Service
+@RequiredArgsConstructor
+public class NdjsonIngestService {
+
+    private final BatchProperties properties;
+    private final MutantBatchService batchService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Analiza el body NDJSON y escribe los resultados a medida que se obtienen.
+     *
+     * Un bloque se procesa cuando se llena o al terminar el body.
+     *
+     * @param body Body del request (una línea JSON por ADN)
+     * @param output Body de la respuesta (una línea JSON por resultado)
+     * @return Cantidad de líneas procesadas
+     * @throws IOException si falla la lectura o la escritura
+     */
+    public long analyze(InputStream body, OutputStream output) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(DnaRequest.class);
+        int chunkSize = Math.min(properties.getNdjsonChunkSize(), properties.getMaxItems());
+        BoundedLineReader lines = new BoundedLineReader(
+                new InputStreamReader(body, StandardCharsets.UTF_8), properties.getNdjsonMaxLineLength());
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        String text;
+        while ((text = lines.readLine()) != null) {
+            if (lines.isTooLong()) {
+                chunk.add(new Line(index++, null,
+                        "Line too long: maximum is " + properties.getNdjsonMaxLineLength() + " characters"));
+            } else if (!text.isBlank()) {
+                chunk.add(parse(reader, index++, text));
+            }
+
+            if (chunk.size() >= chunkSize) {
+                writeChunk(chunk, output);
+                chunk.clear();
+            }
+        }
+        writeChunk(chunk, output);
+
+        return index;
+    }
+
+    private Line parse(ObjectReader reader, int index, String text) {
+        try {
+            DnaRequest request = reader.readValue(text);
+            if (request == null) {
+                return new Line(index, null, "Malformed JSON: expected an object, got null");
+            }
+            return new Line(index, request.getDna(), null);
+        } catch (JsonProcessingException e) {
+            return new Line(index, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Analiza un bloque como batch y escribe un resultado por línea, en orden.
+     */
+    private void writeChunk(List<Line> chunk, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<String[]> dnaList = chunk.stream()
+                .filter(line -> line.error() == null)
+                .map(Line::dna)
+                .toList();
+        Iterator<BatchItemResult> verdicts = batchService.analyzeBatch(dnaList).iterator();
+
+        for (Line line : chunk) {
+            BatchItemResult result = line.error() != null
+                    ? BatchItemResult.invalid(line.index(), line.error())
+                    : verdicts.next();
+            result.setIndex(line.index());
+
+            output.write(objectMapper.writeValueAsBytes(result));
+            output.write('\n');
+        }
+        output.flush();
+    }
+
+    /**
+     * Línea del body: ADN leído o error de parseo.
+     */
+    private record Line(int index, String[] dna, String error) {
+    }
+
+    /**
+     * Lector de líneas con largo máximo: nunca guarda más de maxLength
+     * caracteres de una línea. Acepta \n y \r\n como fin de línea.
+     */
+    private static final class BoundedLineReader {
+
+        private final Reader in;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean tooLong;
+
+        BoundedLineReader(Reader in, int maxLength) {
+            this.in = in;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * @return La siguiente línea (vacía si superó el largo máximo), o
+         *         null al final del body
+         */
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+
+            while (true) {
+                if (position == limit) {
+                    limit = in.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        break;
+                    }
+                }
+                read = true;
+
+                int end = position;
+                while (end < limit && buffer[end] != '\n') {
+                    end++;
+                }
+                append(position, end);
+                if (end < limit) {
+                    position = end + 1;
+                    break;
+                }
+                position = limit;
+            }
+            if (!read) {
+                return null;
+            }
+
+            int length = line.length();
+            if (length > 0 && line.charAt(length - 1) == '\r') {
+                line.setLength(length - 1);
+            } else if (length > maxLength) {
+                markTooLong();
+            }
+            return line.toString();
+        }
+
+        /**
+         * @return true si la última línea leída superó el largo máximo
+         */
+        boolean isTooLong() {
+            return tooLong;
+        }
+
+        /**
+         * Guarda hasta maxLength + 1 caracteres (lugar para un \r final);
+         * pasado ese largo se descarta el resto de la línea.
+         */
+        private void append(int from, int to) {
+            if (tooLong) {
+                return;
+            }
+            if (line.length() + (to - from) > maxLength + 1) {
+                markTooLong();
+                return;
+            }
+            line.append(buffer, from, to - from);
+        }
+
+        private void markTooLong() {
+            tooLong = true;
+            line.setLength(0);
+        }
+    }
+}
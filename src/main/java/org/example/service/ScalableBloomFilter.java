@@ -0,0 +1,195 @@
+package org.example.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bloom filter escalable (Almeida et al.) sobre claves de 128 bits.
+ *
+ * Es una serie de etapas: cuando la etapa actual alcanza su capacidad se
+ * agrega otra con el doble de capacidad y la mitad de tasa de falsos
+ * positivos, de modo que la tasa total se mantiene acotada por la tasa
+ * configurada sin conocer de antemano la cantidad de elementos.
+ *
+ * Las k posiciones de cada etapa se derivan con doble hashing
+ * (Kirsch-Mitzenmacher): h1 + i * h2. Las claves ya son hashes uniformes
+ * (bits del hash del ADN), por lo que no se vuelven a hashear.
+ *
+ * Thread-safe: los bits se encienden con CAS sobre AtomicLongArray y solo
+ * la creación de etapas toma un lock.
+ */
+public class ScalableBloomFilter {
+
+    private static final double GROWTH = 2.0;
+    private static final double TIGHTENING = 0.5;
+    private static final double LN2 = Math.log(2);
+
+    private final double falsePositiveRate;
+    private final ReentrantLock growLock = new ReentrantLock();
+    private volatile Stage[] stages;
+
+    /**
+     * @param initialCapacity Capacidad de la primera etapa
+     * @param falsePositiveRate Tasa de falsos positivos total objetivo (0 < p < 1)
+     */
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter capacity or false positive rate");
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        // La serie geométrica p0 * (1 + r + r² + ...) converge a p0 / (1 - r) = p
+        this.stages = new Stage[]{new Stage(initialCapacity, falsePositiveRate * (1 - TIGHTENING))};
+    }
+
+    /**
+     * Agrega una clave al filtro.
+     */
+    public void put(long h1, long h2) {
+        Stage[] current = stages;
+        Stage last = current[current.length - 1];
+        if (last.isFull()) {
+            last = grow(current);
+        }
+        last.put(h1, h2);
+    }
+
+    /**
+     * @return false si la clave definitivamente no fue agregada; true si puede haberlo sido
+     */
+    public boolean mightContain(long h1, long h2) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Cantidad de claves agregadas
+     */
+    public long size() {
+        long total = 0;
+        for (Stage stage : stages) {
+            total += stage.count.get();
+        }
+        return total;
+    }
+
+    /**
+     * @return Cantidad de etapas
+     */
+    public int stageCount() {
+        return stages.length;
+    }
+
+    /**
+     * @return Bytes ocupados por los bits de todas las etapas
+     */
+    public long bitSizeBytes() {
+        long total = 0;
+        for (Stage stage : stages) {
+            total += (long) stage.bits.length() * Long.BYTES;
+        }
+        return total;
+    }
+
+    /**
+     * @return Tasa de falsos positivos configurada
+     */
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Tasa de falsos positivos esperada con la carga actual:
+     * 1 - Π(1 - (1 - e^(-k·n/m))^k) sobre todas las etapas.
+     */
+    public double expectedFalsePositiveRate() {
+        double allNegative = 1.0;
+        for (Stage stage : stages) {
+            double fill = 1 - Math.exp(-(double) stage.hashes * stage.count.get() / stage.bitCount);
+            allNegative *= 1 - Math.pow(fill, stage.hashes);
+        }
+        return 1 - allNegative;
+    }
+
+    private Stage grow(Stage[] observed) {
+        growLock.lock();
+        try {
+            Stage[] current = stages;
+            Stage last = current[current.length - 1];
+            if (current != observed || !last.isFull()) {
+                return last; // Otro hilo ya agregó la etapa
+            }
+
+            Stage next = new Stage((long) (last.capacity * GROWTH), last.fpp * TIGHTENING);
+            Stage[] grown = new Stage[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[current.length] = next;
+            stages = grown;
+            return next;
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    /**
+     * Etapa individual: Bloom filter clásico dimensionado para capacity y fpp.
+     */
+    private static final class Stage {
+
+        private final long capacity;
+        private final double fpp;
+        private final long bitCount;
+        private final int hashes;
+        private final AtomicLongArray bits;
+        private final AtomicLong count = new AtomicLong();
+
+        Stage(long capacity, double fpp) {
+            this.capacity = capacity;
+            this.fpp = fpp;
+            // m = -n·ln(p) / ln(2)², k = m/n · ln(2)
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(fpp) / (LN2 * LN2));
+            int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) >>> 6);
+            this.bitCount = (long) words * 64;
+            this.hashes = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+            this.bits = new AtomicLongArray(words);
+        }
+
+        boolean isFull() {
+            return count.get() >= capacity;
+        }
+
+        void put(long h1, long h2) {
+            long combined = h1;
+            for (int i = 0; i < hashes; i++) {
+                long index = Long.remainderUnsigned(combined, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value;
+                do {
+                    value = bits.get(word);
+                    if ((value & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, value, value | mask));
+                combined += h2;
+            }
+            count.incrementAndGet();
+        }
+
+        boolean mightContain(long h1, long h2) {
+            long combined = h1;
+            for (int i = 0; i < hashes; i++) {
+                long index = Long.remainderUnsigned(combined, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+                combined += h2;
+            }
+            return true;
+        }
+    }
+}
@@ -2,9 +2,12 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.dto.StatsResponse;
-import org.example.repository.DnaRecordRepository;
+import org.example.exception.InvalidStatsRangeException;
+import org.example.repository.DnaVerdictStore;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 /**
  * Servicio para calcular estadísticas de verificaciones de ADN.
  *
@@ -13,16 +16,21 @@ import org.springframework.stereotype.Service;
  * - Cantidad de humanos
  * - Ratio (mutantes / humanos)
  *
- * OPTIMIZACIÓN: Usa índices en BD
- * - countByIsMutant() usa idx_is_mutant
- * - Complejidad: O(1) por índice
- * - Sin índice sería O(N) con full table scan
+ * OPTIMIZACIÓN: Contadores en memoria (DnaStatsCounter)
+ * - Complejidad: O(1), independiente del tamaño de dna_records
+ * - Modo estricto (mutant.stats.strict): recuenta con countVerdicts() del
+ *   índice (con jpa recorre idx_is_mutant en O(N); con sharded suma los
+ *   COUNT de todos los shards, consultados en paralelo), para auditoría
+ * - Por rango de tiempo: suma de buckets por minuto/hora/día (DnaStatsRollup),
+ *   proporcional a la cantidad de buckets y no de filas
  */
 @Service
 @RequiredArgsConstructor
 public class StatsService {
 
-    private final DnaRecordRepository repository;
+    private final DnaVerdictStore store;
+    private final DnaStatsCounter statsCounter;
+    private final DnaStatsRollup statsRollup;
 
     /**
      * Obtiene estadísticas de todas las verificaciones de ADN.
@@ -30,37 +38,39 @@ public class StatsService {
      * @return StatsResponse con contadores y ratio
      */
     public StatsResponse getStats() {
-        // Contar mutantes (usa índice idx_is_mutant para O(1))
-        long countMutant = repository.countByIsMutant(true);
-
-        // Contar humanos (usa índice idx_is_mutant para O(1))
-        long countHuman = repository.countByIsMutant(false);
+        long countMutant;
+        long countHuman;
 
-        // Calcular ratio
-        double ratio = calculateRatio(countMutant, countHuman);
+        if (statsCounter.isStrict()) {
+            // Recuento exacto sobre la tabla (O(N)); con shards, en paralelo
+            long[] counts = store.countVerdicts();
+            countMutant = counts[0];
+            countHuman = counts[1];
+        } else {
+            // Contadores mantenidos en cada insert (O(1))
+            countMutant = statsCounter.getMutantCount();
+            countHuman = statsCounter.getHumanCount();
+        }
 
-        return new StatsResponse(countMutant, countHuman, ratio);
+        return StatsResponse.of(countMutant, countHuman);
     }
 
     /**
-     * Calcula el ratio de mutantes sobre humanos.
-     *
-     * Fórmula: ratio = count_mutant_dna / count_human_dna
+     * Obtiene estadísticas de las verificaciones insertadas en [from, to).
+     * Sin ninguno de los dos límites equivale a getStats().
      *
-     * Casos especiales:
-     * - Si no hay humanos (división por 0): retorna número de mutantes o 0
-     * - Si no hay ninguno: retorna 0.0
-     *
-     * @param countMutant Cantidad de mutantes
-     * @param countHuman Cantidad de humanos
-     * @return Ratio calculado
+     * @param from Inicio del rango (inclusive), o null para desde el principio
+     * @param to Fin del rango (exclusivo), o null para hasta ahora
+     * @return StatsResponse con contadores y ratio del rango
+     * @throws InvalidStatsRangeException si from es posterior a to
      */
-    private double calculateRatio(long countMutant, long countHuman) {
-        if (countHuman == 0) {
-            // Caso especial: no hay humanos registrados
-            return countMutant > 0 ? (double) countMutant : 0.0;
+    public StatsResponse getStats(Instant from, Instant to) {
+        if (from == null && to == null) {
+            return getStats();
         }
-
-        return (double) countMutant / countHuman;
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidStatsRangeException("'from' must not be after 'to'");
+        }
+        return statsRollup.query(from, to);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package org.example.service.engine;
+
+import org.example.validation.DnaValidationError;
+
+/**
+ * Motor de detección de secuencias mutantes.
+ *
+ * Contrato de isMutant: recibe una matriz ya validada (NxN, N >= K, solo
+ * A, T, C, G) y retorna true apenas encuentra T secuencias de K letras
+ * iguales (DetectionRule; por defecto K = 4, T = 2). Las secuencias solapadas
+ * cuentan por separado (con K = 4, AAAAA = 2 secuencias), igual que el
+ * recorrido escalar original.
+ */
+public interface DetectionEngine {
+
+    /**
+     * Determina si la matriz contiene al menos T secuencias.
+     *
+     * @param dna Matriz NxN previamente validada
+     * @return true si es mutante (T+ secuencias)
+     */
+    boolean isMutant(String[] dna);
+
+    /**
+     * @return Regla (K, T) que aplica el motor
+     */
+    default DetectionRule rule() {
+        return DetectionRule.DEFAULT;
+    }
+
+    /**
+     * Valida y analiza una matriz sin validar.
+     * Por defecto valida con DnaAlphabet (N >= K) y luego llama a isMutant;
+     * los motores que pueden validar durante el recorrido lo sobrescriben.
+     *
+     * @param dna Matriz a analizar
+     * @return Mutante, humano o inválido con motivo
+     */
+    default DnaScanResult scan(String[] dna) {
+        DnaValidationError error = DnaAlphabet.validate(dna, rule().sequenceLength());
+        if (error != null) {
+            return DnaScanResult.invalid(error);
+        }
+        return DnaScanResult.of(isMutant(dna));
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.service.engine;
+
+/**
+ * Regla de detección: un ADN es mutante si contiene al menos minSequences
+ * secuencias de sequenceLength letras iguales en cualquier dirección.
+ *
+ * La regla original ("más de una secuencia de 4 letras") es DEFAULT = (4, 2).
+ * El tamaño mínimo de la matriz sigue a sequenceLength: en una matriz de
+ * N < K no cabe ninguna secuencia.
+ *
+ * @param sequenceLength Letras iguales consecutivas que forman una secuencia (K)
+ * @param minSequences Secuencias necesarias para ser mutante (T)
+ */
+public record DetectionRule(int sequenceLength, int minSequences) {
+
+    public static final DetectionRule DEFAULT = new DetectionRule(DnaAlphabet.MIN_SIZE, 2);
+
+    /**
+     * @throws IllegalArgumentException si K < 2 o T < 1
+     */
+    public DetectionRule {
+        if (sequenceLength < 2) {
+            throw new IllegalArgumentException("sequenceLength must be at least 2: " + sequenceLength);
+        }
+        if (minSequences < 1) {
+            throw new IllegalArgumentException("minSequences must be at least 1: " + minSequences);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.service.engine;
+
+import org.example.validation.DnaValidationError;
+
+import java.util.Arrays;
+
+/**
+ * Alfabeto de bases nitrogenadas y validación de matrices de ADN.
+ *
+ * OPTIMIZACIÓN: tabla de 256 entradas indexada por carácter en lugar de
+ * regex o Set<Character> (sin boxing ni autómata por fila).
+ * BASE_CODE[c] es el código de la base (A=0, T=1, C=2, G=3) o -1 si no es válida.
+ */
+public final class DnaAlphabet {
+
+    /**
+     * Longitud de secuencia por defecto y tamaño mínimo de la matriz con la
+     * regla por defecto; con otra regla el mínimo es su sequenceLength.
+     */
+    public static final int MIN_SIZE = 4;
+
+    private static final byte[] BASE_CODE = new byte[256];
+
+    static {
+        Arrays.fill(BASE_CODE, (byte) -1);
+        BASE_CODE['A'] = 0;
+        BASE_CODE['T'] = 1;
+        BASE_CODE['C'] = 2;
+        BASE_CODE['G'] = 3;
+    }
+
+    private DnaAlphabet() {
+    }
+
+    /**
+     * @param c Carácter a evaluar
+     * @return Código de la base (A=0, T=1, C=2, G=3) o -1 si no es A, T, C, G
+     */
+    public static int code(char c) {
+        return c < 256 ? BASE_CODE[c] : -1;
+    }
+
+    /**
+     * Valida forma (no null, NxN, N >= 4) sin recorrer los caracteres: O(N).
+     *
+     * @param dna Matriz a validar
+     * @return Motivo del rechazo, o null si la forma es válida
+     */
+    public static DnaValidationError checkShape(String[] dna) {
+        return checkShape(dna, MIN_SIZE);
+    }
+
+    /**
+     * Valida forma (no null, NxN, N >= minSize) sin recorrer los caracteres: O(N).
+     *
+     * @param dna Matriz a validar
+     * @param minSize Tamaño mínimo (longitud de secuencia de la regla)
+     * @return Motivo del rechazo, o null si la forma es válida
+     */
+    public static DnaValidationError checkShape(String[] dna, int minSize) {
+        if (dna == null) {
+            return DnaValidationError.NULL_DNA;
+        }
+        if (dna.length == 0) {
+            return DnaValidationError.EMPTY_DNA;
+        }
+
+        final int n = dna.length;
+        if (n < minSize) {
+            return DnaValidationError.TOO_SMALL;
+        }
+
+        for (String row : dna) {
+            if (row == null) {
+                return DnaValidationError.NULL_ROW;
+            }
+            if (row.length() != n) {
+                return DnaValidationError.NOT_SQUARE;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Valida forma y alfabeto en una sola pasada.
+     *
+     * @param dna Matriz a validar
+     * @return Motivo del rechazo, o null si es válida
+     */
+    public static DnaValidationError validate(String[] dna) {
+        return validate(dna, MIN_SIZE);
+    }
+
+    /**
+     * Valida forma y alfabeto en una sola pasada.
+     *
+     * @param dna Matriz a validar
+     * @param minSize Tamaño mínimo (longitud de secuencia de la regla)
+     * @return Motivo del rechazo, o null si es válida
+     */
+    public static DnaValidationError validate(String[] dna, int minSize) {
+        DnaValidationError shapeError = checkShape(dna, minSize);
+        if (shapeError != null) {
+            return shapeError;
+        }
+
+        for (String row : dna) {
+            if (!isValidRow(row)) {
+                return DnaValidationError.INVALID_BASE;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param row Fila a evaluar
+     * @return true si solo contiene A, T, C, G
+     */
+    public static boolean isValidRow(String row) {
+        final int length = row.length();
+        for (int col = 0; col < length; col++) {
+            if (code(row.charAt(col)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
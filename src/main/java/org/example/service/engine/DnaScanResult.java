@@ -0,0 +1,58 @@
+package org.example.service.engine;
+
+import org.example.validation.DnaValidationError;
+
+/**
+ * Resultado del análisis de una matriz: mutante, humano o inválido con motivo.
+ *
+ * @param verdict Veredicto del análisis
+ * @param error Motivo del rechazo (solo si el veredicto es INVALID)
+ * @param cellsScanned Celdas recorridas por la detección hasta decidir
+ *                     (N² sin Early Termination), o UNKNOWN si el motor no lo reporta
+ */
+public record DnaScanResult(Verdict verdict, DnaValidationError error, long cellsScanned) {
+
+    public static final long UNKNOWN = -1;
+
+    private static final DnaScanResult MUTANT = new DnaScanResult(Verdict.MUTANT, null, UNKNOWN);
+    private static final DnaScanResult HUMAN = new DnaScanResult(Verdict.HUMAN, null, UNKNOWN);
+
+    public enum Verdict {
+        MUTANT,
+        HUMAN,
+        INVALID
+    }
+
+    /**
+     * @param isMutant true si es mutante
+     * @return Resultado válido con el veredicto correspondiente
+     */
+    public static DnaScanResult of(boolean isMutant) {
+        return isMutant ? MUTANT : HUMAN;
+    }
+
+    /**
+     * @param isMutant true si es mutante
+     * @param cellsScanned Celdas recorridas por la detección hasta decidir
+     * @return Resultado válido con el veredicto y la profundidad del recorrido
+     */
+    public static DnaScanResult of(boolean isMutant, long cellsScanned) {
+        return new DnaScanResult(isMutant ? Verdict.MUTANT : Verdict.HUMAN, null, cellsScanned);
+    }
+
+    /**
+     * @param error Motivo del rechazo
+     * @return Resultado inválido
+     */
+    public static DnaScanResult invalid(DnaValidationError error) {
+        return new DnaScanResult(Verdict.INVALID, error, UNKNOWN);
+    }
+
+    public boolean isMutant() {
+        return verdict == Verdict.MUTANT;
+    }
+
+    public boolean isValid() {
+        return verdict != Verdict.INVALID;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.service.engine;
+
+import org.example.validation.DnaValidationError;
+
+/**
+ * Motor fusionado: valida y detecta en una sola pasada por fila.
+ *
+ * Antes, cada request recorría la matriz tres veces (regex del validador,
+ * Set<Character> de isValidDna y copia char[][] del recorrido). Este motor
+ * valida forma y alfabeto con la tabla de DnaAlphabet mientras actualiza los
+ * contadores de corrida de RollingDnaScanner, sin copiar la matriz.
+ * Tras encontrar T secuencias solo resta validar las celdas restantes.
+ *
+ * Es el motor para cualquier regla (K, T): su costo no depende de K.
+ */
+public class FusedDetectionEngine implements DetectionEngine {
+
+    private final DetectionRule rule;
+
+    /**
+     * Motor con la regla por defecto (K = 4, T = 2).
+     */
+    public FusedDetectionEngine() {
+        this(DetectionRule.DEFAULT);
+    }
+
+    /**
+     * @param rule Longitud de secuencia (K) y secuencias para ser mutante (T)
+     */
+    public FusedDetectionEngine(DetectionRule rule) {
+        this.rule = rule;
+    }
+
+    @Override
+    public DetectionRule rule() {
+        return rule;
+    }
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        return scan(dna).isMutant();
+    }
+
+    @Override
+    public DnaScanResult scan(String[] dna) {
+        if (dna == null) {
+            return DnaScanResult.invalid(DnaValidationError.NULL_DNA);
+        }
+        if (dna.length == 0) {
+            return DnaScanResult.invalid(DnaValidationError.EMPTY_DNA);
+        }
+
+        RollingDnaScanner scanner = new RollingDnaScanner(dna.length, rule);
+        for (String row : dna) {
+            DnaValidationError error = scanner.accept(row);
+            if (error != null) {
+                return DnaScanResult.invalid(error);
+            }
+        }
+
+        return DnaScanResult.of(scanner.isMutant(), scanner.getCellsScanned());
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.service.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Motor paralelo fork/join para matrices muy grandes.
+ *
+ * La matriz se divide en bandas horizontales de filas que se procesan como
+ * tareas ForkJoin. Cada secuencia se asigna a su fila ancla (la fila en la que
+ * la encuentra el recorrido escalar): inicio para →, ↓ y ↘, y fila inferior
+ * para ↗. Una banda solo cuenta las secuencias ancladas en sus filas y lee
+ * hasta 3 filas de halo por encima o por debajo, por lo que las secuencias
+ * del solapamiento nunca se cuentan dos veces.
+ *
+ * Todas las bandas comparten un AtomicInteger: apenas llega a T, cada tarea
+ * abandona su banda en la siguiente fila y las pendientes no se ejecutan.
+ * Aplica la regla del motor secuencial; el recorrido de bandas está armado
+ * para K = 4 (DetectorConfig no lo usa con otra longitud de secuencia).
+ *
+ * Por debajo de {@code threshold} filas se usa el motor secuencial,
+ * para que los requests chicos no paguen el costo del fork.
+ */
+public class ParallelDetectionEngine implements DetectionEngine, AutoCloseable {
+
+    private static final int SEQUENCE_LENGTH = 4;
+    private static final int MIN_BAND_ROWS = 64;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final DetectionEngine sequential;
+    private final int minSequences;
+
+    /**
+     * @param parallelism Cantidad de hilos del pool (0 = procesadores disponibles)
+     * @param threshold Tamaño N mínimo para usar el modo paralelo
+     * @param sequential Motor usado por debajo del umbral (define la regla)
+     * @throws IllegalArgumentException si la regla del motor secuencial no usa K = 4
+     */
+    public ParallelDetectionEngine(int parallelism, int threshold, DetectionEngine sequential) {
+        if (sequential.rule().sequenceLength() != SEQUENCE_LENGTH) {
+            throw new IllegalArgumentException("ParallelDetectionEngine only supports sequenceLength " + SEQUENCE_LENGTH);
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        this.threshold = threshold;
+        this.sequential = sequential;
+        this.minSequences = sequential.rule().minSequences();
+    }
+
+    @Override
+    public DetectionRule rule() {
+        return sequential.rule();
+    }
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        final int n = dna.length;
+        if (n < threshold) {
+            return sequential.isMutant(dna);
+        }
+
+        final int bandRows = Math.max(MIN_BAND_ROWS, n / (pool.getParallelism() * 4));
+        final AtomicInteger sequenceCount = new AtomicInteger();
+
+        pool.invoke(new BandTask(dna, 0, n, bandRows, minSequences, sequenceCount));
+
+        return sequenceCount.get() >= minSequences;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Tarea que divide el rango de filas a la mitad hasta llegar al tamaño de banda.
+     */
+    private static final class BandTask extends RecursiveAction {
+
+        private final String[] dna;
+        private final int fromRow;
+        private final int toRow;
+        private final int bandRows;
+        private final int minSequences;
+        private final AtomicInteger sequenceCount;
+
+        BandTask(String[] dna, int fromRow, int toRow, int bandRows, int minSequences,
+                 AtomicInteger sequenceCount) {
+            this.dna = dna;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.bandRows = bandRows;
+            this.minSequences = minSequences;
+            this.sequenceCount = sequenceCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (sequenceCount.get() >= minSequences) {
+                return;
+            }
+
+            if (toRow - fromRow > bandRows) {
+                int mid = (fromRow + toRow) >>> 1;
+                invokeAll(new BandTask(dna, fromRow, mid, bandRows, minSequences, sequenceCount),
+                        new BandTask(dna, mid, toRow, bandRows, minSequences, sequenceCount));
+                return;
+            }
+
+            scanBand();
+        }
+
+        /**
+         * Recorre las filas ancla [fromRow, toRow) leyendo directamente de los
+         * Strings, sin copia char[][] de la banda ni del halo.
+         */
+        private void scanBand() {
+            final int n = dna.length;
+            final int lastStart = n - SEQUENCE_LENGTH;
+
+            for (int row = fromRow; row < toRow; row++) {
+                if (sequenceCount.get() >= minSequences) {
+                    return; // Otra banda ya resolvió: cancelar
+                }
+
+                final String current = dna[row];
+                final String down1 = row <= lastStart ? dna[row + 1] : null;
+                final String down2 = row <= lastStart ? dna[row + 2] : null;
+                final String down3 = row <= lastStart ? dna[row + 3] : null;
+                final String up1 = row >= SEQUENCE_LENGTH - 1 ? dna[row - 1] : null;
+                final String up2 = row >= SEQUENCE_LENGTH - 1 ? dna[row - 2] : null;
+                final String up3 = row >= SEQUENCE_LENGTH - 1 ? dna[row - 3] : null;
+
+                for (int col = 0; col < n; col++) {
+                    final char base = current.charAt(col);
+                    int found = 0;
+
+                    if (col <= lastStart
+                            && current.charAt(col + 1) == base
+                            && current.charAt(col + 2) == base
+                            && current.charAt(col + 3) == base) {
+                        found++;
+                    }
+
+                    if (down1 != null) {
+                        if (down1.charAt(col) == base
+                                && down2.charAt(col) == base
+                                && down3.charAt(col) == base) {
+                            found++;
+                        }
+                        if (col <= lastStart
+                                && down1.charAt(col + 1) == base
+                                && down2.charAt(col + 2) == base
+                                && down3.charAt(col + 3) == base) {
+                            found++;
+                        }
+                    }
+
+                    if (up1 != null && col <= lastStart
+                            && up1.charAt(col + 1) == base
+                            && up2.charAt(col + 2) == base
+                            && up3.charAt(col + 3) == base) {
+                        found++;
+                    }
+
+                    if (found > 0 && sequenceCount.addAndGet(found) >= minSequences) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.service.engine;
+
+import org.example.validation.DnaValidationError;
+
+/**
+ * Detector incremental que recibe la matriz fila por fila.
+ *
+ * En lugar de guardar la matriz completa mantiene solo la fila anterior y
+ * contadores de longitud de corrida que terminan en ella:
+ * - vertical[col]: corrida ↓ que termina en (fila anterior, col)
+ * - descending[col]: corrida ↘ que termina en (fila anterior, col)
+ * - ascending[col]: corrida ↗ que termina en (fila anterior, col)
+ * La corrida horizontal se lleva en una variable local por fila.
+ *
+ * Cada vez que una corrida alcanza longitud >= K se cuenta una secuencia,
+ * por lo que una corrida de longitud L aporta L - K + 1 secuencias: el mismo
+ * conteo de corridas solapadas que el recorrido escalar (con K = 4, AAAAA = 2).
+ *
+ * K y T (DetectionRule) son configurables: cada celda hace el mismo trabajo
+ * (un incremento y una comparación por dirección) sea cual sea K, así que el
+ * costo es O(N²) independiente de K. El recorrido corta en la celda en que
+ * el conteo llega exactamente a T.
+ *
+ * Cada fila se valida (tabla DnaAlphabet) en la misma pasada que actualiza
+ * los contadores, por lo que validación y detección leen cada celda una vez.
+ *
+ * Memoria: O(N) en lugar de O(N²). Una vez alcanzadas T secuencias las filas
+ * restantes solo se validan, sin actualizar contadores.
+ */
+public class RollingDnaScanner {
+
+    private final int n;
+    private final int sequenceLength;
+    private final int minSequences;
+    private char[] previous;
+    private char[] current;
+    private int[] vertical;
+    private int[] descending;
+    private int[] ascending;
+    private int[] nextDescending;
+    private int[] nextAscending;
+    private int rows;
+    private int sequenceCount;
+    private long decidedAtCell;
+
+    /**
+     * @param n Tamaño de la matriz (cantidad de filas, o longitud de la primera
+     *          fila si se lee en streaming)
+     */
+    public RollingDnaScanner(int n) {
+        this(n, DetectionRule.DEFAULT);
+    }
+
+    /**
+     * @param n Tamaño de la matriz (cantidad de filas, o longitud de la primera
+     *          fila si se lee en streaming)
+     * @param rule Longitud de secuencia (K) y secuencias para ser mutante (T)
+     */
+    public RollingDnaScanner(int n, DetectionRule rule) {
+        this.n = n;
+        this.sequenceLength = rule.sequenceLength();
+        this.minSequences = rule.minSequences();
+        this.previous = new char[n];
+        this.current = new char[n];
+        this.vertical = new int[n];
+        this.descending = new int[n];
+        this.ascending = new int[n];
+        this.nextDescending = new int[n];
+        this.nextAscending = new int[n];
+    }
+
+    /**
+     * Valida y procesa la siguiente fila.
+     *
+     * @param row Fila de la matriz
+     * @return Motivo del rechazo, o null si la fila es válida
+     */
+    public DnaValidationError accept(String row) {
+        if (n < sequenceLength) {
+            return DnaValidationError.TOO_SMALL;
+        }
+        if (row == null) {
+            return DnaValidationError.NULL_ROW;
+        }
+        if (row.length() != n || rows == n) {
+            return DnaValidationError.NOT_SQUARE;
+        }
+
+        if (isMutant()) {
+            // Early Termination: solo resta validar
+            if (!DnaAlphabet.isValidRow(row)) {
+                return DnaValidationError.INVALID_BASE;
+            }
+        } else {
+            row.getChars(0, n, current, 0);
+            if (!scan()) {
+                return DnaValidationError.INVALID_BASE;
+            }
+        }
+
+        char[] swap = previous;
+        previous = current;
+        current = swap;
+        rows++;
+        return null;
+    }
+
+    /**
+     * Verifica que se hayan recibido exactamente N filas.
+     *
+     * @return Motivo del rechazo, o null si la matriz está completa
+     */
+    public DnaValidationError finish() {
+        return rows == n ? null : DnaValidationError.NOT_SQUARE;
+    }
+
+    /**
+     * @return true si ya se encontraron T secuencias
+     */
+    public boolean isMutant() {
+        return sequenceCount >= minSequences;
+    }
+
+    /**
+     * Profundidad del Early Termination: celdas que recorrió la detección
+     * hasta encontrar la T-ésima secuencia (o todas las procesadas si no la
+     * encontró). Las celdas posteriores solo se validan.
+     *
+     * @return Celdas recorridas por la detección
+     */
+    public long getCellsScanned() {
+        return isMutant() ? decidedAtCell : (long) rows * n;
+    }
+
+    /**
+     * @return Cantidad de filas procesadas
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Valida la fila actual y actualiza los contadores de corrida.
+     *
+     * @return false si la fila contiene un carácter inválido
+     */
+    private boolean scan() {
+        final boolean first = rows == 0;
+        int horizontal = 0;
+
+        for (int col = 0; col < n; col++) {
+            final char base = current[col];
+            if (DnaAlphabet.code(base) < 0) {
+                return false;
+            }
+
+            // Horizontal (→)
+            horizontal = col > 0 && current[col - 1] == base ? horizontal + 1 : 1;
+
+            // Vertical (↓)
+            vertical[col] = !first && previous[col] == base ? vertical[col] + 1 : 1;
+
+            // Diagonal descendente (↘): viene de (fila - 1, col - 1)
+            nextDescending[col] = !first && col > 0 && previous[col - 1] == base
+                    ? descending[col - 1] + 1 : 1;
+
+            // Diagonal ascendente (↗): viene de (fila - 1, col + 1)
+            nextAscending[col] = !first && col < n - 1 && previous[col + 1] == base
+                    ? ascending[col + 1] + 1 : 1;
+
+            if (count(horizontal) || count(vertical[col])
+                    || count(nextDescending[col]) || count(nextAscending[col])) {
+                decidedAtCell = (long) rows * n + col + 1;
+                // Early Termination: los contadores ya no se usan, solo validar el resto
+                for (int rest = col + 1; rest < n; rest++) {
+                    if (DnaAlphabet.code(current[rest]) < 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+
+        int[] swap = descending;
+        descending = nextDescending;
+        nextDescending = swap;
+        swap = ascending;
+        ascending = nextAscending;
+        nextAscending = swap;
+        return true;
+    }
+
+    /**
+     * Cuenta una secuencia si la corrida alcanza K.
+     *
+     * @return true si el conteo llegó a T (el ADN es mutante)
+     */
+    private boolean count(int runLength) {
+        return runLength >= sequenceLength && ++sequenceCount >= minSequences;
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.service.engine;
+
+import java.util.Arrays;
+
+/**
+ * Motor de corridas por dirección (direction-major): recorre la matriz una
+ * vez por dirección en lugar de sondear las 4 direcciones desde cada celda.
+ *
+ * El motor escalar compara hasta 16 celdas por posición y lee cada celda
+ * unas 16 veces; sus sondeos ↓, ↘ y ↗ saltan de fila en fila. Aquí cada
+ * barrido lee las filas de izquierda a derecha y lleva la longitud de la
+ * corrida actual junto con la última base vista:
+ * - Horizontal (→): una variable por fila
+ * - Vertical (↓): un arreglo por columna, actualizado fila a fila
+ * - Diagonal (↘): un arreglo por diagonal, índice col - fila + N - 1
+ * - Diagonal (↗): un arreglo por antidiagonal, índice fila + col
+ * El elemento anterior de cada línea es el que se vio en la fila previa,
+ * así que cada celda se lee exactamente una vez por dirección y los
+ * arreglos se recorren en orden (memoria O(N)).
+ *
+ * Una corrida de longitud L aporta L - K + 1 secuencias, el mismo conteo de
+ * corridas solapadas que el motor escalar (con K = 4, AAAAA = 2). Acepta
+ * cualquier regla (K, T): el costo es O(N²) independiente de K, y corta en
+ * la celda en que el total llega a T.
+ */
+public class RunLengthDetectionEngine implements DetectionEngine {
+
+    private final DetectionRule rule;
+
+    /**
+     * Motor con la regla por defecto (K = 4, T = 2).
+     */
+    public RunLengthDetectionEngine() {
+        this(DetectionRule.DEFAULT);
+    }
+
+    /**
+     * @param rule Longitud de secuencia (K) y secuencias para ser mutante (T)
+     */
+    public RunLengthDetectionEngine(DetectionRule rule) {
+        this.rule = rule;
+    }
+
+    @Override
+    public DetectionRule rule() {
+        return rule;
+    }
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        final int n = dna.length;
+        final int k = rule.sequenceLength();
+        final int needed = rule.minSequences();
+
+        int found = countHorizontal(dna, k, needed);
+        if (found >= needed) return true;
+
+        // Los arreglos se reutilizan entre barridos: cada uno los limpia al empezar
+        char[] last = new char[2 * n - 1];
+        int[] runs = new int[2 * n - 1];
+
+        found += countVertical(dna, k, needed - found, last, runs);
+        if (found >= needed) return true;
+
+        found += countDescending(dna, k, needed - found, last, runs);
+        if (found >= needed) return true;
+
+        found += countAscending(dna, k, needed - found, last, runs);
+        return found >= needed;
+    }
+
+    /**
+     * Barrido → : la corrida vive en una variable local por fila.
+     *
+     * @return Secuencias encontradas (corta al llegar a needed)
+     */
+    private static int countHorizontal(String[] dna, int k, int needed) {
+        int found = 0;
+        for (String row : dna) {
+            final int n = row.length();
+            char previous = 0;
+            int run = 0;
+            for (int col = 0; col < n; col++) {
+                final char base = row.charAt(col);
+                run = base == previous ? run + 1 : 1;
+                previous = base;
+                if (run >= k && ++found >= needed) return found;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Barrido ↓ : last[col] y runs[col] son la base y la corrida de la
+     * columna hasta la fila anterior.
+     */
+    private static int countVertical(String[] dna, int k, int needed, char[] last, int[] runs) {
+        final int n = dna.length;
+        clear(last, runs);
+        int found = 0;
+        for (String row : dna) {
+            for (int col = 0; col < n; col++) {
+                final char base = row.charAt(col);
+                runs[col] = last[col] == base ? runs[col] + 1 : 1;
+                last[col] = base;
+                if (runs[col] >= k && ++found >= needed) return found;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Barrido ↘ : la celda (fila, col) continúa la diagonal col - fila,
+     * cuyo elemento anterior (fila - 1, col - 1) se vio en la fila previa.
+     * Una diagonal que empieza en la fila 0 o la columna 0 no fue vista
+     * antes (last = 0), así que su corrida arranca en 1 sin casos especiales.
+     */
+    private static int countDescending(String[] dna, int k, int needed, char[] last, int[] runs) {
+        final int n = dna.length;
+        clear(last, runs);
+        int found = 0;
+        for (int row = 0; row < n; row++) {
+            final String current = dna[row];
+            final int offset = n - 1 - row;
+            for (int col = 0; col < n; col++) {
+                final char base = current.charAt(col);
+                final int d = offset + col;
+                runs[d] = last[d] == base ? runs[d] + 1 : 1;
+                last[d] = base;
+                if (runs[d] >= k && ++found >= needed) return found;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Barrido ↗ : la celda (fila, col) continúa la antidiagonal fila + col,
+     * cuyo elemento anterior (fila - 1, col + 1) se vio en la fila previa.
+     * Contar la corrida de arriba hacia abajo da las mismas L - K + 1
+     * secuencias que el escalar cuenta de abajo hacia arriba.
+     */
+    private static int countAscending(String[] dna, int k, int needed, char[] last, int[] runs) {
+        final int n = dna.length;
+        clear(last, runs);
+        int found = 0;
+        for (int row = 0; row < n; row++) {
+            final String current = dna[row];
+            for (int col = 0; col < n; col++) {
+                final char base = current.charAt(col);
+                final int a = row + col;
+                runs[a] = last[a] == base ? runs[a] + 1 : 1;
+                last[a] = base;
+                if (runs[a] >= k && ++found >= needed) return found;
+            }
+        }
+        return found;
+    }
+
+    private static void clear(char[] last, int[] runs) {
+        Arrays.fill(last, (char) 0);
+        Arrays.fill(runs, 0);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.service.engine;
+
+/**
+ * Motor escalar original: recorre cada celda y compara K celdas por dirección.
+ *
+ * OPTIMIZACIONES IMPLEMENTADAS:
+ * 1. Early Termination: Retorna true apenas encuentra T secuencias
+ * 2. Conversión a char[][]: Acceso O(1) rápido
+ * 3. Boundary Checking: Verifica límites antes de buscar
+ * 4. Comparación con corte: cada check termina en la primera celda distinta
+ *
+ * Con K genérico cada check compara hasta K - 1 celdas: O(N²·K) en el peor
+ * caso. Se conserva como referencia de los tests; el motor fused hace el
+ * mismo conteo en O(N²) sea cual sea K.
+ */
+public class ScalarDetectionEngine implements DetectionEngine {
+
+    private final DetectionRule rule;
+    private final int sequenceLength;
+
+    /**
+     * Motor con la regla por defecto (K = 4, T = 2).
+     */
+    public ScalarDetectionEngine() {
+        this(DetectionRule.DEFAULT);
+    }
+
+    /**
+     * @param rule Longitud de secuencia (K) y secuencias para ser mutante (T)
+     */
+    public ScalarDetectionEngine(DetectionRule rule) {
+        this.rule = rule;
+        this.sequenceLength = rule.sequenceLength();
+    }
+
+    @Override
+    public DetectionRule rule() {
+        return rule;
+    }
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        final int n = dna.length;
+        final int minSequences = rule.minSequences();
+        int sequenceCount = 0;
+
+        // OPTIMIZACIÓN #1: Conversión a char[][] para acceso O(1)
+        char[][] matrix = new char[n][];
+        for (int i = 0; i < n; i++) {
+            matrix[i] = dna[i].toCharArray();
+        }
+
+        // OPTIMIZACIÓN #2: Single Pass - recorrer UNA SOLA VEZ
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+
+                // OPTIMIZACIÓN #3: Boundary Checking - verificar ANTES de buscar
+
+                // Búsqueda Horizontal (→)
+                if (col <= n - sequenceLength) {
+                    if (checkHorizontal(matrix, row, col)) {
+                        sequenceCount++;
+                        // OPTIMIZACIÓN #1: Early Termination (CRÍTICO)
+                        if (sequenceCount >= minSequences) return true;
+                    }
+                }
+
+                // Búsqueda Vertical (↓)
+                if (row <= n - sequenceLength) {
+                    if (checkVertical(matrix, row, col)) {
+                        sequenceCount++;
+                        if (sequenceCount >= minSequences) return true;
+                    }
+                }
+
+                // Búsqueda Diagonal Descendente (↘)
+                if (row <= n - sequenceLength && col <= n - sequenceLength) {
+                    if (checkDiagonalDescending(matrix, row, col)) {
+                        sequenceCount++;
+                        if (sequenceCount >= minSequences) return true;
+                    }
+                }
+
+                // Búsqueda Diagonal Ascendente (↗)
+                if (row >= sequenceLength - 1 && col <= n - sequenceLength) {
+                    if (checkDiagonalAscending(matrix, row, col)) {
+                        sequenceCount++;
+                        if (sequenceCount >= minSequences) return true;
+                    }
+                }
+            }
+        }
+
+        return false; // Encontró menos de T secuencias
+    }
+
+    /**
+     * Verifica secuencia horizontal (→).
+     */
+    private boolean checkHorizontal(char[][] matrix, int row, int col) {
+        final char base = matrix[row][col];
+        for (int k = 1; k < sequenceLength; k++) {
+            if (matrix[row][col + k] != base) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica secuencia vertical (↓).
+     */
+    private boolean checkVertical(char[][] matrix, int row, int col) {
+        final char base = matrix[row][col];
+        for (int k = 1; k < sequenceLength; k++) {
+            if (matrix[row + k][col] != base) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica secuencia diagonal descendente (↘).
+     */
+    private boolean checkDiagonalDescending(char[][] matrix, int row, int col) {
+        final char base = matrix[row][col];
+        for (int k = 1; k < sequenceLength; k++) {
+            if (matrix[row + k][col + k] != base) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica secuencia diagonal ascendente (↗).
+     */
+    private boolean checkDiagonalAscending(char[][] matrix, int row, int col) {
+        final char base = matrix[row][col];
+        for (int k = 1; k < sequenceLength; k++) {
+            if (matrix[row - k][col + k] != base) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.service.engine;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Motor SIMD basado en la JDK Vector API (jdk.incubator.vector).
+ *
+ * Cada fila se copia a un byte[] y se compara de a SPECIES.length() celdas
+ * (32 con AVX2, 64 con AVX-512) por instrucción:
+ * - Horizontal (→):  fila[j], fila[j+1], fila[j+2], fila[j+3]
+ * - Vertical (↓):    r0[j], r1[j], r2[j], r3[j]
+ * - Diagonal (↘):    r0[j], r1[j+1], r2[j+2], r3[j+3]
+ * - Diagonal (↗):    r3[j], r2[j+1], r1[j+2], r0[j+3]
+ * Los corrimientos de columna se resuelven cargando el vector con offset,
+ * que equivale a un lane shift sin necesidad de rearmar lanes.
+ * Cada lane verdadero de la máscara es una secuencia (trueCount), por lo que
+ * las corridas solapadas cuentan igual que en el motor escalar.
+ *
+ * Las comparaciones están armadas para K = 4: DetectorConfig usa el motor fused
+ * con cualquier otra longitud de secuencia.
+ *
+ * Requiere --add-modules jdk.incubator.vector en tiempo de ejecución:
+ * MutantDetector solo instancia este motor si el módulo está disponible.
+ */
+public class VectorDetectionEngine implements DetectionEngine {
+
+    /** Nombre del módulo incubator que provee la Vector API. */
+    public static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int SEQUENCE_LENGTH = 4;
+
+    private final DetectionRule rule;
+
+    /**
+     * Motor con la regla por defecto (K = 4, T = 2).
+     */
+    public VectorDetectionEngine() {
+        this(DetectionRule.DEFAULT);
+    }
+
+    /**
+     * @param rule Regla de detección; solo admite K = 4 (T es libre)
+     * @throws IllegalArgumentException si K no es 4
+     */
+    public VectorDetectionEngine(DetectionRule rule) {
+        if (rule.sequenceLength() != SEQUENCE_LENGTH) {
+            throw new IllegalArgumentException("VectorDetectionEngine only supports sequenceLength " + SEQUENCE_LENGTH);
+        }
+        this.rule = rule;
+    }
+
+    @Override
+    public DetectionRule rule() {
+        return rule;
+    }
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        final int n = dna.length;
+
+        // Ventana circular de 4 filas: memoria O(N)
+        final byte[][] window = new byte[SEQUENCE_LENGTH][n];
+        final int minSequences = rule.minSequences();
+        int sequenceCount = 0;
+
+        for (int row = 0; row < n; row++) {
+            final byte[] current = window[row & 3];
+            load(dna[row], current);
+
+            sequenceCount += countRuns(current, current, current, current, 1, n);
+            if (sequenceCount >= minSequences) return true;
+
+            if (row < SEQUENCE_LENGTH - 1) {
+                continue;
+            }
+
+            final byte[] r0 = window[(row - 3) & 3];
+            final byte[] r1 = window[(row - 2) & 3];
+            final byte[] r2 = window[(row - 1) & 3];
+
+            sequenceCount += countRuns(r0, r1, r2, current, 0, n);
+            sequenceCount += countRuns(r0, r1, r2, current, 1, n);
+            sequenceCount += countRuns(current, r2, r1, r0, 1, n);
+            if (sequenceCount >= minSequences) return true;
+        }
+
+        return false;
+    }
+
+    private void load(String row, byte[] dst) {
+        for (int col = 0; col < dst.length; col++) {
+            dst[col] = (byte) row.charAt(col);
+        }
+    }
+
+    /**
+     * Cuenta las posiciones j donde a[j] == b[j+s] == c[j+2s] == d[j+3s].
+     *
+     * @param step Corrimiento de columna por fila: 0 (vertical) o 1 (horizontal/diagonal)
+     * @param n Tamaño de la matriz
+     * @return Cantidad de secuencias encontradas
+     */
+    private int countRuns(byte[] a, byte[] b, byte[] c, byte[] d, int step, int n) {
+        final int starts = n - 3 * step;
+        final int lanes = SPECIES.length();
+        int count = 0;
+        int j = 0;
+
+        for (; j + lanes <= starts; j += lanes) {
+            ByteVector va = ByteVector.fromArray(SPECIES, a, j);
+            VectorMask<Byte> run = va.eq(ByteVector.fromArray(SPECIES, b, j + step))
+                    .and(va.eq(ByteVector.fromArray(SPECIES, c, j + 2 * step)))
+                    .and(va.eq(ByteVector.fromArray(SPECIES, d, j + 3 * step)));
+            count += run.trueCount();
+        }
+
+        // Cola escalar para las columnas que no llenan un vector
+        for (; j < starts; j++) {
+            byte base = a[j];
+            if (b[j + step] == base && c[j + 2 * step] == base && d[j + 3 * step] == base) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
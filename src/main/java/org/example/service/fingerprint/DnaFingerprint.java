@@ -0,0 +1,30 @@
+package org.example.service.fingerprint;
+
+import java.util.UUID;
+
+/**
+ * Huella de 128 bits de una matriz de ADN.
+ *
+ * Se usa como clave de deduplicación (caché, Bloom filter y BD) en lugar del
+ * String hexadecimal de 64 caracteres: dos long sin asignar String ni byte[].
+ * En la BD se guarda como UUID (16 bytes binarios) en la columna dna_hash.
+ *
+ * @param high Primeros 64 bits
+ * @param low Últimos 64 bits
+ */
+public record DnaFingerprint(long high, long low) {
+
+    /**
+     * @return Huella como UUID (clave primaria de dna_records)
+     */
+    public UUID toUuid() {
+        return new UUID(high, low);
+    }
+
+    /**
+     * Reconstruye una huella a partir de la clave de dna_records.
+     */
+    public static DnaFingerprint fromUuid(UUID uuid) {
+        return new DnaFingerprint(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.service.fingerprint;
+
+/**
+ * Estrategia de cálculo de la huella de una matriz de ADN.
+ *
+ * La huella se calcula fila por fila, sin concatenar la matriz: el mismo
+ * Hasher sirve para un String[] completo y para el camino de streaming.
+ * Como la forma NxN se valida antes, la secuencia de bytes de las filas
+ * identifica la matriz sin necesidad de separadores.
+ *
+ * Cada carácter se reduce a un byte con {@link #toByte(char)}.
+ */
+public interface DnaFingerprinter {
+
+    /**
+     * @return Hasher nuevo para recibir las filas de una matriz
+     */
+    Hasher newHasher();
+
+    /**
+     * Calcula la huella de una matriz completa.
+     *
+     * @param dna Array de strings del ADN (forma ya validada)
+     * @return Huella de 128 bits
+     */
+    default DnaFingerprint fingerprint(String[] dna) {
+        Hasher hasher = newHasher();
+        for (String row : dna) {
+            hasher.putRow(row);
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * Byte con el que se hashea un carácter. El ASCII se conserva; cualquier
+     * otro carácter (siempre inválido) se mapea a 0xFF, que no es una base,
+     * para que una fila inválida nunca produzca los mismos bytes que una
+     * válida y reutilice su veredicto antes de validar el alfabeto.
+     */
+    static byte toByte(char c) {
+        return c < 0x80 ? (byte) c : (byte) 0xFF;
+    }
+
+    /**
+     * Cálculo incremental de una huella.
+     */
+    interface Hasher {
+
+        /**
+         * Agrega una fila a la huella.
+         */
+        void putRow(String row);
+
+        /**
+         * @return Huella de las filas agregadas
+         */
+        DnaFingerprint finish();
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.service.fingerprint;
+
+/**
+ * Huella MurmurHash3 x64 de 128 bits (semilla 0), no criptográfica.
+ *
+ * Los bytes de cada fila se acumulan directamente en los dos registros de
+ * 64 bits del bloque actual (little-endian) y se mezclan cada 16 bytes, por
+ * lo que no se copia la fila ni se concatena la matriz. El resultado es
+ * idéntico al de MurmurHash3_x64_128 sobre la concatenación de las filas.
+ *
+ * OPTIMIZACIÓN frente a SHA-256:
+ * - Sin MessageDigest, String.join, getBytes ni formateo hexadecimal
+ * - ~1 ciclo por byte en lugar de ~10; 2 long en lugar de un String de 64 caracteres
+ */
+public class Murmur3Fingerprinter implements DnaFingerprinter {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final int BLOCK_SIZE = 16;
+
+    @Override
+    public Hasher newHasher() {
+        return new Murmur3Hasher();
+    }
+
+    private static final class Murmur3Hasher implements Hasher {
+
+        private long h1;
+        private long h2;
+        private long k1;
+        private long k2;
+        private int blockOffset;
+        private long length;
+
+        @Override
+        public void putRow(String row) {
+            final int n = row.length();
+            for (int i = 0; i < n; i++) {
+                long b = DnaFingerprinter.toByte(row.charAt(i)) & 0xFFL;
+                if (blockOffset < 8) {
+                    k1 |= b << (blockOffset << 3);
+                } else {
+                    k2 |= b << ((blockOffset - 8) << 3);
+                }
+                if (++blockOffset == BLOCK_SIZE) {
+                    mixBlock();
+                }
+            }
+            length += n;
+        }
+
+        @Override
+        public DnaFingerprint finish() {
+            // Cola: bytes del último bloque incompleto
+            if (blockOffset > 8) {
+                h2 ^= mixK2(k2);
+            }
+            if (blockOffset > 0) {
+                h1 ^= mixK1(k1);
+            }
+
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix64(h1);
+            h2 = fmix64(h2);
+            h1 += h2;
+            h2 += h1;
+
+            return new DnaFingerprint(h1, h2);
+        }
+
+        private void mixBlock() {
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+
+            k1 = 0;
+            k2 = 0;
+            blockOffset = 0;
+        }
+
+        private static long mixK1(long k1) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            return k1 * C2;
+        }
+
+        private static long mixK2(long k2) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            return k2 * C1;
+        }
+
+        private static long fmix64(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
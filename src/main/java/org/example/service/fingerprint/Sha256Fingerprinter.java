@@ -0,0 +1,65 @@
+package org.example.service.fingerprint;
+
+import org.example.exception.DnaHashCalculationException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Huella SHA-256 truncada a 128 bits.
+ *
+ * Se conserva como opción para quien necesite resistencia a colisiones
+ * provocadas. Para ADN válido (solo ASCII) los 128 bits coinciden con los
+ * primeros 32 caracteres del hash hexadecimal calculado antes sobre la
+ * concatenación de las filas.
+ */
+public class Sha256Fingerprinter implements DnaFingerprinter {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    @Override
+    public Hasher newHasher() {
+        try {
+            return new Sha256Hasher(MessageDigest.getInstance(ALGORITHM));
+        } catch (NoSuchAlgorithmException e) {
+            throw new DnaHashCalculationException(
+                    "Error calculating DNA hash: SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static final class Sha256Hasher implements Hasher {
+
+        private final MessageDigest digest;
+        private byte[] rowBytes = new byte[0];
+
+        Sha256Hasher(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void putRow(String row) {
+            final int n = row.length();
+            if (rowBytes.length < n) {
+                rowBytes = new byte[n];
+            }
+            for (int i = 0; i < n; i++) {
+                rowBytes[i] = DnaFingerprinter.toByte(row.charAt(i));
+            }
+            digest.update(rowBytes, 0, n);
+        }
+
+        @Override
+        public DnaFingerprint finish() {
+            byte[] hash = digest.digest();
+            return new DnaFingerprint(readLong(hash, 0), readLong(hash, 8));
+        }
+
+        private static long readLong(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (bytes[offset + i] & 0xFFL);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.validation;
+
+/**
+ * Motivos por los que una secuencia de ADN es rechazada.
+ * El código se expone en los mensajes de error para facilitar el diagnóstico.
+ */
+public enum DnaValidationError {
+
+    NULL_DNA("La secuencia de ADN no puede ser null"),
+    EMPTY_DNA("La secuencia de ADN no puede estar vacía"),
+    TOO_SMALL("Invalid DNA sequence: N must be at least the sequence length (4 by default)"),
+    NULL_ROW("Invalid DNA sequence: rows cannot be null"),
+    NOT_SQUARE("Invalid DNA sequence: must be a square NxN matrix"),
+    INVALID_BASE("Invalid DNA sequence: only A, T, C, G characters are allowed");
+
+    private final String message;
+
+    DnaValidationError(String message) {
+        this.message = message;
+    }
+
+    /**
+     * @return Mensaje descriptivo del error
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,30 @@
+-- Migración de dna_records a clave primaria binaria (H2 2.x).
+--
+-- Esquema anterior: id BIGINT IDENTITY, dna_hash VARCHAR(64) UNIQUE,
+-- índice idx_dna_hash (redundante con el UNIQUE) e idx_is_mutant.
+-- Esquema nuevo: dna_hash UUID (16 bytes) como PRIMARY KEY e idx_is_mutant.
+--
+-- Solo aplica a despliegues con BD persistente: con la configuración por
+-- defecto (jdbc:h2:mem, ddl-auto=create-drop) Hibernate crea el esquema nuevo.
+--
+-- Los hashes viejos son SHA-256 en hexadecimal (64 caracteres) o la huella
+-- de 32 caracteres; en ambos casos los primeros 32 caracteres son los 128
+-- bits que se conservan. Los SHA-256 viejos solo vuelven a coincidir con
+-- mutant.fingerprint.algorithm=sha256; con murmur3 ese ADN se re-analiza
+-- y se guarda con su huella nueva.
+
+CREATE TABLE dna_records_new (
+    dna_hash   UUID         NOT NULL PRIMARY KEY,
+    is_mutant  BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO dna_records_new (dna_hash, is_mutant, created_at)
+SELECT CAST(LEFT(dna_hash, 32) AS UUID), is_mutant, created_at
+FROM dna_records;
+
+DROP TABLE dna_records;
+
+ALTER TABLE dna_records_new RENAME TO dna_records;
+
+CREATE INDEX idx_is_mutant ON dna_records (is_mutant);
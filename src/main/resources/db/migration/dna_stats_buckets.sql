@@ -0,0 +1,16 @@
+-- Buckets de estadísticas por minuto, hora y día (H2 2.x).
+--
+-- Solo aplica a despliegues con BD persistente: con la configuración por
+-- defecto (jdbc:h2:mem, ddl-auto=create-drop) Hibernate crea la tabla.
+--
+-- bucket_start: inicio del bucket en segundos desde epoch (UTC).
+-- No hace falta cargar los datos existentes: al iniciar con la tabla vacía,
+-- DnaStatsRollup la completa desde dna_records.created_at.
+
+CREATE TABLE dna_stats_buckets (
+    granularity  VARCHAR(6) NOT NULL,
+    bucket_start BIGINT     NOT NULL,
+    mutant_count BIGINT     NOT NULL,
+    human_count  BIGINT     NOT NULL,
+    PRIMARY KEY (granularity, bucket_start)
+);
@@ -0,0 +1,82 @@
+package org.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuración del modo reactivo (perfil "reactive", application-reactive.properties).
+ * Como todo src/reactive, solo se compila con -Preactive.
+ *
+ * Solo se activa cuando la aplicación arranca como WebFlux
+ * (spring.main.web-application-type=reactive). Los requests se atienden en
+ * el event loop de Netty con un puñado de hilos, sin un hilo por conexión,
+ * y la persistencia usa R2DBC en lugar de JDBC.
+ *
+ * Los requests leen e insertan en dna_records por R2DBC, sin pasar por
+ * DnaVerdictStore: solo funciona con mutant.store.type=jpa. Con mapped o
+ * sharded la aplicación no arranca, en lugar de servir /stats que no
+ * coinciden con lo insertado.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties({ReactiveProperties.class, DataSourceProperties.class})
+public class ReactiveConfig {
+
+    /**
+     * @param storeProperties Propiedades mutant.store
+     * @throws IllegalStateException si el índice configurado no es jpa
+     */
+    public ReactiveConfig(StoreProperties storeProperties) {
+        String type = storeProperties.getType().trim().toLowerCase();
+        if (!"jpa".equals(type)) {
+            throw new IllegalStateException("Reactive mode reads dna_records through R2DBC and requires "
+                    + "mutant.store.type=jpa, but mutant.store.type=" + type);
+        }
+    }
+
+    /**
+     * DataSource JDBC para JPA (esquema, contadores y Bloom filter al iniciar,
+     * y el DnaVerdictStore): DataSourceAutoConfiguration no crea ninguno si ya
+     * existe un ConnectionFactory de R2DBC, y sin él tampoco hay repositorios JPA.
+     *
+     * @param properties Propiedades spring.datasource
+     * @return Pool Hikari configurado con spring.datasource.hikari.*
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Netty como servidor: con Tomcat también en el classpath (servlet)
+     * Spring Boot lo elegiría para WebFlux.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Scheduler acotado para la detección CPU-bound de matrices grandes:
+     * el event loop nunca ejecuta un análisis O(N²) de N >= offload-threshold.
+     *
+     * @param properties Propiedades del modo reactivo
+     * @return Scheduler paralelo de tamaño fijo
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler detectionScheduler(ReactiveProperties properties) {
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return Schedulers.newParallel("dna-detect", parallelism);
+    }
+}
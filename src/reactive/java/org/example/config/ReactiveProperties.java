@@ -0,0 +1,23 @@
+package org.example.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del modo reactivo WebFlux + R2DBC (prefijo mutant.reactive).
+ */
+@Data
+@ConfigurationProperties(prefix = "mutant.reactive")
+public class ReactiveProperties {
+
+    /**
+     * Matrices de N >= threshold se analizan en el scheduler de detección;
+     * las menores se analizan en el event loop (más barato que el salto de hilo).
+     */
+    private int offloadThreshold = 64;
+
+    /**
+     * Hilos del scheduler de detección (0 = procesadores disponibles).
+     */
+    private int parallelism = 0;
+}
@@ -0,0 +1,70 @@
+package org.example.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.AnalysisResult;
+import org.example.dto.DnaRequest;
+import org.example.dto.StatsResponse;
+import org.example.service.ReactiveMutantService;
+import org.example.service.ReactiveStatsService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * Controlador WebFlux para el modo reactivo (perfil "reactive").
+ *
+ * Mismo contrato que MutantController para los endpoints principales:
+ * - POST /mutant: 200 mutante, 403 humano, 400 ADN inválido
+ * - GET /stats: Estadísticas de verificaciones
+ *
+ * Ningún handler bloquea: la BD se consulta por R2DBC y la detección de
+ * matrices grandes corre fuera del event loop (ReactiveMutantService).
+ * Los endpoints de batch, streaming y métricas de caché/filtro solo
+ * existen en el modo servlet.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMutantController {
+
+    private final ReactiveMutantService mutantService;
+    private final ReactiveStatsService statsService;
+
+    /**
+     * POST /mutant
+     *
+     * @param request DnaRequest con la secuencia de ADN
+     * @return Mono con ResponseEntity con AnalysisResult
+     */
+    @PostMapping("/mutant")
+    public Mono<ResponseEntity<AnalysisResult>> checkMutant(@Valid @RequestBody DnaRequest request) {
+        return mutantService.analyzeDna(request.getDna())
+                .map(isMutant -> isMutant
+                        ? ResponseEntity.ok(new AnalysisResult("mutant"))
+                        : ResponseEntity.status(HttpStatus.FORBIDDEN).body(new AnalysisResult("human")));
+    }
+
+    /**
+     * GET /stats
+     *
+     * @param from Inicio del rango (inclusive), opcional
+     * @param to Fin del rango (exclusivo), opcional
+     * @return Mono con StatsResponse con contadores y ratio
+     */
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<StatsResponse>> getStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return statsService.getStats(from, to).map(ResponseEntity::ok);
+    }
+}
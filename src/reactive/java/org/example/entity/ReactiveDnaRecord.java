@@ -0,0 +1,66 @@
+package org.example.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Fila de dna_records mapeada para Spring Data R2DBC (modo reactivo).
+ *
+ * Misma tabla y columnas que DnaRecord: la huella de 128 bits es la clave
+ * primaria asignada. Implementa Persistable para que save() haga un INSERT
+ * directo en lugar de un UPDATE por tener el id ya asignado.
+ */
+@Table("dna_records")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReactiveDnaRecord implements Persistable<UUID> {
+
+    @Id
+    @Column("dna_hash")
+    private UUID dnaHash;
+
+    @Column("is_mutant")
+    private boolean isMutant;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newRecord;
+
+    /**
+     * Constructor con parámetros para crear un nuevo registro.
+     *
+     * @param dnaHash Huella del ADN (DnaFingerprint.toUuid)
+     * @param isMutant true si es mutante, false si es humano
+     */
+    public ReactiveDnaRecord(UUID dnaHash, boolean isMutant) {
+        this.dnaHash = dnaHash;
+        this.isMutant = isMutant;
+        this.createdAt = LocalDateTime.now();
+        this.newRecord = true;
+    }
+
+    @Override
+    public UUID getId() {
+        return dnaHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.exception;
+
+import org.example.dto.ErrorResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * Manejador de excepciones del modo reactivo (WebFlux).
+ * Produce las mismas respuestas ErrorResponse que GlobalExceptionHandler,
+ * tomando la ruta de ServerHttpRequest en lugar de HttpServletRequest.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    /**
+     * Maneja errores de validación de Bean Validation (@Valid).
+     *
+     * @param ex Excepción de validación
+     * @param request Request HTTP
+     * @return ResponseEntity con código 400 y detalles del error
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(
+            WebExchangeBindException ex,
+            ServerHttpRequest request) {
+
+        String errorMessage = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.joining("; "));
+
+        return build(HttpStatus.BAD_REQUEST, errorMessage, request);
+    }
+
+    /**
+     * Maneja errores de WebFlux con estado propio: body ilegible
+     * (JSON mal formado, 400), ruta inexistente (404), etc.
+     *
+     * @param ex Excepción con estado HTTP
+     * @param request Request HTTP
+     * @return ResponseEntity con el código de la excepción y detalles del error
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(
+            ResponseStatusException ex,
+            ServerHttpRequest request) {
+
+        return build(HttpStatus.valueOf(ex.getStatusCode().value()), ex.getReason(), request);
+    }
+
+    /**
+     * Maneja ADN inválido detectado en ReactiveMutantService.
+     *
+     * @param ex Excepción de ADN inválido
+     * @param request Request HTTP
+     * @return ResponseEntity con código 400 y detalles del error
+     */
+    @ExceptionHandler(InvalidDnaException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDnaException(
+            InvalidDnaException ex,
+            ServerHttpRequest request) {
+
+        return build(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    /**
+     * Maneja un rango inválido en GET /stats?from=&to=.
+     *
+     * @param ex Excepción de rango inválido
+     * @param request Request HTTP
+     * @return ResponseEntity con código 400 y detalles del error
+     */
+    @ExceptionHandler(InvalidStatsRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidStatsRangeException(
+            InvalidStatsRangeException ex,
+            ServerHttpRequest request) {
+
+        return build(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
+    /**
+     * Maneja errores en el cálculo de la huella SHA-256.
+     *
+     * @param ex Excepción de cálculo de hash
+     * @param request Request HTTP
+     * @return ResponseEntity con código 500 y detalles del error
+     */
+    @ExceptionHandler(DnaHashCalculationException.class)
+    public ResponseEntity<ErrorResponse> handleDnaHashCalculationException(
+            DnaHashCalculationException ex,
+            ServerHttpRequest request) {
+
+        return build(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), request);
+    }
+
+    /**
+     * Maneja cualquier excepción no prevista.
+     *
+     * @param ex Excepción genérica
+     * @param request Request HTTP
+     * @return ResponseEntity con código 500 y detalles del error
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex,
+            ServerHttpRequest request) {
+
+        return build(HttpStatus.INTERNAL_SERVER_ERROR,
+                "An unexpected error occurred: " + ex.getMessage(), request);
+    }
+
+    private ResponseEntity<ErrorResponse> build(HttpStatus status, String message, ServerHttpRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getPath().value()
+        );
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
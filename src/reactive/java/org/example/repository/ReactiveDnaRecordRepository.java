@@ -0,0 +1,45 @@
+package org.example.repository;
+
+import org.example.entity.ReactiveDnaRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Repositorio R2DBC sobre dna_records para el modo reactivo.
+ * Equivalente no bloqueante de DnaRecordRepository: cada operación
+ * devuelve un Mono que se completa sin ocupar un hilo durante la query.
+ */
+@Repository
+public interface ReactiveDnaRecordRepository extends R2dbcRepository<ReactiveDnaRecord, UUID> {
+
+    /**
+     * Cuenta la cantidad de registros según si son mutantes o humanos.
+     *
+     * @param isMutant true para contar mutantes, false para humanos
+     * @return Mono con la cantidad de registros que cumplen la condición
+     */
+    Mono<Long> countByIsMutant(boolean isMutant);
+
+    /**
+     * Inserta el registro solo si la huella no existe, en una sentencia
+     * atómica (mismo MERGE ... WHEN NOT MATCHED que DnaRecordBatchInserter).
+     *
+     * @param dnaHash Huella del ADN (DnaFingerprint.toUuid)
+     * @param isMutant true si es mutante, false si es humano
+     * @param createdAt Fecha de creación
+     * @return Mono con 1 si se insertó, 0 si la huella ya existía
+     */
+    @Modifying
+    @Query("MERGE INTO dna_records t "
+            + "USING (VALUES (CAST(:dnaHash AS UUID), CAST(:isMutant AS BOOLEAN), CAST(:createdAt AS TIMESTAMP))) "
+            + "s (dna_hash, is_mutant, created_at) ON t.dna_hash = s.dna_hash "
+            + "WHEN NOT MATCHED THEN INSERT (dna_hash, is_mutant, created_at) "
+            + "VALUES (s.dna_hash, s.is_mutant, s.created_at)")
+    Mono<Integer> insertIfAbsent(UUID dnaHash, boolean isMutant, LocalDateTime createdAt);
+}
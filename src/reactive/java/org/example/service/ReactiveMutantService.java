@@ -0,0 +1,130 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.config.ReactiveProperties;
+import org.example.entity.ReactiveDnaRecord;
+import org.example.exception.InvalidDnaException;
+import org.example.repository.ReactiveDnaRecordRepository;
+import org.example.service.engine.DnaAlphabet;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.example.service.fingerprint.DnaFingerprinter;
+import org.example.validation.DnaValidationError;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+
+/**
+ * Versión no bloqueante de MutantService para el modo WebFlux + R2DBC.
+ *
+ * Mismo flujo que MutantService: forma NxN, huella, caché en memoria,
+ * Bloom filter, BD, análisis y persistencia. La diferencia es que la BD se
+ * consulta con R2DBC y ningún paso bloquea el event loop:
+ * - Huella y detección de matrices de N >= mutant.reactive.offload-threshold
+ *   corren en el scheduler acotado detectionScheduler (CPU-bound)
+ * - Las matrices chicas se analizan en el event loop: el salto de hilo
+ *   costaría más que el análisis
+ *
+ * El veredicto nuevo se escribe con un único MERGE (insert-if-absent): si
+ * otro request insertó la misma huella primero, no se inserta ni se cuenta
+ * en las estadísticas. Un insert concurrente aún sin commit puede hacer
+ * fallar el MERGE con DuplicateKeyException, que se trata igual.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMutantService {
+
+    private final MutantDetector mutantDetector;
+    private final ReactiveDnaRecordRepository repository;
+    private final DnaFingerprinter fingerprinter;
+    private final DnaResultCache resultCache;
+    private final DnaHashFilter hashFilter;
+    private final DnaStatsCounter statsCounter;
+    private final Scheduler detectionScheduler;
+    private final ReactiveProperties properties;
+
+    /**
+     * Analiza un ADN y emite si es mutante.
+     *
+     * @param dna Array de strings representando el ADN
+     * @return Mono con true si es mutante, false si es humano;
+     *         error InvalidDnaException si el ADN no es válido
+     */
+    public Mono<Boolean> analyzeDna(String[] dna) {
+        // Forma (NxN, N >= K) en O(N): barato, se valida en el event loop
+        DnaValidationError shapeError = DnaAlphabet.checkShape(dna, mutantDetector.getMinSize());
+        if (shapeError != null) {
+            return Mono.error(new InvalidDnaException(shapeError));
+        }
+
+        return offload(dna, () -> fingerprinter.fingerprint(dna))
+                .flatMap(fingerprint -> findExistingResult(fingerprint)
+                        .switchIfEmpty(Mono.defer(() -> analyzeAndSave(dna, fingerprint))));
+    }
+
+    /**
+     * Busca el veredicto de una huella en la caché y, si el Bloom filter no
+     * la descarta, en la BD (cargándolo en la caché).
+     *
+     * @param fingerprint Huella del ADN
+     * @return Mono con el veredicto almacenado, vacío si el ADN nunca fue analizado
+     */
+    private Mono<Boolean> findExistingResult(DnaFingerprint fingerprint) {
+        Boolean cached = resultCache.getIfPresent(fingerprint);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        if (!hashFilter.mightContain(fingerprint)) {
+            return Mono.empty(); // Definitivamente nuevo: sin query a la BD
+        }
+
+        return repository.findById(fingerprint.toUuid())
+                .map(ReactiveDnaRecord::isMutant)
+                .doOnNext(isMutant -> resultCache.put(fingerprint, isMutant))
+                .switchIfEmpty(Mono.fromRunnable(hashFilter::recordFalsePositive));
+    }
+
+    /**
+     * Valida el alfabeto, analiza y persiste un ADN nuevo.
+     */
+    private Mono<Boolean> analyzeAndSave(String[] dna, DnaFingerprint fingerprint) {
+        return offload(dna, () -> mutantDetector.analyze(dna))
+                .flatMap(result -> result.isValid()
+                        ? saveResult(fingerprint, result.isMutant())
+                        : Mono.error(new InvalidDnaException(result.error())));
+    }
+
+    /**
+     * Inserta el veredicto y lo registra en la caché y en el Bloom filter.
+     * Solo un INSERT efectivo (update count 1) incrementa los contadores de /stats.
+     */
+    private Mono<Boolean> saveResult(DnaFingerprint fingerprint, boolean isMutant) {
+        return repository.insertIfAbsent(fingerprint.toUuid(), isMutant, LocalDateTime.now())
+                .filter(inserted -> inserted > 0)
+                .doOnNext(inserted -> statsCounter.recordInserted(isMutant))
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.empty())
+                .then(Mono.fromCallable(() -> {
+                    resultCache.put(fingerprint, isMutant);
+                    hashFilter.put(fingerprint);
+                    return isMutant;
+                }));
+    }
+
+    /**
+     * Ejecuta un paso CPU-bound en el scheduler de detección si la matriz
+     * es grande, o en el hilo actual si no.
+     */
+    private <T> Mono<T> offload(String[] dna, Callable<T> task) {
+        Mono<T> mono = Mono.fromCallable(task);
+        return dna.length >= properties.getOffloadThreshold()
+                ? mono.subscribeOn(detectionScheduler)
+                : mono;
+    }
+}
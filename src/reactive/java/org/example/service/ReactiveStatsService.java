@@ -0,0 +1,65 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.StatsResponse;
+import org.example.exception.InvalidStatsRangeException;
+import org.example.repository.ReactiveDnaRecordRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+
+/**
+ * Versión no bloqueante de StatsService para el modo WebFlux + R2DBC.
+ *
+ * Lee los mismos contadores en memoria (DnaStatsCounter, O(1)); en modo
+ * estricto recuenta la tabla con dos COUNT por R2DBC en paralelo. Las
+ * consultas por rango leen los buckets de DnaStatsRollup (JDBC) en
+ * boundedElastic, fuera del event loop.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveStatsService {
+
+    private final ReactiveDnaRecordRepository repository;
+    private final DnaStatsCounter statsCounter;
+    private final DnaStatsRollup statsRollup;
+
+    /**
+     * Obtiene estadísticas de todas las verificaciones de ADN.
+     *
+     * @return Mono con StatsResponse con contadores y ratio
+     */
+    public Mono<StatsResponse> getStats() {
+        if (statsCounter.isStrict()) {
+            // Recuento exacto sobre la tabla (O(N))
+            return Mono.zip(repository.countByIsMutant(true), repository.countByIsMutant(false))
+                    .map(counts -> StatsResponse.of(counts.getT1(), counts.getT2()));
+        }
+
+        // Contadores mantenidos en cada insert (O(1))
+        return Mono.just(StatsResponse.of(statsCounter.getMutantCount(), statsCounter.getHumanCount()));
+    }
+
+    /**
+     * Obtiene estadísticas de las verificaciones insertadas en [from, to).
+     * Sin ninguno de los dos límites equivale a getStats().
+     *
+     * @param from Inicio del rango (inclusive), o null para desde el principio
+     * @param to Fin del rango (exclusivo), o null para hasta ahora
+     * @return Mono con StatsResponse con contadores y ratio del rango
+     */
+    public Mono<StatsResponse> getStats(Instant from, Instant to) {
+        if (from == null && to == null) {
+            return getStats();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return Mono.error(new InvalidStatsRangeException("'from' must not be after 'to'"));
+        }
+        return Mono.fromCallable(() -> statsRollup.query(from, to))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.service;
+
+import org.example.config.ReactiveProperties;
+import org.example.entity.ReactiveDnaRecord;
+import org.example.exception.InvalidDnaException;
+import org.example.repository.ReactiveDnaRecordRepository;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.example.service.fingerprint.Murmur3Fingerprinter;
+import org.example.validation.DnaValidationError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para ReactiveMutantService.
+ * El repositorio R2DBC se simula con Mono; los resultados se leen con block().
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveMutantService - Tests Unitarios")
+class ReactiveMutantServiceTest {
+
+    @Mock
+    private MutantDetector mutantDetector;
+
+    @Mock
+    private ReactiveDnaRecordRepository repository;
+
+    @Mock
+    private DnaResultCache resultCache;
+
+    @Mock
+    private DnaHashFilter hashFilter;
+
+    @Mock
+    private DnaStatsCounter statsCounter;
+
+    private Scheduler detectionScheduler;
+    private ReactiveProperties properties;
+    private ReactiveMutantService service;
+
+    private final String[] mutantDna = {
+            "ATGCGA",
+            "CAGTGC",
+            "TTATGT",
+            "AGAAGG",
+            "CCCCTA",
+            "TCACTG"
+    };
+
+    @BeforeEach
+    void setUp() {
+        // Mockito responde false (no null) para Boolean: sin esto todo ADN parecería cacheado
+        lenient().when(resultCache.getIfPresent(any(DnaFingerprint.class))).thenReturn(null);
+        lenient().when(hashFilter.mightContain(any(DnaFingerprint.class))).thenReturn(true);
+
+        detectionScheduler = Schedulers.newParallel("dna-detect-test", 1);
+        properties = new ReactiveProperties();
+        service = new ReactiveMutantService(mutantDetector, repository, new Murmur3Fingerprinter(),
+                resultCache, hashFilter, statsCounter, detectionScheduler, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        detectionScheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("Debe analizar ADN nuevo, insertarlo por R2DBC y contarlo")
+    void testAnalyzeDna_NewDna_SavesAndCounts() {
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mutantDetector.analyze(mutantDna)).thenReturn(DnaScanResult.of(true));
+        when(repository.insertIfAbsent(any(UUID.class), anyBoolean(), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(1));
+
+        assertTrue(service.analyzeDna(mutantDna).block());
+
+        verify(repository, times(1)).insertIfAbsent(any(UUID.class), eq(true), any(LocalDateTime.class));
+        verify(statsCounter, times(1)).recordInserted(true);
+        verify(resultCache, times(1)).put(any(DnaFingerprint.class), eq(true));
+        verify(hashFilter, times(1)).put(any(DnaFingerprint.class));
+        verify(hashFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("Debe retornar el veredicto de la BD sin analizar de nuevo")
+    void testAnalyzeDna_ExistingRecord_DoesNotAnalyze() {
+        when(repository.findById(any(UUID.class)))
+                .thenReturn(Mono.just(new ReactiveDnaRecord(UUID.randomUUID(), false)));
+
+        assertFalse(service.analyzeDna(mutantDna).block());
+
+        verify(mutantDetector, never()).analyze(any());
+        verify(repository, never()).insertIfAbsent(any(UUID.class), anyBoolean(), any(LocalDateTime.class));
+        verify(resultCache, times(1)).put(any(DnaFingerprint.class), eq(false));
+    }
+
+    @Test
+    @DisplayName("Debe responder desde la caché en memoria sin consultar la BD")
+    void testAnalyzeDna_CacheHit_SkipsRepository() {
+        when(resultCache.getIfPresent(any(DnaFingerprint.class))).thenReturn(true);
+
+        assertTrue(service.analyzeDna(mutantDna).block());
+
+        verify(repository, never()).findById(any(UUID.class));
+        verify(mutantDetector, never()).analyze(any());
+    }
+
+    @Test
+    @DisplayName("Debe tomar una clave duplicada como ya persistida sin contarla")
+    void testAnalyzeDna_DuplicateKey_IsNotCounted() {
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mutantDetector.analyze(mutantDna)).thenReturn(DnaScanResult.of(true));
+        when(repository.insertIfAbsent(any(UUID.class), anyBoolean(), any(LocalDateTime.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("dna_hash")));
+
+        assertTrue(service.analyzeDna(mutantDna).block());
+
+        verify(statsCounter, never()).recordInserted(anyBoolean());
+        verify(resultCache, times(1)).put(any(DnaFingerprint.class), eq(true));
+    }
+
+    @Test
+    @DisplayName("No debe contar una huella que el MERGE encontró ya persistida")
+    void testAnalyzeDna_AlreadyPersisted_IsNotCounted() {
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mutantDetector.analyze(mutantDna)).thenReturn(DnaScanResult.of(true));
+        when(repository.insertIfAbsent(any(UUID.class), anyBoolean(), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(0));
+
+        assertTrue(service.analyzeDna(mutantDna).block());
+
+        verify(statsCounter, never()).recordInserted(anyBoolean());
+        verify(hashFilter, times(1)).put(any(DnaFingerprint.class));
+    }
+
+    @Test
+    @DisplayName("Debe emitir error para matriz no cuadrada sin consultar la BD")
+    void testAnalyzeDna_NonSquare_EmitsError() {
+        String[] nonSquare = {"ATGCG", "CAG", "TTAT", "AGAC"};
+
+        InvalidDnaException ex = assertThrows(InvalidDnaException.class,
+                () -> service.analyzeDna(nonSquare).block());
+
+        assertEquals(DnaValidationError.NOT_SQUARE, ex.getReason());
+        verify(repository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Debe emitir error para bases inválidas sin guardar")
+    void testAnalyzeDna_InvalidBase_EmitsErrorAndDoesNotSave() {
+        String[] invalid = {"ATXC", "CAGT", "TTAT", "AGAC"};
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mutantDetector.analyze(invalid))
+                .thenReturn(DnaScanResult.invalid(DnaValidationError.INVALID_BASE));
+
+        InvalidDnaException ex = assertThrows(InvalidDnaException.class,
+                () -> service.analyzeDna(invalid).block());
+
+        assertEquals(DnaValidationError.INVALID_BASE, ex.getReason());
+        verify(repository, never()).insertIfAbsent(any(UUID.class), anyBoolean(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Debe analizar matrices grandes en el scheduler de detección")
+    void testAnalyzeDna_LargeMatrix_RunsOnDetectionScheduler() {
+        properties.setOffloadThreshold(4);
+        AtomicReference<String> detectionThread = new AtomicReference<>();
+        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mutantDetector.analyze(mutantDna)).thenAnswer(invocation -> {
+            detectionThread.set(Thread.currentThread().getName());
+            return DnaScanResult.of(true);
+        });
+        when(repository.insertIfAbsent(any(UUID.class), anyBoolean(), any(LocalDateTime.class)))
+                .thenReturn(Mono.just(1));
+
+        service.analyzeDna(mutantDna).block();
+
+        assertTrue(detectionThread.get().startsWith("dna-detect-test"),
+                "La detección no debe correr en el hilo del request: " + detectionThread.get());
+    }
+}
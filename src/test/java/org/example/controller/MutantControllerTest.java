@@ -10,6 +10,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -128,6 +130,114 @@ class MutantControllerTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    // ==================== POST /mutant/stream ====================
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 200 OK cuando es mutante")
+    void testCheckMutantStream_ReturnOk_WhenIsMutant() throws Exception {
+        String jsonRequest = "{\"dna\": [\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]}";
+
+        mockMvc.perform(post("/mutant/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value("mutant"));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 403 Forbidden cuando es humano")
+    void testCheckMutantStream_ReturnForbidden_WhenIsHuman() throws Exception {
+        String jsonRequest = "{\"dna\": [\"ATGCGA\",\"CAGTGC\",\"TTATTT\",\"AGACGG\",\"GCGTCA\",\"TCACTG\"]}";
+
+        mockMvc.perform(post("/mutant/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.result").value("human"));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 400 cuando DNA es inválido")
+    void testCheckMutantStream_ReturnBadRequest_WhenInvalid() throws Exception {
+        String[] invalidRequests = {
+                "{\"dna\": [\"ATXC\",\"CAGT\",\"TTAT\",\"AGAC\"]}",
+                "{\"dna\": [\"ATGC\",\"CAGT\",\"TTAT\"]}",
+                "{\"dna\": null}",
+                "{\"dna\": []}",
+                "{\"dna\": [\"ATGC\""
+        };
+
+        for (String jsonRequest : invalidRequests) {
+            mockMvc.perform(post("/mutant/stream")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(jsonRequest))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").exists());
+        }
+    }
+
+    // ==================== POST /mutant/batch ====================
+
+    @Test
+    @DisplayName("POST /mutant/batch debe retornar un resultado por elemento en orden")
+    void testCheckMutantBatch_ReturnsResultPerItem() throws Exception {
+        String jsonRequest = "{\"dna_list\": ["
+                + "[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"],"
+                + "[\"ATGCGA\",\"CAGTGC\",\"TTATTT\",\"AGACGG\",\"GCGTCA\",\"TCACTG\"],"
+                + "[\"ATXC\",\"CAGT\",\"TTAT\",\"AGAC\"],"
+                + "[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]"
+                + "]}";
+
+        mockMvc.perform(post("/mutant/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(4))
+                .andExpect(jsonPath("$.results[0].result").value("mutant"))
+                .andExpect(jsonPath("$.results[1].result").value("human"))
+                .andExpect(jsonPath("$.results[2].error").exists())
+                .andExpect(jsonPath("$.results[2].result").doesNotExist())
+                .andExpect(jsonPath("$.results[3].index").value(3))
+                .andExpect(jsonPath("$.results[3].result").value("mutant"));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/batch debe retornar 400 cuando la lista está vacía")
+    void testCheckMutantBatch_ReturnBadRequest_WhenEmpty() throws Exception {
+        mockMvc.perform(post("/mutant/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dna_list\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    // ==================== POST /mutant/ndjson ====================
+
+    @Test
+    @DisplayName("POST /mutant/ndjson debe retornar una línea de resultado por línea de ADN")
+    void testCheckMutantNdjson_ReturnsLinePerItem() throws Exception {
+        String body = "{\"dna\": [\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]}\n"
+                + "{\"dna\": [\"ATGCGA\",\"CAGTGC\",\"TTATTT\",\"AGACGG\",\"GCGTCA\",\"TCACTG\"]}\n"
+                + "\n"
+                + "{\"dna\": [\"ATGC\"\n"
+                + "{\"dna\": [\"ATXC\",\"CAGT\",\"TTAT\",\"AGAC\"]}\n";
+
+        String response = mockMvc.perform(post("/mutant/ndjson")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("mutant", objectMapper.readTree(lines[0]).get("result").asText());
+        assertEquals("human", objectMapper.readTree(lines[1]).get("result").asText());
+        assertTrue(objectMapper.readTree(lines[2]).get("error").asText().startsWith("Malformed JSON"));
+        assertEquals(3, objectMapper.readTree(lines[3]).get("index").asInt());
+        assertTrue(objectMapper.readTree(lines[3]).has("error"));
+    }
+
     // ==================== GET /stats ====================
 
     @Test
@@ -168,4 +278,31 @@ class MutantControllerTest {
                 .andExpect(jsonPath("$.count_human_dna").isNumber())
                 .andExpect(jsonPath("$.ratio").isNumber());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /stats con from y to debe retornar 200 OK")
+    void testGetStats_Range_ReturnOk() throws Exception {
+        mockMvc.perform(get("/stats")
+                        .param("from", "2025-01-07T15:00:00Z")
+                        .param("to", "2025-01-07T16:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count_mutant_dna").isNumber())
+                .andExpect(jsonPath("$.count_human_dna").isNumber());
+    }
+
+    @Test
+    @DisplayName("GET /stats debe retornar 400 si from es posterior a to")
+    void testGetStats_InvertedRange_ReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/stats")
+                        .param("from", "2025-01-07T16:00:00Z")
+                        .param("to", "2025-01-07T15:00:00Z"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /stats debe retornar 400 si from no es una fecha")
+    void testGetStats_MalformedFrom_ReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/stats").param("from", "ayer"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.repository;
+
+import org.example.entity.DnaRecord;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para JpaDnaVerdictStore.
+ */
+@DisplayName("JpaDnaVerdictStore - Tests Unitarios")
+class JpaDnaVerdictStoreTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final DnaRecordRepository repository = mock(DnaRecordRepository.class);
+    private final JpaDnaVerdictStore store = new JpaDnaVerdictStore(repository, jdbcTemplate, transactionManager);
+
+    @Test
+    @DisplayName("Debe insertar todo en un solo batch")
+    void testInsertAll_SingleBatch() {
+        List<DnaRecord> records = List.of(
+                new DnaRecord(UUID.randomUUID(), true),
+                new DnaRecord(UUID.randomUUID(), false),
+                new DnaRecord(UUID.randomUUID(), false));
+        when(jdbcTemplate.batchUpdate(eq(JpaDnaVerdictStore.UPSERT_SQL), anyCollection(), anyInt(), any()))
+                .thenReturn(new int[][]{{1, 1, 1}});
+
+        boolean[] inserted = store.insertAll(records);
+
+        assertArrayEquals(new boolean[]{true, true, true}, inserted);
+        verify(jdbcTemplate, times(1))
+                .batchUpdate(eq(JpaDnaVerdictStore.UPSERT_SQL), eq(records), eq(3), any());
+    }
+
+    @Test
+    @DisplayName("Debe marcar como insertadas solo las filas que el MERGE insertó")
+    void testInsertAll_ExistingRowsAreNotInserted() {
+        DnaRecord existing = new DnaRecord(UUID.randomUUID(), true);
+        DnaRecord fresh = new DnaRecord(UUID.randomUUID(), false);
+        when(jdbcTemplate.batchUpdate(eq(JpaDnaVerdictStore.UPSERT_SQL), anyCollection(), anyInt(), any()))
+                .thenReturn(new int[][]{{0, 1}});
+
+        assertArrayEquals(new boolean[]{false, true}, store.insertAll(List.of(existing, fresh)));
+    }
+
+    @Test
+    @DisplayName("Debe reintentar fila por fila si un insert concurrente viola la clave")
+    void testInsertAll_DuplicateFallsBackToRowByRow() {
+        DnaRecord existing = new DnaRecord(UUID.randomUUID(), true);
+        DnaRecord fresh = new DnaRecord(UUID.randomUUID(), false);
+        when(jdbcTemplate.batchUpdate(eq(JpaDnaVerdictStore.UPSERT_SQL), anyCollection(), anyInt(), any()))
+                .thenThrow(new DuplicateKeyException("dna_hash"));
+        when(jdbcTemplate.update(eq(JpaDnaVerdictStore.UPSERT_SQL), eq(existing.getDnaHash()), any(), any()))
+                .thenReturn(0);
+        when(jdbcTemplate.update(eq(JpaDnaVerdictStore.UPSERT_SQL), eq(fresh.getDnaHash()), any(), any()))
+                .thenReturn(1);
+
+        assertArrayEquals(new boolean[]{false, true}, store.insertAll(List.of(existing, fresh)));
+    }
+
+    @Test
+    @DisplayName("Debe insertar una fila con un solo MERGE")
+    void testInsertIfAbsent_Inserted() {
+        DnaRecord record = new DnaRecord(UUID.randomUUID(), true);
+        when(jdbcTemplate.update(eq(JpaDnaVerdictStore.UPSERT_SQL), eq(record.getDnaHash()), any(), any()))
+                .thenReturn(1);
+
+        assertTrue(store.insertIfAbsent(record));
+    }
+
+    @Test
+    @DisplayName("Debe reportar una fila que ya existía")
+    void testInsertIfAbsent_AlreadyExists() {
+        DnaRecord record = new DnaRecord(UUID.randomUUID(), false);
+        when(jdbcTemplate.update(eq(JpaDnaVerdictStore.UPSERT_SQL), eq(record.getDnaHash()), any(), any()))
+                .thenReturn(0);
+
+        assertFalse(store.insertIfAbsent(record));
+    }
+
+    @Test
+    @DisplayName("No debe tocar la BD con una lista vacía")
+    void testInsertAll_Empty() {
+        assertEquals(0, store.insertAll(List.of()).length);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Debe resolver el veredicto por la clave primaria")
+    void testFindVerdict() {
+        DnaFingerprint fingerprint = new DnaFingerprint(1L, 2L);
+        when(repository.findByDnaHash(fingerprint.toUuid()))
+                .thenReturn(Optional.of(new DnaRecord(fingerprint.toUuid(), true)));
+
+        assertTrue(store.findVerdict(fingerprint));
+        assertNull(store.findVerdict(new DnaFingerprint(3L, 4L)));
+    }
+}
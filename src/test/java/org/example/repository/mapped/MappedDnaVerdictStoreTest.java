@@ -0,0 +1,328 @@
+package org.example.repository.mapped;
+
+import org.example.config.StoreProperties;
+import org.example.entity.DnaRecord;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para MappedDnaVerdictStore.
+ * Prueba inserts, resize online y reapertura con y sin cierre limpio.
+ */
+@DisplayName("MappedDnaVerdictStore - Tests Unitarios")
+class MappedDnaVerdictStoreTest {
+
+    private static final ThreadFactory THREADS = Thread.ofPlatform().daemon().factory();
+
+    @TempDir
+    Path directory;
+
+    private final List<MappedDnaVerdictStore> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (MappedDnaVerdictStore store : opened) {
+            store.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe encontrar una huella insertada y no una desconocida")
+    void testInsertAndFind() throws IOException {
+        MappedDnaVerdictStore store = open(1024);
+        DnaRecord mutant = record(true);
+
+        assertTrue(store.insertIfAbsent(mutant));
+
+        assertTrue(store.findVerdict(fingerprint(mutant)));
+        assertNull(store.findVerdict(new DnaFingerprint(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una huella repetida sin cambiar su veredicto")
+    void testInsertIfAbsent_Duplicate() throws IOException {
+        MappedDnaVerdictStore store = open(1024);
+        DnaRecord human = record(false);
+        store.insertIfAbsent(human);
+
+        assertFalse(store.insertIfAbsent(new DnaRecord(human.getDnaHash(), true)));
+        assertFalse(store.findVerdict(fingerprint(human)));
+    }
+
+    @Test
+    @DisplayName("Debe marcar en un batch solo las huellas nuevas y contarlas")
+    void testInsertAll_CountsAndVerdicts() throws IOException {
+        MappedDnaVerdictStore store = open(1024);
+        DnaRecord existing = record(true);
+        store.insertIfAbsent(existing);
+        DnaRecord mutant = record(true);
+        DnaRecord human = record(false);
+
+        boolean[] inserted = store.insertAll(List.of(existing, mutant, human));
+
+        assertArrayEquals(new boolean[]{false, true, true}, inserted);
+        assertEquals(2L, store.countByIsMutant(true));
+        assertEquals(1L, store.countByIsMutant(false));
+        Map<DnaFingerprint, Boolean> verdicts = store.findVerdicts(
+                List.of(fingerprint(mutant), fingerprint(human), new DnaFingerprint(1L, 2L)));
+        assertEquals(Map.of(fingerprint(mutant), true, fingerprint(human), false), verdicts);
+    }
+
+    @Test
+    @DisplayName("Debe insertar una sola vez una huella repetida dentro del batch")
+    void testInsertAll_DuplicateInBatch() throws IOException {
+        MappedDnaVerdictStore store = open(1024);
+        DnaRecord mutant = record(true);
+
+        boolean[] inserted = store.insertAll(List.of(mutant, new DnaRecord(mutant.getDnaHash(), false)));
+
+        assertArrayEquals(new boolean[]{true, false}, inserted);
+        assertTrue(store.findVerdict(fingerprint(mutant)));
+        assertEquals(1L, store.countByIsMutant(true));
+        assertEquals(0L, store.countByIsMutant(false));
+    }
+
+    @Test
+    @DisplayName("No debe publicar un veredicto que el log no pudo guardar")
+    void testInsertAll_LogFailure_NotVisible() throws IOException {
+        MappedDnaVerdictStore store = open(1024);
+        opened.remove(store);
+        store.close(); // Log cerrado: append falla
+        DnaRecord record = record(true);
+
+        assertThrows(DataAccessResourceFailureException.class, () -> store.insertIfAbsent(record));
+
+        assertEquals(0L, store.countByIsMutant(true));
+        // El índice cerrado no se lee
+        assertThrows(DataAccessResourceFailureException.class, () -> store.findVerdict(fingerprint(record)));
+    }
+
+    @Test
+    @DisplayName("Debe recorrer los veredictos con su momento de creación")
+    void testForEachVerdict_CreatedAt() throws IOException {
+        MappedDnaVerdictStore store = open(1024);
+        DnaRecord mutant = record(true);
+        store.insertIfAbsent(mutant);
+        List<Long> createdAt = new ArrayList<>();
+
+        store.forEachVerdict((isMutant, createdAtMillis) -> {
+            assertTrue(isMutant);
+            createdAt.add(createdAtMillis);
+        });
+
+        long expected = mutant.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals(List.of(expected), createdAt);
+    }
+
+    @Test
+    @DisplayName("Debe recorrer los limit veredictos más recientes, del más nuevo al más viejo")
+    void testForEachRecent_NewestFirst() throws IOException {
+        MappedDnaVerdictStore store = open(1024);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<DnaRecord> records = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            DnaRecord record = record(i % 2 == 0);
+            record.setCreatedAt(start.plusMinutes(i));
+            records.add(record);
+        }
+        Collections.shuffle(records, new Random(7)); // El orden de inserción no es el de created_at
+        store.insertAll(records);
+        records.sort(Comparator.comparing(DnaRecord::getCreatedAt).reversed());
+
+        List<DnaFingerprint> recent = new ArrayList<>();
+        store.forEachRecent(5, (fingerprint, isMutant) -> recent.add(fingerprint));
+
+        assertEquals(records.subList(0, 5).stream().map(MappedDnaVerdictStoreTest::fingerprint).toList(), recent);
+    }
+
+    @Test
+    @DisplayName("Debe duplicar la tabla al llenarse sin perder huellas")
+    void testResize() throws IOException {
+        MappedDnaVerdictStore store = open(16);
+        List<DnaRecord> records = records(1000);
+
+        store.insertAll(records);
+
+        for (DnaRecord record : records) {
+            assertEquals(record.isMutant(), store.findVerdict(fingerprint(record)));
+        }
+        assertEquals(500L, store.countByIsMutant(true));
+        assertFalse(Files.exists(directory.resolve(MappedDnaVerdictStore.RESIZE_FILE)));
+    }
+
+    @Test
+    @DisplayName("Debe reservar lugar para el batch antes de agregarlo al log y reabrir con las mismas huellas")
+    void testInsertAll_ReservesRoomBeforeAppend() throws IOException {
+        MappedDnaVerdictStore store = open(16);
+        List<DnaRecord> records = records(1000);
+
+        boolean[] inserted = store.insertAll(records);
+        opened.remove(store);
+        store.close();
+
+        for (boolean value : inserted) {
+            assertTrue(value);
+        }
+        assertEquals(1000L * VerdictLog.RECORD_BYTES, Files.size(directory.resolve(MappedDnaVerdictStore.LOG_FILE)));
+        MappedDnaVerdictStore reopened = open(16);
+        assertEquals(500L, reopened.countByIsMutant(true));
+        assertEquals(500L, reopened.countByIsMutant(false));
+    }
+
+    @Test
+    @DisplayName("Debe mantener visibles las huellas con escritores y lectores concurrentes durante los resize")
+    void testResize_Concurrent() throws Exception {
+        MappedDnaVerdictStore store = open(16);
+        int writers = 4;
+        List<List<DnaRecord>> batches = new ArrayList<>();
+        for (int i = 0; i < writers * 200; i++) {
+            batches.add(records(25));
+        }
+        Queue<DnaRecord> committed = new ConcurrentLinkedQueue<>();
+        AtomicInteger missing = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+
+        Thread reader = THREADS.newThread(() -> {
+            while (!done.get()) {
+                for (DnaRecord record : committed) {
+                    if (store.findVerdict(fingerprint(record)) == null) {
+                        missing.incrementAndGet();
+                    }
+                }
+            }
+        });
+        reader.start();
+        ExecutorService executor = Executors.newFixedThreadPool(writers, THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    for (int i = writer; i < batches.size(); i += writers) {
+                        store.insertAll(batches.get(i));
+                        committed.addAll(batches.get(i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+            reader.join();
+        }
+
+        assertEquals(0, missing.get());
+        long mutants = batches.stream().flatMap(List::stream).filter(DnaRecord::isMutant).count();
+        assertEquals(mutants, store.countByIsMutant(true));
+        for (DnaRecord record : committed) {
+            assertEquals(record.isMutant(), store.findVerdict(fingerprint(record)));
+        }
+        assertFalse(Files.exists(directory.resolve(MappedDnaVerdictStore.RESIZE_FILE)));
+    }
+
+    @Test
+    @DisplayName("Debe reabrir una tabla cerrada limpia con sus huellas y contadores")
+    void testReopen_AfterClose() throws IOException {
+        MappedDnaVerdictStore store = open(16);
+        List<DnaRecord> records = records(100);
+        store.insertAll(records);
+        opened.remove(store);
+        store.close();
+
+        MappedDnaVerdictStore reopened = open(16);
+
+        assertEquals(50L, reopened.countByIsMutant(true));
+        assertEquals(50L, reopened.countByIsMutant(false));
+        for (DnaRecord record : records) {
+            assertEquals(record.isMutant(), reopened.findVerdict(fingerprint(record)));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir la tabla desde el log si el proceso no cerró")
+    void testReopen_WithoutClose_RebuildsFromLog() throws IOException {
+        MappedDnaVerdictStore crashed = open(16);
+        List<DnaRecord> records = records(100);
+        crashed.insertAll(records);
+        opened.remove(crashed); // Simula la caída: sin checkpoint ni flag de cierre limpio
+
+        MappedDnaVerdictStore reopened = open(16);
+
+        assertEquals(50L, reopened.countByIsMutant(true));
+        for (DnaRecord record : records) {
+            assertEquals(record.isMutant(), reopened.findVerdict(fingerprint(record)));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir la tabla desde el log si el archivo no existe")
+    void testReopen_MissingTable_RebuildsFromLog() throws IOException {
+        MappedDnaVerdictStore store = open(1024);
+        DnaRecord record = record(true);
+        store.insertIfAbsent(record);
+        opened.remove(store);
+        store.close();
+        Files.delete(directory.resolve(MappedDnaVerdictStore.TABLE_FILE));
+
+        MappedDnaVerdictStore reopened = open(1024);
+
+        assertTrue(reopened.findVerdict(fingerprint(record)));
+        assertEquals(1L, reopened.countByIsMutant(true));
+    }
+
+    private MappedDnaVerdictStore open(int initialCapacity) throws IOException {
+        StoreProperties.Mapped properties = new StoreProperties.Mapped();
+        properties.setDirectory(directory.toString());
+        properties.setInitialCapacity(initialCapacity);
+        properties.setSync(false);
+        MappedDnaVerdictStore store = MappedDnaVerdictStore.open(properties, THREADS);
+        opened.add(store);
+        return store;
+    }
+
+    private static List<DnaRecord> records(int count) {
+        List<DnaRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(record(i % 2 == 0));
+        }
+        return records;
+    }
+
+    private static DnaRecord record(boolean isMutant) {
+        return new DnaRecord(UUID.randomUUID(), isMutant);
+    }
+
+    private static DnaFingerprint fingerprint(DnaRecord record) {
+        return DnaFingerprint.fromUuid(record.getDnaHash());
+    }
+}
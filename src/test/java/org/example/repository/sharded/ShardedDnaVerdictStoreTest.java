@@ -0,0 +1,144 @@
+package org.example.repository.sharded;
+
+import org.example.config.StoreProperties;
+import org.example.entity.DnaRecord;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ShardedDnaVerdictStore sobre shards H2 en memoria.
+ * Prueba el ruteo por prefijo, los batches repartidos y la suma de conteos.
+ */
+@DisplayName("ShardedDnaVerdictStore - Tests Unitarios")
+class ShardedDnaVerdictStoreTest {
+
+    private static final int SHARDS = 4;
+
+    private ShardedDnaVerdictStore store;
+
+    @BeforeEach
+    void setUp() {
+        StoreProperties.Sharded properties = new StoreProperties.Sharded();
+        String database = UUID.randomUUID().toString();
+        for (int i = 0; i < SHARDS; i++) {
+            StoreProperties.Shard shard = new StoreProperties.Shard();
+            shard.setUrl("jdbc:h2:mem:" + database + "-" + i + ";DB_CLOSE_DELAY=-1");
+            shard.setMaximumPoolSize(2);
+            properties.getShards().add(shard);
+        }
+        store = ShardedDnaVerdictStore.open(properties, Thread.ofPlatform().daemon().factory());
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Debe rutear por prefijo: los extremos al primer y último shard")
+    void testShardIndex_ByPrefix() {
+        assertEquals(0, store.shardIndex(0L));
+        assertEquals(0, store.shardIndex(0x3FFF_FFFF_FFFF_FFFFL));
+        assertEquals(1, store.shardIndex(0x4000_0000_0000_0000L));
+        assertEquals(SHARDS - 1, store.shardIndex(-1L));
+    }
+
+    @Test
+    @DisplayName("Debe guardar cada registro solo en el shard dueño de su huella")
+    void testInsertAll_OnlyOwningShard() {
+        List<DnaRecord> records = records(200);
+
+        boolean[] inserted = store.insertAll(records);
+
+        long total = 0;
+        for (int i = 0; i < SHARDS; i++) {
+            long[] counts = store.shard(i).countVerdicts();
+            assertTrue(counts[0] + counts[1] > 0, "shard " + i + " should receive records");
+            total += counts[0] + counts[1];
+        }
+        assertEquals(records.size(), total);
+        for (int i = 0; i < records.size(); i++) {
+            assertTrue(inserted[i]);
+            UUID hash = records.get(i).getDnaHash();
+            int owner = store.shardIndex(hash.getMostSignificantBits());
+            assertEquals(records.get(i).isMutant(), store.shard(owner).findVerdict(hash));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe marcar en un batch solo las huellas nuevas")
+    void testInsertAll_ExistingNotInserted() {
+        DnaRecord existing = record(true);
+        assertTrue(store.insertIfAbsent(existing));
+        DnaRecord fresh = record(false);
+
+        assertArrayEquals(new boolean[]{false, true}, store.insertAll(List.of(existing, fresh)));
+        assertFalse(store.insertIfAbsent(fresh));
+    }
+
+    @Test
+    @DisplayName("Debe buscar huellas de varios shards en una sola llamada")
+    void testFindVerdicts_AcrossShards() {
+        List<DnaRecord> records = records(50);
+        store.insertAll(records);
+        List<DnaFingerprint> fingerprints = new ArrayList<>();
+        for (DnaRecord record : records) {
+            fingerprints.add(DnaFingerprint.fromUuid(record.getDnaHash()));
+        }
+        fingerprints.add(new DnaFingerprint(1L, 2L));
+
+        Map<DnaFingerprint, Boolean> verdicts = store.findVerdicts(fingerprints);
+
+        assertEquals(records.size(), verdicts.size());
+        for (DnaRecord record : records) {
+            assertEquals(record.isMutant(), verdicts.get(DnaFingerprint.fromUuid(record.getDnaHash())));
+        }
+        assertNull(store.findVerdict(new DnaFingerprint(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Debe sumar los conteos de todos los shards")
+    void testCountVerdicts_Aggregates() {
+        store.insertAll(records(100));
+
+        assertArrayEquals(new long[]{50L, 50L}, store.countVerdicts());
+        assertEquals(50L, store.countByIsMutant(true));
+    }
+
+    @Test
+    @DisplayName("Debe recorrer las huellas de todos los shards")
+    void testForEachFingerprint_AllShards() {
+        List<DnaRecord> records = records(40);
+        store.insertAll(records);
+        List<DnaFingerprint> visited = new ArrayList<>();
+
+        store.forEachFingerprint(visited::add);
+
+        assertEquals(records.size(), visited.size());
+        List<DnaFingerprint> recent = new ArrayList<>();
+        store.forEachRecent(10, (fingerprint, isMutant) -> recent.add(fingerprint));
+        assertEquals(10, recent.size());
+    }
+
+    private static List<DnaRecord> records(int count) {
+        List<DnaRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(record(i % 2 == 0));
+        }
+        return records;
+    }
+
+    private static DnaRecord record(boolean isMutant) {
+        return new DnaRecord(UUID.randomUUID(), isMutant);
+    }
+}
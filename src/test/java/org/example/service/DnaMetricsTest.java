@@ -0,0 +1,67 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.service.engine.DnaScanResult;
+import org.example.validation.DnaValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para DnaMetrics.
+ */
+@DisplayName("DnaMetrics - Tests Unitarios")
+class DnaMetricsTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final DnaMetrics metrics = new DnaMetrics(registry);
+
+    @Test
+    @DisplayName("Debe registrar todos los medidores al crearse")
+    void testMetersArePreRegistered() {
+        // 4 fases x 4 tamaños x 3 veredictos
+        assertEquals(48, registry.find("dna.analysis.phase").timers().size());
+        assertEquals(5, registry.find("dna.lookup").counters().size());
+        assertEquals(DnaValidationError.values().length,
+                registry.find("dna.validation.rejections").counters().size());
+    }
+
+    @Test
+    @DisplayName("Debe etiquetar la fase por tamaño y veredicto")
+    void testRecordPhase_TagsBySizeAndVerdict() {
+        metrics.recordPhase(DnaMetrics.Phase.PERSIST, 500, DnaScanResult.Verdict.HUMAN, 1_000);
+
+        assertEquals(1, registry.get("dna.analysis.phase")
+                .tags("phase", "persist", "size", "le_1000", "verdict", "human")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe registrar profundidad de recorrido y rechazos en la detección")
+    void testRecordDetection_CellsAndRejections() {
+        metrics.recordDetection(6, DnaScanResult.of(true, 20), 1_000);
+        metrics.recordDetection(6, DnaScanResult.invalid(DnaValidationError.INVALID_BASE), 1_000);
+        metrics.recordDetection(6, DnaScanResult.of(false), 1_000);
+
+        assertEquals(20, registry.get("dna.detection.cells.scanned")
+                .tags("size", "le_10", "verdict", "mutant").summary().totalAmount());
+        // Un motor que no reporta la profundidad no agrega muestras
+        assertEquals(0, registry.get("dna.detection.cells.scanned")
+                .tags("size", "le_10", "verdict", "human").summary().count());
+        assertEquals(1, registry.get("dna.validation.rejections")
+                .tag("reason", "invalid_base").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe separar hits y misses de búsqueda")
+    void testRecordLookup_HitAndMiss() {
+        metrics.recordLookup(DnaMetrics.LookupSource.CACHE);
+        metrics.recordLookup(DnaMetrics.LookupSource.FILTER);
+        metrics.recordLookup(DnaMetrics.LookupSource.FILTER);
+
+        assertEquals(1, registry.get("dna.lookup").tags("result", "hit", "source", "cache").counter().count());
+        assertEquals(2, registry.get("dna.lookup").tags("result", "miss", "source", "filter").counter().count());
+    }
+}
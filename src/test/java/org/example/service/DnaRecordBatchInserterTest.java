@@ -0,0 +1,64 @@
+package org.example.service;
+
+import org.example.entity.DnaRecord;
+import org.example.repository.DnaVerdictStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para DnaRecordBatchInserter.
+ */
+@DisplayName("DnaRecordBatchInserter - Tests Unitarios")
+class DnaRecordBatchInserterTest {
+
+    private final DnaVerdictStore store = mock(DnaVerdictStore.class);
+    private final DnaStatsCounter statsCounter = mock(DnaStatsCounter.class);
+    private final DnaRecordBatchInserter inserter = new DnaRecordBatchInserter(store, statsCounter);
+
+    @Test
+    @DisplayName("Debe contar solo los registros que el índice insertó")
+    void testInsertAll_CountsInsertedOnly() {
+        List<DnaRecord> records = List.of(
+                new DnaRecord(UUID.randomUUID(), true),
+                new DnaRecord(UUID.randomUUID(), false),
+                new DnaRecord(UUID.randomUUID(), false));
+        when(store.insertAll(records)).thenReturn(new boolean[]{true, false, true});
+
+        assertEquals(2, inserter.insertAll(records));
+        verify(statsCounter).recordInserted(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("Debe contar una fila insertada")
+    void testInsertIfAbsent_Inserted() {
+        DnaRecord record = new DnaRecord(UUID.randomUUID(), true);
+        when(store.insertIfAbsent(record)).thenReturn(true);
+
+        assertTrue(inserter.insertIfAbsent(record));
+        verify(statsCounter).recordInserted(true);
+    }
+
+    @Test
+    @DisplayName("No debe contar una fila que ya existía")
+    void testInsertIfAbsent_AlreadyExists() {
+        DnaRecord record = new DnaRecord(UUID.randomUUID(), false);
+        when(store.insertIfAbsent(record)).thenReturn(false);
+
+        assertFalse(inserter.insertIfAbsent(record));
+        verifyNoInteractions(statsCounter);
+    }
+
+    @Test
+    @DisplayName("No debe tocar el índice con una lista vacía")
+    void testInsertAll_Empty() {
+        assertEquals(0, inserter.insertAll(List.of()));
+        verifyNoInteractions(store, statsCounter);
+    }
+}
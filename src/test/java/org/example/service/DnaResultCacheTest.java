@@ -0,0 +1,69 @@
+package org.example.service;
+
+import org.example.config.DnaCacheProperties;
+import org.example.dto.CacheStatsResponse;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests unitarios para DnaResultCache.
+ */
+@DisplayName("DnaResultCache - Tests Unitarios")
+class DnaResultCacheTest {
+
+    private static final DnaFingerprint FIRST = new DnaFingerprint(1L, 1L);
+    private static final DnaFingerprint SECOND = new DnaFingerprint(2L, 2L);
+
+    private final DnaVerdictStore store = mock(DnaVerdictStore.class);
+
+    @Test
+    @DisplayName("Debe retornar el veredicto guardado y contar hits y misses")
+    void testPutAndGet_RecordsStats() {
+        DnaResultCache cache = new DnaResultCache(new DnaCacheProperties(), store);
+
+        assertNull(cache.getIfPresent(FIRST));
+        cache.put(FIRST, true);
+        cache.put(SECOND, false);
+
+        assertTrue(cache.getIfPresent(FIRST));
+        assertFalse(cache.getIfPresent(SECOND));
+
+        CacheStatsResponse stats = cache.getStats();
+        assertTrue(stats.isEnabled());
+        assertEquals(2, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(2, stats.getSize());
+        assertEquals(2L * DnaResultCache.ENTRY_BYTES, stats.getWeightedBytes());
+    }
+
+    @Test
+    @DisplayName("Debe olvidar el veredicto invalidado")
+    void testInvalidate_RemovesEntry() {
+        DnaResultCache cache = new DnaResultCache(new DnaCacheProperties(), store);
+        cache.put(FIRST, true);
+        cache.put(SECOND, false);
+
+        cache.invalidate(FIRST);
+
+        assertNull(cache.getIfPresent(FIRST));
+        assertFalse(cache.getIfPresent(SECOND));
+    }
+
+    @Test
+    @DisplayName("Debe ignorar lecturas y escrituras cuando está deshabilitada")
+    void testDisabledCache() {
+        DnaCacheProperties properties = new DnaCacheProperties();
+        properties.setEnabled(false);
+        DnaResultCache cache = new DnaResultCache(properties, store);
+
+        cache.put(FIRST, true);
+
+        assertNull(cache.getIfPresent(FIRST));
+        assertFalse(cache.getStats().isEnabled());
+    }
+}
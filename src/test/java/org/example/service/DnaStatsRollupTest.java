@@ -0,0 +1,272 @@
+package org.example.service;
+
+import org.example.config.StatsProperties;
+import org.example.dto.StatsResponse;
+import org.example.entity.DnaStatsBucket.Granularity;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.DnaStatsRollup.Segment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para DnaStatsRollup.
+ * Prueba la cobertura de rangos con buckets, la retención y los minutos sin volcar.
+ */
+@DisplayName("DnaStatsRollup - Tests Unitarios")
+class DnaStatsRollupTest {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DnaVerdictStore store = mock(DnaVerdictStore.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-07T15:30:20Z"), ZoneOffset.UTC);
+    private final DnaStatsRollup rollup = new DnaStatsRollup(
+            jdbcTemplate, store, transactionManager, new StatsProperties(), Thread.ofPlatform().factory(), clock);
+
+    @BeforeEach
+    void setUp() {
+        stubBuckets(0, 0);
+    }
+
+    @Test
+    @DisplayName("Debe cubrir un rango de varios días con días, horas y minutos")
+    void testSegments_DaysHoursAndMinutes() {
+        List<Segment> segments = DnaStatsRollup.segments(
+                at("2025-01-05T10:30:00Z"), at("2025-01-07T14:20:00Z"), NEVER, NEVER);
+
+        assertEquals(List.of(
+                new Segment(Granularity.DAY, at("2025-01-06T00:00:00Z"), at("2025-01-07T00:00:00Z")),
+                new Segment(Granularity.HOUR, at("2025-01-05T11:00:00Z"), at("2025-01-06T00:00:00Z")),
+                new Segment(Granularity.MINUTE, at("2025-01-05T10:30:00Z"), at("2025-01-05T11:00:00Z")),
+                new Segment(Granularity.HOUR, at("2025-01-07T00:00:00Z"), at("2025-01-07T14:00:00Z")),
+                new Segment(Granularity.MINUTE, at("2025-01-07T14:00:00Z"), at("2025-01-07T14:20:00Z"))
+        ), segments);
+    }
+
+    @Test
+    @DisplayName("Debe cubrir un rango dentro de una hora solo con minutos")
+    void testSegments_WithinOneHour() {
+        List<Segment> segments = DnaStatsRollup.segments(
+                at("2025-01-07T10:30:00Z"), at("2025-01-07T10:45:00Z"), NEVER, NEVER);
+
+        assertEquals(List.of(
+                new Segment(Granularity.MINUTE, at("2025-01-07T10:30:00Z"), at("2025-01-07T10:45:00Z"))
+        ), segments);
+    }
+
+    @Test
+    @DisplayName("Debe partir en el límite de hora un rango sin horas completas")
+    void testSegments_CrossesHourBoundary() {
+        List<Segment> segments = DnaStatsRollup.segments(
+                at("2025-01-07T10:30:00Z"), at("2025-01-07T11:20:00Z"), NEVER, NEVER);
+
+        assertEquals(List.of(
+                new Segment(Granularity.MINUTE, at("2025-01-07T10:30:00Z"), at("2025-01-07T11:00:00Z")),
+                new Segment(Granularity.MINUTE, at("2025-01-07T11:00:00Z"), at("2025-01-07T11:20:00Z"))
+        ), segments);
+    }
+
+    @Test
+    @DisplayName("Debe redondear a la hora un borde sin buckets por minuto")
+    void testSegments_ExpiredMinutesUseHour() {
+        List<Segment> segments = DnaStatsRollup.segments(
+                at("2025-01-07T10:30:00Z"), at("2025-01-07T12:20:00Z"), at("2025-01-07T12:00:00Z"), NEVER);
+
+        assertEquals(List.of(
+                new Segment(Granularity.HOUR, at("2025-01-07T11:00:00Z"), at("2025-01-07T12:00:00Z")),
+                new Segment(Granularity.HOUR, at("2025-01-07T10:00:00Z"), at("2025-01-07T11:00:00Z")),
+                new Segment(Granularity.MINUTE, at("2025-01-07T12:00:00Z"), at("2025-01-07T12:20:00Z"))
+        ), segments);
+    }
+
+    @Test
+    @DisplayName("Debe consultar una sola vez el día al que se redondean dos bordes")
+    void testSegments_ExpiredHoursUseDayOnce() {
+        long cutoff = at("2025-01-06T00:00:00Z");
+        List<Segment> segments = DnaStatsRollup.segments(
+                at("2025-01-05T10:30:00Z"), at("2025-01-06T05:00:00Z"), cutoff, cutoff);
+
+        assertEquals(List.of(
+                new Segment(Granularity.DAY, at("2025-01-05T00:00:00Z"), at("2025-01-06T00:00:00Z")),
+                new Segment(Granularity.HOUR, at("2025-01-06T00:00:00Z"), at("2025-01-06T05:00:00Z"))
+        ), segments);
+    }
+
+    @Test
+    @DisplayName("No debe consultar horas de un día al que se redondeó un borde")
+    void testSegments_ExpiredEdgeDayCoversHours() {
+        long day = at("2025-01-05T00:00:00Z");
+        List<Segment> segments = DnaStatsRollup.segments(
+                at("2025-01-05T04:30:00Z"), at("2025-01-07T00:00:00Z"),
+                at("2025-01-05T05:00:00Z"), at("2025-01-05T05:00:00Z"));
+
+        assertEquals(List.of(
+                new Segment(Granularity.DAY, at("2025-01-06T00:00:00Z"), at("2025-01-07T00:00:00Z")),
+                new Segment(Granularity.DAY, day, at("2025-01-06T00:00:00Z"))
+        ), segments);
+    }
+
+    @Test
+    @DisplayName("Debe devolver rangos disjuntos que cubren el rango para cualquier retención")
+    void testSegments_AlwaysDisjoint() {
+        Random random = new Random(21);
+        long origin = at("2025-01-01T00:00:00Z");
+        long window = 10 * Granularity.DAY.getSeconds() / 60;
+
+        for (int i = 0; i < 5_000; i++) {
+            long from = origin + random.nextLong(window) * 60;
+            long to = from + random.nextLong(window) * 60;
+            long minuteCutoff = random.nextInt(8) == 0 ? NEVER : origin + random.nextLong(window) * 60;
+            long hourCutoff = random.nextInt(8) == 0 ? NEVER
+                    : Granularity.HOUR.floor(origin + random.nextLong(window) * 60);
+            List<Segment> segments = DnaStatsRollup.segments(from, to, minuteCutoff, hourCutoff);
+            String context = "from=" + from + " to=" + to + " minuteCutoff=" + minuteCutoff + " hourCutoff=" + hourCutoff;
+
+            for (int a = 0; a < segments.size(); a++) {
+                Segment first = segments.get(a);
+                assertTrue(first.from() < first.to(), context);
+                assertTrue(first.granularity() != Granularity.MINUTE || first.from() >= minuteCutoff, context);
+                assertTrue(first.granularity() != Granularity.HOUR || first.from() >= hourCutoff, context);
+                for (int b = a + 1; b < segments.size(); b++) {
+                    Segment second = segments.get(b);
+                    assertTrue(first.to() <= second.from() || second.to() <= first.from(),
+                            context + " " + first + " " + second);
+                }
+            }
+            if (from < to) {
+                for (long minute : new long[]{from, to - 60, from + random.nextLong((to - from) / 60) * 60}) {
+                    assertEquals(1, segments.stream()
+                            .filter(segment -> segment.from() <= minute && minute < segment.to())
+                            .count(), context + " minute=" + minute);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debe sumar los minutos todavía no volcados a la tabla")
+    void testQuery_CountsPendingMinutes() {
+        rollup.record(2, 1);
+        rollup.record(0, 3);
+
+        StatsResponse stats = rollup.query(Instant.parse("2025-01-07T15:00:00Z"), null);
+
+        assertEquals(2L, stats.getCountMutantDna());
+        assertEquals(4L, stats.getCountHumanDna());
+    }
+
+    @Test
+    @DisplayName("No debe sumar minutos pendientes fuera del rango")
+    void testQuery_PendingOutsideRange() {
+        rollup.record(2, 1);
+
+        StatsResponse stats = rollup.query(
+                Instant.parse("2025-01-07T14:00:00Z"), Instant.parse("2025-01-07T15:00:00Z"));
+
+        assertEquals(0L, stats.getCountMutantDna());
+        assertEquals(0L, stats.getCountHumanDna());
+    }
+
+    @Test
+    @DisplayName("Debe volcar cada minuto a sus buckets de minuto, hora y día")
+    @SuppressWarnings("unchecked")
+    void testFlush_WritesThreeLevels() {
+        rollup.record(1, 0);
+        rollup.record(0, 2);
+
+        rollup.flush();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(DnaStatsRollup.MERGE_SQL), rows.capture());
+        assertEquals(3, rows.getValue().size());
+        assertTrue(rows.getValue().stream().anyMatch(row -> List.of(row).equals(
+                List.of("MINUTE", at("2025-01-07T15:30:00Z"), 1L, 2L))));
+        assertTrue(rows.getValue().stream().anyMatch(row -> List.of(row).equals(
+                List.of("HOUR", at("2025-01-07T15:00:00Z"), 1L, 2L))));
+        assertTrue(rows.getValue().stream().anyMatch(row -> List.of(row).equals(
+                List.of("DAY", at("2025-01-07T00:00:00Z"), 1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("No debe contar dos veces un minuto ya volcado")
+    void testQuery_AfterFlush_ReadsOnlyTable() {
+        rollup.record(1, 2);
+        rollup.flush();
+        stubBuckets(1, 2);
+
+        StatsResponse stats = rollup.query(Instant.parse("2025-01-07T15:00:00Z"), null);
+
+        assertEquals(1L, stats.getCountMutantDna());
+        assertEquals(2L, stats.getCountHumanDna());
+    }
+
+    @Test
+    @DisplayName("Debe conservar los minutos si el volcado falla")
+    void testFlush_FailureKeepsPending() {
+        rollup.record(1, 0);
+        when(jdbcTemplate.batchUpdate(eq(DnaStatsRollup.MERGE_SQL), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        rollup.flush();
+        StatsResponse stats = rollup.query(Instant.parse("2025-01-07T15:00:00Z"), null);
+
+        assertEquals(1L, stats.getCountMutantDna());
+    }
+
+    @Test
+    @DisplayName("No debe tocar la BD al volcar sin inserts")
+    void testFlush_Empty() {
+        rollup.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Debe completar los buckets vacíos desde el índice de veredictos al iniciar")
+    @SuppressWarnings("unchecked")
+    void testStart_BackfillsFromVerdictStore() throws InterruptedException {
+        doAnswer(invocation -> {
+            DnaVerdictStore.VerdictConsumer action = invocation.getArgument(0);
+            action.accept(true, Instant.parse("2025-01-07T15:10:05Z").toEpochMilli());
+            action.accept(false, Instant.parse("2025-01-07T15:10:40Z").toEpochMilli());
+            return null;
+        }).when(store).forEachVerdict(any());
+
+        rollup.start();
+        rollup.stop();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(DnaStatsRollup.MERGE_SQL), rows.capture());
+        assertTrue(rows.getValue().stream().anyMatch(row -> List.of(row).equals(
+                List.of("MINUTE", at("2025-01-07T15:10:00Z"), 1L, 1L))));
+        verify(jdbcTemplate, never()).query(contains("dna_records"), any(RowCallbackHandler.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubBuckets(long mutants, long humans) {
+        when(jdbcTemplate.queryForObject(startsWith(DnaStatsRollup.SUM_SQL), any(RowMapper.class), any(Object[].class)))
+                .thenReturn(new long[]{mutants, humans});
+    }
+
+    private static long at(String instant) {
+        return Instant.parse(instant).getEpochSecond();
+    }
+}
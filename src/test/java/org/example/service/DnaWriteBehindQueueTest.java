@@ -0,0 +1,231 @@
+package org.example.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.config.WriteBehindProperties;
+import org.example.entity.DnaRecord;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para DnaWriteBehindQueue.
+ */
+@DisplayName("DnaWriteBehindQueue - Tests Unitarios")
+class DnaWriteBehindQueueTest {
+
+    private final DnaRecordBatchInserter batchInserter = mock(DnaRecordBatchInserter.class);
+    private final DnaResultCache resultCache = mock(DnaResultCache.class);
+    private final ThreadFactory threadFactory = Thread.ofVirtual().factory();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final DnaMetrics metrics = new DnaMetrics(registry);
+
+    @Test
+    @DisplayName("Debe persistir todo lo encolado en batches y vaciar la cola al detenerse")
+    void testEnqueue_FlushesInBatchesAndDrainsOnStop() throws InterruptedException {
+        List<DnaRecord> flushed = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        when(batchInserter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<DnaRecord> batch = invocation.getArgument(0);
+            flushed.addAll(batch);
+            batchSizes.add(batch.size());
+            return batch.size();
+        });
+
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setBatchSize(4);
+        properties.setFlushInterval(Duration.ofMillis(200));
+        DnaWriteBehindQueue queue = new DnaWriteBehindQueue(properties, batchInserter, resultCache, metrics, threadFactory);
+        queue.start();
+
+        for (int i = 0; i < 10; i++) {
+            queue.enqueue(new DnaFingerprint(i, i), i % 2 == 0);
+        }
+        queue.enqueue(new DnaFingerprint(0, 0), true); // Ya pendiente: no se duplica
+        queue.stop();
+
+        assertEquals(10, flushed.size());
+        assertEquals(5, flushed.stream().filter(DnaRecord::isMutant).count());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 4));
+        assertNull(queue.getPending(new DnaFingerprint(0, 0)));
+    }
+
+    @Test
+    @DisplayName("Debe exponer el veredicto pendiente hasta que el batch se confirme")
+    void testGetPending_UntilFlushCompletes() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(batchInserter.insertAll(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return 1;
+        });
+
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setEnabled(true);
+        DnaWriteBehindQueue queue = new DnaWriteBehindQueue(properties, batchInserter, resultCache, metrics, threadFactory);
+        queue.start();
+        DnaFingerprint fingerprint = new DnaFingerprint(1, 2);
+
+        queue.enqueue(fingerprint, true);
+        assertTrue(queue.getPending(fingerprint));
+
+        release.countDown();
+        queue.stop();
+        assertNull(queue.getPending(fingerprint));
+    }
+
+    @Test
+    @DisplayName("Debe reintentar un batch fallido y liberar los pendientes recién con el commit")
+    void testFlush_RetriesUntilCommit() throws InterruptedException {
+        CountDownLatch failed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(batchInserter.insertAll(anyList()))
+                .thenAnswer(invocation -> {
+                    failed.countDown();
+                    throw new DataAccessResourceFailureException("down");
+                })
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return 1;
+                });
+
+        DnaWriteBehindQueue queue = new DnaWriteBehindQueue(retrying(3), batchInserter, resultCache, metrics, threadFactory);
+        queue.start();
+        DnaFingerprint fingerprint = new DnaFingerprint(1, 2);
+
+        queue.enqueue(fingerprint, true);
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertTrue(queue.getPending(fingerprint)); // Sigue pendiente mientras se reintenta
+
+        release.countDown();
+        queue.stop();
+        verify(batchInserter, times(2)).insertAll(anyList());
+        assertNull(queue.getPending(fingerprint));
+        assertEquals(0.0, registry.counter("dna.write_behind.dropped").count());
+    }
+
+    @Test
+    @DisplayName("Debe descartar y contar un batch que falla en todos los reintentos")
+    void testFlush_DropsAfterRetries() throws InterruptedException {
+        when(batchInserter.insertAll(anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        DnaWriteBehindQueue queue = new DnaWriteBehindQueue(retrying(2), batchInserter, resultCache, metrics, threadFactory);
+        queue.start();
+        queue.enqueue(new DnaFingerprint(1, 2), true);
+        queue.enqueue(new DnaFingerprint(3, 4), false);
+        queue.stop();
+
+        assertEquals(2.0, registry.counter("dna.write_behind.dropped").count());
+        assertNull(queue.getPending(new DnaFingerprint(1, 2)));
+        verify(resultCache).invalidate(new DnaFingerprint(1, 2));
+        verify(resultCache).invalidate(new DnaFingerprint(3, 4));
+    }
+
+    @Test
+    @DisplayName("Debe guardar sincrónicamente si la cola sigue llena tras enqueueTimeout")
+    void testEnqueue_FullQueueFallsBackToSynchronousFlush() throws InterruptedException {
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread requestThread = Thread.currentThread();
+        List<DnaRecord> synchronous = new ArrayList<>();
+        when(batchInserter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<DnaRecord> batch = invocation.getArgument(0);
+            if (Thread.currentThread() == requestThread) {
+                synchronous.addAll(batch);
+            } else if (writerBusy.getCount() > 0) {
+                writerBusy.countDown();
+                release.await(); // El escritor queda ocupado con el primer batch
+            }
+            return batch.size();
+        });
+
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setQueueCapacity(1);
+        properties.setBatchSize(1);
+        properties.setEnqueueTimeout(Duration.ofMillis(10));
+        DnaWriteBehindQueue queue = new DnaWriteBehindQueue(properties, batchInserter, resultCache, metrics, threadFactory);
+        queue.start();
+
+        queue.enqueue(new DnaFingerprint(1, 1), true);
+        assertTrue(writerBusy.await(5, TimeUnit.SECONDS));
+        queue.enqueue(new DnaFingerprint(2, 2), true); // Ocupa la cola
+        queue.enqueue(new DnaFingerprint(3, 3), false); // Cola llena: se guarda en este hilo
+
+        assertEquals(1, synchronous.size());
+        assertFalse(synchronous.get(0).isMutant());
+
+        release.countDown();
+        queue.stop();
+        verify(batchInserter, times(3)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe intentar una sola vez el guardado sincrónico con la cola llena")
+    void testEnqueue_SynchronousFallbackDoesNotRetry() throws InterruptedException {
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread requestThread = Thread.currentThread();
+        when(batchInserter.insertAll(anyList())).thenAnswer(invocation -> {
+            if (Thread.currentThread() == requestThread) {
+                throw new DataAccessResourceFailureException("down");
+            }
+            if (writerBusy.getCount() > 0) {
+                writerBusy.countDown();
+                release.await();
+            }
+            return 1;
+        });
+
+        WriteBehindProperties properties = retrying(3);
+        properties.setQueueCapacity(1);
+        properties.setBatchSize(1);
+        properties.setEnqueueTimeout(Duration.ofMillis(10));
+        properties.setRetryBackoff(Duration.ofSeconds(10)); // Un reintento aquí colgaría el test
+        DnaWriteBehindQueue queue = new DnaWriteBehindQueue(properties, batchInserter, resultCache, metrics, threadFactory);
+        queue.start();
+
+        queue.enqueue(new DnaFingerprint(1, 1), true);
+        assertTrue(writerBusy.await(5, TimeUnit.SECONDS));
+        queue.enqueue(new DnaFingerprint(2, 2), true); // Ocupa la cola
+        queue.enqueue(new DnaFingerprint(3, 3), false); // Falla una vez y se descarta
+
+        assertEquals(1.0, registry.counter("dna.write_behind.dropped").count());
+        assertNull(queue.getPending(new DnaFingerprint(3, 3)));
+        verify(resultCache).invalidate(new DnaFingerprint(3, 3));
+
+        release.countDown();
+        queue.stop();
+        verify(batchInserter, times(3)).insertAll(anyList());
+        verify(resultCache, never()).invalidate(new DnaFingerprint(1, 1));
+    }
+
+    @Test
+    @DisplayName("Debe estar deshabilitada por defecto")
+    void testDisabledByDefault() {
+        DnaWriteBehindQueue queue = new DnaWriteBehindQueue(new WriteBehindProperties(), batchInserter, resultCache, metrics, threadFactory);
+
+        assertFalse(queue.isEnabled());
+        assertNull(queue.getPending(new DnaFingerprint(1, 2)));
+    }
+
+    private static WriteBehindProperties retrying(int maxRetries) {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setMaxRetries(maxRetries);
+        properties.setRetryBackoff(Duration.ofMillis(1));
+        return properties;
+    }
+}
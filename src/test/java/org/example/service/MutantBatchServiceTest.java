@@ -0,0 +1,118 @@
+package org.example.service;
+
+import org.example.config.BatchProperties;
+import org.example.dto.BatchItemResult;
+import org.example.entity.DnaRecord;
+import org.example.exception.InvalidDnaException;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.example.service.fingerprint.DnaFingerprinter;
+import org.example.service.fingerprint.Murmur3Fingerprinter;
+import org.example.validation.DnaValidationError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para MutantBatchService.
+ */
+@DisplayName("MutantBatchService - Tests Unitarios")
+class MutantBatchServiceTest {
+
+    private static final String[] MUTANT = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+    private static final String[] HUMAN = {"ATGCGA", "CAGTGC", "TTATTT", "AGACGG", "GCGTCA", "TCACTG"};
+    private static final String[] INVALID = {"ATXC", "CAGT", "TTAT", "AGAC"};
+
+    private final MutantDetector mutantDetector = mock(MutantDetector.class);
+    private final DnaVerdictStore store = mock(DnaVerdictStore.class);
+    private final DnaFingerprinter fingerprinter = new Murmur3Fingerprinter();
+    private final DnaResultCache resultCache = mock(DnaResultCache.class);
+    private final DnaHashFilter hashFilter = mock(DnaHashFilter.class);
+    private final DnaWriteBehindQueue writeBehindQueue = mock(DnaWriteBehindQueue.class);
+    private final DnaRecordBatchInserter batchInserter = mock(DnaRecordBatchInserter.class);
+
+    private MutantBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        BatchProperties properties = new BatchProperties();
+        properties.setMaxItems(5);
+        batchService = new MutantBatchService(properties, mutantDetector, store, fingerprinter,
+                resultCache, hashFilter, writeBehindQueue, batchInserter);
+
+        // Mockito responde false (no null) para Boolean: sin esto todo ADN
+        // parecería un humano ya cacheado o pendiente de write-behind
+        when(resultCache.getIfPresent(any(DnaFingerprint.class))).thenReturn(null);
+        when(writeBehindQueue.getPending(any(DnaFingerprint.class))).thenReturn(null);
+        when(hashFilter.mightContain(any(DnaFingerprint.class))).thenReturn(true);
+        when(mutantDetector.analyze(MUTANT)).thenReturn(DnaScanResult.of(true));
+        when(mutantDetector.analyze(HUMAN)).thenReturn(DnaScanResult.of(false));
+        when(mutantDetector.analyze(INVALID)).thenReturn(DnaScanResult.invalid(DnaValidationError.INVALID_BASE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe deduplicar, consultar la BD una vez y guardar los nuevos en un batch")
+    void testAnalyzeBatch_DedupesAndPersistsOnce() {
+        List<BatchItemResult> results = batchService.analyzeBatch(
+                Arrays.asList(MUTANT, HUMAN, MUTANT.clone(), INVALID, null));
+
+        assertEquals("mutant", results.get(0).getResult());
+        assertEquals("human", results.get(1).getResult());
+        assertEquals("mutant", results.get(2).getResult());
+        assertEquals(DnaValidationError.INVALID_BASE.getMessage(), results.get(3).getError());
+        assertEquals(DnaValidationError.NULL_DNA.getMessage(), results.get(4).getError());
+
+        verify(store, times(1)).findVerdicts(anyList());
+        verify(mutantDetector, times(1)).analyze(MUTANT);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DnaRecord>> saved = ArgumentCaptor.forClass(List.class);
+        verify(batchInserter, times(1)).insertAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Debe resolver huellas conocidas sin volver a analizar ni guardar")
+    void testAnalyzeBatch_KnownFingerprints() {
+        DnaFingerprint humanKey = fingerprinter.fingerprint(HUMAN);
+        when(resultCache.getIfPresent(fingerprinter.fingerprint(MUTANT))).thenReturn(true);
+        when(store.findVerdicts(anyList())).thenReturn(Map.of(humanKey, false));
+
+        List<BatchItemResult> results = batchService.analyzeBatch(List.of(MUTANT, HUMAN));
+
+        assertEquals("mutant", results.get(0).getResult());
+        assertEquals("human", results.get(1).getResult());
+        verify(mutantDetector, never()).analyze(any());
+        verify(batchInserter).insertAll(new ArrayList<>());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un batch más grande que el máximo configurado")
+    void testAnalyzeBatch_TooLarge() {
+        List<String[]> tooMany = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tooMany.add(MUTANT);
+        }
+
+        assertThrows(InvalidDnaException.class, () -> batchService.analyzeBatch(tooMany));
+        verifyNoInteractions(store, batchInserter);
+    }
+}
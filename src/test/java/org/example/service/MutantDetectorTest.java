@@ -1,5 +1,9 @@
 package org.example.service;
 
+import org.example.service.engine.DetectionRule;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.engine.FusedDetectionEngine;
+import org.example.validation.DnaValidationError;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -263,6 +267,44 @@ class MutantDetectorTest {
                 "Debe retornar false cuando matriz es menor a 4x4");
     }
 
+    @Test
+    @DisplayName("Debe informar el motivo del rechazo en analyze")
+    void testAnalyzeReportsValidationReason() {
+        assertEquals(DnaValidationError.NULL_DNA, mutantDetector.analyze(null).error());
+        assertEquals(DnaValidationError.EMPTY_DNA, mutantDetector.analyze(new String[]{}).error());
+        assertEquals(DnaValidationError.TOO_SMALL,
+                mutantDetector.analyze(new String[]{"ATC", "CAG", "TTA"}).error());
+        assertEquals(DnaValidationError.NULL_ROW,
+                mutantDetector.analyze(new String[]{"ATGC", null, "TTAT", "AGAC"}).error());
+        assertEquals(DnaValidationError.NOT_SQUARE,
+                mutantDetector.analyze(new String[]{"ATGC", "CAGT", "TTAT", "AGAC", "ATGC"}).error());
+        assertEquals(DnaValidationError.INVALID_BASE,
+                mutantDetector.analyze(new String[]{"ATXC", "CAGT", "TTAT", "AGAC"}).error());
+
+        assertEquals(DnaScanResult.Verdict.HUMAN,
+                mutantDetector.analyze(new String[]{"ATGC", "CAGT", "TTAT", "AGAC"}).verdict());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar una regla configurada (K = 5, T = 1) y exigir N >= K")
+    void testConfiguredRule() {
+        MutantDetector detector = new MutantDetector(new FusedDetectionEngine(new DetectionRule(5, 1)));
+        String[] oneRunOfFive = {
+                "AAAAA",
+                "CAGTG",
+                "TTATG",
+                "AGACG",
+                "GCGTC"
+        };
+
+        assertTrue(detector.isMutant(oneRunOfFive));
+        assertFalse(new MutantDetector(new FusedDetectionEngine(new DetectionRule(5, 2))).isMutant(oneRunOfFive));
+        assertTrue(mutantDetector.isMutant(oneRunOfFive), "Con la regla por defecto AAAAA son 2 secuencias de 4");
+        assertEquals(5, detector.getMinSize());
+        assertEquals(DnaValidationError.TOO_SMALL,
+                detector.analyze(new String[]{"ATGC", "CAGT", "TTAT", "AGAC"}).error());
+    }
+
     // ==================== EDGE CASES ====================
 
     @Test
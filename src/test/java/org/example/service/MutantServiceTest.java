@@ -1,25 +1,37 @@
 package org.example.service;
 
+import org.example.config.SingleFlightProperties;
 import org.example.entity.DnaRecord;
-import org.example.repository.DnaRecordRepository;
+import org.example.exception.AnalysisTimeoutException;
+import org.example.exception.InvalidDnaException;
+import org.example.repository.DnaVerdictStore;
+import org.example.service.engine.DnaScanResult;
+import org.example.service.fingerprint.DnaFingerprint;
+import org.example.service.fingerprint.DnaFingerprinter;
+import org.example.service.fingerprint.Murmur3Fingerprinter;
+import org.example.validation.DnaValidationError;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
  * Tests unitarios para MutantService.
- * Utiliza Mockito para simular dependencias (repository, detector).
+ * Utiliza Mockito para simular dependencias (índice, detector).
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MutantService - Tests Unitarios")
@@ -29,7 +41,28 @@ class MutantServiceTest {
     private MutantDetector mutantDetector;
 
     @Mock
-    private DnaRecordRepository repository;
+    private DnaVerdictStore store;
+
+    @Mock
+    private DnaResultCache resultCache;
+
+    @Mock
+    private DnaHashFilter hashFilter;
+
+    @Mock
+    private DnaWriteBehindQueue writeBehindQueue;
+
+    @Mock
+    private DnaRecordBatchInserter batchInserter;
+
+    @Mock
+    private DnaMetrics metrics;
+
+    @Spy
+    private DnaFingerprinter fingerprinter = new Murmur3Fingerprinter();
+
+    @Spy
+    private SingleFlightProperties singleFlightProperties = new SingleFlightProperties();
 
     @InjectMocks
     private MutantService mutantService;
@@ -39,6 +72,13 @@ class MutantServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Mockito responde false (no null) para Boolean: sin esto todo ADN
+        // parecería un humano ya cacheado o pendiente de write-behind
+        lenient().when(resultCache.getIfPresent(any(DnaFingerprint.class))).thenReturn(null);
+        lenient().when(writeBehindQueue.getPending(any(DnaFingerprint.class))).thenReturn(null);
+        // Por defecto el Bloom filter responde "puede estar": se consulta la BD
+        lenient().when(hashFilter.mightContain(any(DnaFingerprint.class))).thenReturn(true);
+
         mutantDna = new String[]{
                 "ATGCGA",
                 "CAGTGC",
@@ -62,88 +102,296 @@ class MutantServiceTest {
     @DisplayName("Debe analizar DNA mutante y guardarlo en BD")
     void testAnalyzeDna_Mutant_SavesToDatabase() {
         // Given: DNA no existe en BD
-        when(repository.findByDnaHash(anyString())).thenReturn(Optional.empty());
-        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
-        when(repository.save(any(DnaRecord.class))).thenReturn(new DnaRecord());
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(mutantDna)).thenReturn(DnaScanResult.of(true));
+        when(batchInserter.insertIfAbsent(any(DnaRecord.class))).thenReturn(true);
 
         // When: Analizar DNA
         boolean result = mutantService.analyzeDna(mutantDna);
 
         // Then: Es mutante y se guardó en BD
         assertTrue(result, "Debe retornar true para DNA mutante");
-        verify(mutantDetector, times(1)).isMutant(mutantDna);
-        verify(repository, times(1)).save(any(DnaRecord.class));
+        verify(mutantDetector, times(1)).analyze(mutantDna);
+        verify(batchInserter, times(1)).insertIfAbsent(any(DnaRecord.class));
     }
 
     @Test
     @DisplayName("Debe analizar DNA humano y guardarlo en BD")
     void testAnalyzeDna_Human_SavesToDatabase() {
         // Given: DNA no existe en BD
-        when(repository.findByDnaHash(anyString())).thenReturn(Optional.empty());
-        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
-        when(repository.save(any(DnaRecord.class))).thenReturn(new DnaRecord());
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(humanDna)).thenReturn(DnaScanResult.of(false));
+        when(batchInserter.insertIfAbsent(any(DnaRecord.class))).thenReturn(true);
 
         // When: Analizar DNA
         boolean result = mutantService.analyzeDna(humanDna);
 
         // Then: Es humano y se guardó en BD
         assertFalse(result, "Debe retornar false para DNA humano");
-        verify(mutantDetector, times(1)).isMutant(humanDna);
-        verify(repository, times(1)).save(any(DnaRecord.class));
+        verify(mutantDetector, times(1)).analyze(humanDna);
+        verify(batchInserter, times(1)).insertIfAbsent(any(DnaRecord.class));
     }
 
     @Test
     @DisplayName("Debe retornar resultado cacheado cuando DNA ya existe en BD")
     void testAnalyzeDna_CachedResult_DoesNotAnalyzeAgain() {
         // Given: DNA ya existe en BD
-        DnaRecord cachedRecord = new DnaRecord("hash123", true);
-        when(repository.findByDnaHash(anyString())).thenReturn(Optional.of(cachedRecord));
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(true);
 
         // When: Analizar DNA
         boolean result = mutantService.analyzeDna(mutantDna);
 
         // Then: Retorna resultado cacheado sin llamar al detector
         assertTrue(result, "Debe retornar resultado cacheado");
-        verify(mutantDetector, never()).isMutant(any());  // ← No se llamó al detector
-        verify(repository, never()).save(any());          // ← No se guardó
+        verify(mutantDetector, never()).analyze(any());  // ← No se llamó al detector
+        verify(batchInserter, never()).insertIfAbsent(any());          // ← No se guardó
     }
 
     @Test
     @DisplayName("Debe calcular hash correctamente para DNA idéntico")
     void testCalculateDnaHash_IdenticalDna_ProducesSameHash() {
         // Given: Dos DNA idénticos
-        when(repository.findByDnaHash(anyString())).thenReturn(Optional.empty());
-        when(mutantDetector.isMutant(any())).thenReturn(true);
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(any())).thenReturn(DnaScanResult.of(true));
 
         // When: Analizar ambos
         mutantService.analyzeDna(mutantDna);
         String[] sameDna = mutantDna.clone();
 
         // Reset mock para segunda llamada
-        reset(repository);
-        DnaRecord cachedRecord = new DnaRecord("hash", true);
-        when(repository.findByDnaHash(anyString())).thenReturn(Optional.of(cachedRecord));
+        reset(store);
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(true);
 
         boolean result = mutantService.analyzeDna(sameDna);
 
         // Then: Segunda llamada usa caché (mismo hash)
         assertTrue(result);
-        verify(repository, times(1)).findByDnaHash(anyString());
+        verify(store, times(1)).findVerdict(any(DnaFingerprint.class));
     }
 
     @Test
     @DisplayName("Debe calcular hashes diferentes para DNA diferente")
     void testCalculateDnaHash_DifferentDna_ProducesDifferentHash() {
         // Given: Dos DNA diferentes
-        when(repository.findByDnaHash(anyString())).thenReturn(Optional.empty());
-        when(mutantDetector.isMutant(any())).thenReturn(true);
-        when(repository.save(any(DnaRecord.class))).thenReturn(new DnaRecord());
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(any())).thenReturn(DnaScanResult.of(true));
+        when(batchInserter.insertIfAbsent(any(DnaRecord.class))).thenReturn(true);
 
         // When: Analizar ambos
         mutantService.analyzeDna(mutantDna);
         mutantService.analyzeDna(humanDna);
 
         // Then: Se guardaron 2 registros (hashes diferentes)
-        verify(repository, times(2)).save(any(DnaRecord.class));
+        verify(batchInserter, times(2)).insertIfAbsent(any(DnaRecord.class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar matriz no cuadrada antes de calcular el hash")
+    void testAnalyzeDna_NonSquare_ThrowsBeforeLookup() {
+        String[] nonSquare = {"ATGCG", "CAG", "TTAT", "AGAC"};
+
+        InvalidDnaException ex = assertThrows(InvalidDnaException.class,
+                () -> mutantService.analyzeDna(nonSquare));
+
+        assertEquals(DnaValidationError.NOT_SQUARE, ex.getReason());
+        verify(store, never()).findVerdict(any(DnaFingerprint.class));
+        verify(mutantDetector, never()).analyze(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar caracteres inválidos detectados durante el análisis")
+    void testAnalyzeDna_InvalidBase_ThrowsAndDoesNotSave() {
+        String[] invalid = {"ATXC", "CAGT", "TTAT", "AGAC"};
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(invalid))
+                .thenReturn(DnaScanResult.invalid(DnaValidationError.INVALID_BASE));
+
+        InvalidDnaException ex = assertThrows(InvalidDnaException.class,
+                () -> mutantService.analyzeDna(invalid));
+
+        assertEquals(DnaValidationError.INVALID_BASE, ex.getReason());
+        verify(batchInserter, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("Debe responder desde la caché en memoria sin consultar la BD")
+    void testAnalyzeDna_InMemoryCacheHit_SkipsRepository() {
+        when(resultCache.getIfPresent(any(DnaFingerprint.class))).thenReturn(true);
+
+        boolean result = mutantService.analyzeDna(mutantDna);
+
+        assertTrue(result);
+        verify(store, never()).findVerdict(any(DnaFingerprint.class));
+        verify(mutantDetector, never()).analyze(any());
+    }
+
+    @Test
+    @DisplayName("Debe cargar la caché en lecturas de BD y en escrituras")
+    void testAnalyzeDna_FillsCacheOnReadAndWrite() {
+        when(store.findVerdict(any(DnaFingerprint.class)))
+                .thenReturn(true)
+                .thenReturn(null);
+        when(mutantDetector.analyze(humanDna)).thenReturn(DnaScanResult.of(false));
+
+        mutantService.analyzeDna(mutantDna);
+        mutantService.analyzeDna(humanDna);
+
+        verify(resultCache, times(1)).put(any(DnaFingerprint.class), eq(true));
+        verify(resultCache, times(1)).put(any(DnaFingerprint.class), eq(false));
+    }
+
+    @Test
+    @DisplayName("Debe omitir la query a la BD cuando el Bloom filter descarta el hash")
+    void testAnalyzeDna_BloomFilterNegative_SkipsRepositoryLookup() {
+        when(hashFilter.mightContain(any(DnaFingerprint.class))).thenReturn(false);
+        when(mutantDetector.analyze(mutantDna)).thenReturn(DnaScanResult.of(true));
+
+        boolean result = mutantService.analyzeDna(mutantDna);
+
+        assertTrue(result);
+        verify(store, never()).findVerdict(any(DnaFingerprint.class));
+        verify(batchInserter, times(1)).insertIfAbsent(any(DnaRecord.class));
+        verify(hashFilter, times(1)).put(any(DnaFingerprint.class));
+    }
+
+    @Test
+    @DisplayName("Debe registrar un falso positivo cuando el hash no está en la BD")
+    void testAnalyzeDna_BloomFilterFalsePositive_IsRecorded() {
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(humanDna)).thenReturn(DnaScanResult.of(false));
+
+        mutantService.analyzeDna(humanDna);
+
+        verify(hashFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("Debe encolar el resultado sin guardarlo cuando write-behind está habilitado")
+    void testAnalyzeDna_WriteBehind_EnqueuesInsteadOfSaving() {
+        when(writeBehindQueue.isEnabled()).thenReturn(true);
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(mutantDna)).thenReturn(DnaScanResult.of(true));
+
+        boolean result = mutantService.analyzeDna(mutantDna);
+
+        assertTrue(result);
+        verify(writeBehindQueue, times(1)).enqueue(any(DnaFingerprint.class), eq(true));
+        verify(batchInserter, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    @DisplayName("Debe responder con el resultado pendiente de write-behind sin consultar la BD")
+    void testAnalyzeDna_PendingWriteBehind_SkipsRepository() {
+        when(writeBehindQueue.getPending(any(DnaFingerprint.class))).thenReturn(false);
+
+        boolean result = mutantService.analyzeDna(humanDna);
+
+        assertFalse(result);
+        verify(store, never()).findVerdict(any(DnaFingerprint.class));
+        verify(mutantDetector, never()).analyze(any());
+    }
+
+    @Test
+    @DisplayName("Debe analizar una sola vez el mismo ADN pedido por requests concurrentes")
+    void testAnalyzeDna_ConcurrentDuplicates_AnalyzeOnce() throws Exception {
+        CountDownLatch analyzing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(any())).thenAnswer(invocation -> {
+            analyzing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return DnaScanResult.of(true);
+        });
+
+        AtomicBoolean leaderResult = new AtomicBoolean();
+        AtomicBoolean followerResult = new AtomicBoolean();
+        Thread leader = new Thread(() -> leaderResult.set(mutantService.analyzeDna(mutantDna)));
+        Thread follower = new Thread(() -> followerResult.set(mutantService.analyzeDna(mutantDna.clone())));
+
+        leader.start();
+        assertTrue(analyzing.await(5, TimeUnit.SECONDS));
+        follower.start();
+        // El segundo request queda esperando el future del primero (con plazo:
+        // si nunca llega a esperar, el test falla en lugar de colgar el build)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (follower.getState() != Thread.State.TIMED_WAITING && follower.isAlive()) {
+            assertTrue(System.nanoTime() < deadline, "El segundo request nunca esperó al primero");
+            Thread.sleep(1);
+        }
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        assertFalse(leader.isAlive());
+        assertFalse(follower.isAlive());
+        assertTrue(leaderResult.get());
+        assertTrue(followerResult.get());
+        verify(mutantDetector, times(1)).analyze(any());
+        verify(batchInserter, times(1)).insertIfAbsent(any(DnaRecord.class));
+    }
+
+    @Test
+    @DisplayName("Debe fallar en lugar de colgarse si el análisis del mismo ADN no termina a tiempo")
+    void testAnalyzeDna_ConcurrentDuplicate_LeaderHangs_TimesOut() throws Exception {
+        singleFlightProperties.setTimeout(Duration.ofMillis(50));
+        CountDownLatch analyzing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(any())).thenAnswer(invocation -> {
+            analyzing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return DnaScanResult.of(true);
+        });
+
+        Thread leader = new Thread(() -> mutantService.analyzeDna(mutantDna));
+        leader.start();
+        try {
+            assertTrue(analyzing.await(5, TimeUnit.SECONDS));
+
+            assertThrows(AnalysisTimeoutException.class, () -> mutantService.analyzeDna(mutantDna.clone()));
+        } finally {
+            release.countDown();
+            leader.join(5000);
+        }
+        verify(mutantDetector, times(1)).analyze(any());
+    }
+
+    @Test
+    @DisplayName("Debe responder el veredicto aunque la huella ya estuviera persistida")
+    void testAnalyzeDna_AlreadyPersisted_ReturnsVerdict() {
+        when(store.findVerdict(any(DnaFingerprint.class))).thenReturn(null);
+        when(mutantDetector.analyze(mutantDna)).thenReturn(DnaScanResult.of(true));
+        // Otra instancia insertó la misma huella: el MERGE no inserta nada
+        when(batchInserter.insertIfAbsent(any(DnaRecord.class))).thenReturn(false);
+
+        boolean result = mutantService.analyzeDna(mutantDna);
+
+        assertTrue(result);
+        verify(resultCache, times(1)).put(any(DnaFingerprint.class), eq(true));
+    }
+
+    @Test
+    @DisplayName("Debe medir huella, búsqueda, detección y guardado con el veredicto final")
+    void testAnalyzeDna_RecordsPhaseMetrics() {
+        when(hashFilter.mightContain(any(DnaFingerprint.class))).thenReturn(false);
+        when(mutantDetector.analyze(mutantDna)).thenReturn(DnaScanResult.of(true));
+
+        mutantService.analyzeDna(mutantDna);
+
+        verify(metrics).recordLookup(DnaMetrics.LookupSource.FILTER);
+        verify(metrics).recordPhase(eq(DnaMetrics.Phase.FINGERPRINT), eq(6), eq(DnaScanResult.Verdict.MUTANT), anyLong());
+        verify(metrics).recordPhase(eq(DnaMetrics.Phase.LOOKUP), eq(6), eq(DnaScanResult.Verdict.MUTANT), anyLong());
+        verify(metrics).recordDetection(eq(6), any(DnaScanResult.class), anyLong());
+        verify(metrics).recordPhase(eq(DnaMetrics.Phase.PERSIST), eq(6), eq(DnaScanResult.Verdict.MUTANT), anyLong());
+    }
+
+    @Test
+    @DisplayName("Debe contar el rechazo de una matriz no cuadrada")
+    void testAnalyzeDna_NonSquare_RecordsRejection() {
+        String[] nonSquare = {"ATGCG", "CAG", "TTAT", "AGAC"};
+
+        assertThrows(InvalidDnaException.class, () -> mutantService.analyzeDna(nonSquare));
+
+        verify(metrics).recordRejection(DnaValidationError.NOT_SQUARE);
     }
-}
\ No newline at end of file
+}
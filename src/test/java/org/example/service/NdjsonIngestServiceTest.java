@@ -0,0 +1,98 @@
+package org.example.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.BatchProperties;
+import org.example.dto.BatchItemResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para NdjsonIngestService.
+ * Prueba los errores por línea y el armado de bloques.
+ */
+@DisplayName("NdjsonIngestService - Tests Unitarios")
+class NdjsonIngestServiceTest {
+
+    private static final String MUTANT_LINE =
+            "{\"dna\": [\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MutantBatchService batchService = mock(MutantBatchService.class);
+    private final BatchProperties properties = new BatchProperties();
+    private final NdjsonIngestService service = new NdjsonIngestService(properties, batchService, objectMapper);
+
+    @Test
+    @DisplayName("Debe responder un error en el índice de una línea null")
+    void testAnalyze_NullLine() throws IOException {
+        stubVerdicts();
+
+        List<JsonNode> results = analyze("null\n" + MUTANT_LINE + "\n");
+
+        assertEquals(2, results.size());
+        assertEquals(0, results.get(0).get("index").asInt());
+        assertTrue(results.get(0).get("error").asText().startsWith("Malformed JSON"));
+        assertEquals("mutant", results.get(1).get("result").asText());
+        assertEquals(1, results.get(1).get("index").asInt());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una línea más larga que el máximo sin cortar el stream")
+    void testAnalyze_LineTooLong() throws IOException {
+        stubVerdicts();
+        properties.setNdjsonMaxLineLength(MUTANT_LINE.length());
+
+        List<JsonNode> results = analyze(MUTANT_LINE + " \n" + MUTANT_LINE + "\r\n" + MUTANT_LINE);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).get("error").asText().startsWith("Line too long"));
+        assertEquals("mutant", results.get(1).get("result").asText());
+        assertEquals("mutant", results.get(2).get("result").asText());
+        assertEquals(2, results.get(2).get("index").asInt());
+    }
+
+    @Test
+    @DisplayName("Debe analizar un bloque solo cuando se llena o al terminar el body")
+    void testAnalyze_ChunksOnlyWhenFull() throws IOException {
+        stubVerdicts();
+        properties.setNdjsonChunkSize(2);
+
+        List<JsonNode> results = analyze((MUTANT_LINE + "\n").repeat(5));
+
+        assertEquals(5, results.size());
+        verify(batchService, times(3)).analyzeBatch(anyList());
+    }
+
+    private void stubVerdicts() {
+        when(batchService.analyzeBatch(anyList())).thenAnswer(invocation -> {
+            List<String[]> dnaList = invocation.getArgument(0);
+            List<BatchItemResult> results = new ArrayList<>();
+            for (int i = 0; i < dnaList.size(); i++) {
+                results.add(BatchItemResult.of(i, true));
+            }
+            return results;
+        });
+    }
+
+    private List<JsonNode> analyze(String body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.analyze(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ScalableBloomFilter.
+ */
+@DisplayName("ScalableBloomFilter - Tests Unitarios")
+class ScalableBloomFilterTest {
+
+    @Test
+    @DisplayName("No debe tener falsos negativos y debe crecer al superar la capacidad")
+    void testNoFalseNegativesAcrossStages() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        SplittableRandom random = new SplittableRandom(1);
+        long[][] keys = new long[10_000][2];
+
+        for (long[] key : keys) {
+            key[0] = random.nextLong();
+            key[1] = random.nextLong();
+            filter.put(key[0], key[1]);
+        }
+
+        for (long[] key : keys) {
+            assertTrue(filter.mightContain(key[0], key[1]));
+        }
+        assertEquals(10_000, filter.size());
+        assertTrue(filter.stageCount() > 1, "Debe haber agregado etapas");
+    }
+
+    @Test
+    @DisplayName("Debe mantener la tasa de falsos positivos cerca del objetivo")
+    void testFalsePositiveRateWithinTarget() {
+        double target = 0.01;
+        ScalableBloomFilter filter = new ScalableBloomFilter(5_000, target);
+        SplittableRandom random = new SplittableRandom(2);
+
+        for (int i = 0; i < 20_000; i++) {
+            filter.put(random.nextLong(), random.nextLong());
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+
+        double observed = (double) falsePositives / probes;
+        assertTrue(observed <= target * 1.5, "FPP observada demasiado alta: " + observed);
+        assertTrue(filter.expectedFalsePositiveRate() <= target * 1.5);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar parámetros inválidos")
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(100, 1.0));
+    }
+}
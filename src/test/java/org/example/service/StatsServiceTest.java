@@ -1,7 +1,9 @@
 package org.example.service;
 
 import org.example.dto.StatsResponse;
-import org.example.repository.DnaRecordRepository;
+import org.example.exception.InvalidStatsRangeException;
+import org.example.repository.DnaVerdictStore;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,6 +11,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -21,17 +25,28 @@ import static org.mockito.Mockito.*;
 class StatsServiceTest {
 
     @Mock
-    private DnaRecordRepository repository;
+    private DnaVerdictStore store;
+
+    @Mock
+    private DnaStatsCounter statsCounter;
+
+    @Mock
+    private DnaStatsRollup statsRollup;
 
     @InjectMocks
     private StatsService statsService;
 
+    @BeforeEach
+    void setUp() {
+        // Por defecto modo estricto: los casos de ratio recuentan la tabla
+        lenient().when(statsCounter.isStrict()).thenReturn(true);
+    }
+
     @Test
     @DisplayName("Debe retornar estadísticas correctas con mutantes y humanos")
     void testGetStats_WithMutantsAndHumans_ReturnsCorrectStats() {
         // Given: 40 mutantes, 100 humanos
-        when(repository.countByIsMutant(true)).thenReturn(40L);
-        when(repository.countByIsMutant(false)).thenReturn(100L);
+        when(store.countVerdicts()).thenReturn(new long[]{40L, 100L});
 
         // When: Obtener stats
         StatsResponse stats = statsService.getStats();
@@ -41,16 +56,14 @@ class StatsServiceTest {
         assertEquals(100L, stats.getCountHumanDna());
         assertEquals(0.4, stats.getRatio(), 0.001);
 
-        verify(repository, times(1)).countByIsMutant(true);
-        verify(repository, times(1)).countByIsMutant(false);
+        verify(store, times(1)).countVerdicts();
     }
 
     @Test
     @DisplayName("Debe retornar ceros cuando no hay registros")
     void testGetStats_NoRecords_ReturnsZeros() {
         // Given: No hay registros
-        when(repository.countByIsMutant(true)).thenReturn(0L);
-        when(repository.countByIsMutant(false)).thenReturn(0L);
+        when(store.countVerdicts()).thenReturn(new long[]{0L, 0L});
 
         // When: Obtener stats
         StatsResponse stats = statsService.getStats();
@@ -65,8 +78,7 @@ class StatsServiceTest {
     @DisplayName("Debe retornar ratio correcto cuando solo hay mutantes")
     void testGetStats_OnlyMutants_ReturnsCorrectRatio() {
         // Given: 50 mutantes, 0 humanos
-        when(repository.countByIsMutant(true)).thenReturn(50L);
-        when(repository.countByIsMutant(false)).thenReturn(0L);
+        when(store.countVerdicts()).thenReturn(new long[]{50L, 0L});
 
         // When: Obtener stats
         StatsResponse stats = statsService.getStats();
@@ -81,8 +93,7 @@ class StatsServiceTest {
     @DisplayName("Debe retornar ratio correcto cuando solo hay humanos")
     void testGetStats_OnlyHumans_ReturnsZeroRatio() {
         // Given: 0 mutantes, 100 humanos
-        when(repository.countByIsMutant(true)).thenReturn(0L);
-        when(repository.countByIsMutant(false)).thenReturn(100L);
+        when(store.countVerdicts()).thenReturn(new long[]{0L, 100L});
 
         // When: Obtener stats
         StatsResponse stats = statsService.getStats();
@@ -97,8 +108,7 @@ class StatsServiceTest {
     @DisplayName("Debe calcular ratio correctamente cuando son iguales")
     void testGetStats_EqualCounts_ReturnsRatioOne() {
         // Given: 50 mutantes, 50 humanos
-        when(repository.countByIsMutant(true)).thenReturn(50L);
-        when(repository.countByIsMutant(false)).thenReturn(50L);
+        when(store.countVerdicts()).thenReturn(new long[]{50L, 50L});
 
         // When: Obtener stats
         StatsResponse stats = statsService.getStats();
@@ -113,8 +123,7 @@ class StatsServiceTest {
     @DisplayName("Debe calcular ratio correctamente para números grandes")
     void testGetStats_LargeNumbers_ReturnsCorrectRatio() {
         // Given: 1000 mutantes, 500 humanos
-        when(repository.countByIsMutant(true)).thenReturn(1000L);
-        when(repository.countByIsMutant(false)).thenReturn(500L);
+        when(store.countVerdicts()).thenReturn(new long[]{1000L, 500L});
 
         // When: Obtener stats
         StatsResponse stats = statsService.getStats();
@@ -124,4 +133,55 @@ class StatsServiceTest {
         assertEquals(500L, stats.getCountHumanDna());
         assertEquals(2.0, stats.getRatio(), 0.001);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe leer los contadores en memoria sin consultar la BD")
+    void testGetStats_Counters_SkipsCountQueries() {
+        when(statsCounter.isStrict()).thenReturn(false);
+        when(statsCounter.getMutantCount()).thenReturn(40L);
+        when(statsCounter.getHumanCount()).thenReturn(100L);
+
+        StatsResponse stats = statsService.getStats();
+
+        assertEquals(40L, stats.getCountMutantDna());
+        assertEquals(100L, stats.getCountHumanDna());
+        assertEquals(0.4, stats.getRatio(), 0.001);
+        verify(store, never()).countVerdicts();
+    }
+
+    @Test
+    @DisplayName("Debe responder un rango con los buckets de DnaStatsRollup")
+    void testGetStats_Range_UsesRollup() {
+        Instant from = Instant.parse("2025-01-07T15:00:00Z");
+        Instant to = Instant.parse("2025-01-07T16:00:00Z");
+        when(statsRollup.query(from, to)).thenReturn(StatsResponse.of(3L, 6L));
+
+        StatsResponse stats = statsService.getStats(from, to);
+
+        assertEquals(3L, stats.getCountMutantDna());
+        assertEquals(6L, stats.getCountHumanDna());
+        assertEquals(0.5, stats.getRatio(), 0.001);
+        verify(store, never()).countVerdicts();
+    }
+
+    @Test
+    @DisplayName("Sin from ni to debe responder los totales")
+    void testGetStats_NoRange_UsesTotals() {
+        when(store.countVerdicts()).thenReturn(new long[]{1L, 2L});
+
+        StatsResponse stats = statsService.getStats(null, null);
+
+        assertEquals(1L, stats.getCountMutantDna());
+        verifyNoInteractions(statsRollup);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un rango con from posterior a to")
+    void testGetStats_InvertedRange_Throws() {
+        Instant from = Instant.parse("2025-01-07T16:00:00Z");
+        Instant to = Instant.parse("2025-01-07T15:00:00Z");
+
+        assertThrows(InvalidStatsRangeException.class, () -> statsService.getStats(from, to));
+        verifyNoInteractions(statsRollup);
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.service.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para BitboardDetectionEngine.
+ * Compara el resultado contra el motor escalar original.
+ */
+@DisplayName("BitboardDetectionEngine - Tests Unitarios")
+class BitboardDetectionEngineTest {
+
+    private final DetectionEngine bitboard = new BitboardDetectionEngine();
+    private final DetectionEngine scalar = new ScalarDetectionEngine();
+
+    @Test
+    @DisplayName("Debe detectar secuencias en las 4 direcciones")
+    void testAllDirections() {
+        String[] horizontalAndVertical = {
+                "ATGCGA",
+                "ATGTGC",
+                "ATATGT",
+                "AGAAGG",
+                "CCCCTA",
+                "TCACTG"
+        };
+        String[] descendingDiagonals = {
+                "ATGCGA",
+                "CAGTGC",
+                "TTATGT",
+                "AGAAGG",
+                "CCCCTA",
+                "TCACTG"
+        };
+        String[] ascendingDiagonals = {
+                "TCGA",
+                "CGAC",
+                "GATG",
+                "ACTT"
+        };
+
+        assertTrue(bitboard.isMutant(horizontalAndVertical));
+        assertTrue(bitboard.isMutant(descendingDiagonals));
+        assertFalse(bitboard.isMutant(ascendingDiagonals), "Una sola diagonal ↗ no alcanza");
+    }
+
+    @Test
+    @DisplayName("Debe contar corridas solapadas como el motor escalar (AAAAA = 2)")
+    void testOverlappingRuns() {
+        String[] dna = {
+                "AAAAAT",
+                "CAGTGC",
+                "TTATGT",
+                "AGACGG",
+                "GCGTCA",
+                "TCACTG"
+        };
+
+        assertTrue(bitboard.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe detectar secuencias que cruzan el límite de palabra de 64 bits")
+    void testSequenceAcrossWordBoundary() {
+        int n = 70;
+        String[] dna = randomHuman(n);
+        char[] row = dna[10].toCharArray();
+        for (int col = 62; col < 66; col++) {
+            row[col] = 'G';
+        }
+        dna[10] = new String(row);
+        char[] other = dna[40].toCharArray();
+        for (int col = 60; col < 64; col++) {
+            other[col] = 'C';
+        }
+        dna[40] = new String(other);
+
+        assertEquals(scalar.isMutant(dna), bitboard.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el motor escalar en matrices aleatorias")
+    void testMatchesScalarOnRandomMatrices() {
+        Random random = new Random(42);
+        char[] bases = {'A', 'T', 'C', 'G'};
+
+        for (int i = 0; i < 5_000; i++) {
+            int n = 4 + random.nextInt(i % 50 == 0 ? 130 : 10);
+            String[] dna = new String[n];
+            for (int row = 0; row < n; row++) {
+                char[] chars = new char[n];
+                for (int col = 0; col < n; col++) {
+                    chars[col] = bases[random.nextInt(4)];
+                }
+                dna[row] = new String(chars);
+            }
+
+            assertEquals(scalar.isMutant(dna), bitboard.isMutant(dna),
+                    "Resultado distinto para matriz de " + n + "x" + n);
+        }
+    }
+
+    /**
+     * Matriz sin secuencias: patrón que nunca repite 4 bases en ninguna dirección.
+     */
+    private String[] randomHuman(int n) {
+        char[] pattern = {'A', 'T', 'C', 'G', 'T', 'A', 'G', 'C'};
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = pattern[(col + row * 3) % pattern.length];
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+}
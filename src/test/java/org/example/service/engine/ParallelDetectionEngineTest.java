@@ -0,0 +1,120 @@
+package org.example.service.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ParallelDetectionEngine.
+ * Usa umbral 4 para forzar el modo paralelo con varias bandas.
+ */
+@DisplayName("ParallelDetectionEngine - Tests Unitarios")
+class ParallelDetectionEngineTest {
+
+    private static final String PATTERN = "ATCGTAGC";
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {-1, 1}};
+
+    private final DetectionEngine scalar = new ScalarDetectionEngine();
+    private final ParallelDetectionEngine parallel = new ParallelDetectionEngine(4, 4, scalar);
+
+    @AfterEach
+    void tearDown() {
+        parallel.close();
+    }
+
+    @Test
+    @DisplayName("No debe contar dos veces una secuencia en el halo entre bandas")
+    void testSequenceInBandOverlapCountedOnce() {
+        char[][] matrix = humanMatrix(256);
+        // Vertical que cruza el límite entre bandas (filas 62..65)
+        for (int row = 62; row < 66; row++) {
+            matrix[row][10] = 'G';
+        }
+
+        assertFalse(parallel.isMutant(toDna(matrix)), "Una sola secuencia no es mutante");
+    }
+
+    @Test
+    @DisplayName("Debe detectar mutante con secuencias en bandas distintas")
+    void testSequencesInDifferentBands() {
+        char[][] matrix = humanMatrix(256);
+        for (int col = 0; col < 4; col++) {
+            matrix[5][col] = 'A';
+            matrix[200][col + 100] = 'C';
+        }
+
+        assertTrue(parallel.isMutant(toDna(matrix)));
+    }
+
+    @Test
+    @DisplayName("Debe usar el motor secuencial por debajo del umbral")
+    void testSequentialBelowThreshold() {
+        ParallelDetectionEngine engine = new ParallelDetectionEngine(2, 1000, scalar);
+        String[] dna = {
+                "ATGCGA",
+                "CAGTGC",
+                "TTATGT",
+                "AGAAGG",
+                "CCCCTA",
+                "TCACTG"
+        };
+
+        assertTrue(engine.isMutant(dna));
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el motor escalar con secuencias inyectadas al azar")
+    void testMatchesScalarWithRandomSequences() {
+        Random random = new Random(5);
+
+        for (int i = 0; i < 200; i++) {
+            int n = 200 + random.nextInt(200);
+            char[][] matrix = humanMatrix(n);
+            int injected = random.nextInt(4);
+            for (int k = 0; k < injected; k++) {
+                int[] direction = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+                int length = 3 + random.nextInt(3);
+                int row = random.nextInt(n);
+                int col = random.nextInt(n);
+                char base = PATTERN.charAt(random.nextInt(4));
+                for (int t = 0; t < length; t++) {
+                    int r = row + direction[0] * t;
+                    int c = col + direction[1] * t;
+                    if (r >= 0 && r < n && c >= 0 && c < n) {
+                        matrix[r][c] = base;
+                    }
+                }
+            }
+
+            String[] dna = toDna(matrix);
+            assertEquals(scalar.isMutant(dna), parallel.isMutant(dna),
+                    "Resultado distinto para matriz de " + n + "x" + n);
+        }
+    }
+
+    /**
+     * Matriz sin secuencias: patrón que nunca repite 4 bases en ninguna dirección.
+     */
+    private char[][] humanMatrix(int n) {
+        char[][] matrix = new char[n][n];
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                matrix[row][col] = PATTERN.charAt((col + row * 3) % PATTERN.length());
+            }
+        }
+        return matrix;
+    }
+
+    private String[] toDna(char[][] matrix) {
+        String[] dna = new String[matrix.length];
+        for (int row = 0; row < matrix.length; row++) {
+            dna[row] = new String(matrix[row]);
+        }
+        return dna;
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.service.engine;
+
+import org.example.validation.DnaValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para RollingDnaScanner.
+ * Verifica la detección fila por fila y la validación de cada fila.
+ */
+@DisplayName("RollingDnaScanner - Tests Unitarios")
+class RollingDnaScannerTest {
+
+    private final DetectionEngine scalar = new ScalarDetectionEngine();
+
+    @Test
+    @DisplayName("Debe detectar mutante con secuencias horizontal y diagonal")
+    void testMutant() {
+        assertTrue(scan(new String[]{
+                "ATGCGA",
+                "CAGTGC",
+                "TTATGT",
+                "AGAAGG",
+                "CCCCTA",
+                "TCACTG"
+        }));
+    }
+
+    @Test
+    @DisplayName("Debe reportar las celdas recorridas hasta el Early Termination")
+    void testCellsScanned() {
+        String[] earlyMutant = {
+                "AAAAAT",  // 2 secuencias solapadas: decide en la celda 5
+                "CAGTGC",
+                "TTATGT",
+                "AGACGG",
+                "GCGTCA",
+                "TCACTG"
+        };
+        RollingDnaScanner mutant = new RollingDnaScanner(6);
+        for (String row : earlyMutant) {
+            assertNull(mutant.accept(row));
+        }
+        assertTrue(mutant.isMutant());
+        assertEquals(5, mutant.getCellsScanned());
+
+        RollingDnaScanner human = new RollingDnaScanner(6);
+        for (String row : new String[]{"ATGCGA", "CAGTGC", "TTATTT", "AGACGG", "GCGTCA", "TCACTG"}) {
+            assertNull(human.accept(row));
+        }
+        assertFalse(human.isMutant());
+        assertEquals(36, human.getCellsScanned());
+    }
+
+    @Test
+    @DisplayName("Debe retornar false cuando solo hay 1 secuencia")
+    void testHumanWithOneSequence() {
+        assertFalse(scan(new String[]{
+                "ATGCGA",
+                "CAGTGC",
+                "TTATTT",
+                "AGACGG",
+                "GCGTCA",
+                "TCACTG"
+        }));
+    }
+
+    @Test
+    @DisplayName("Debe contar corridas solapadas (AAAAA = 2 secuencias)")
+    void testOverlappingRuns() {
+        assertTrue(scan(new String[]{
+                "AAAAAT",
+                "CAGTGC",
+                "TTATGT",
+                "AGACGG",
+                "GCGTCA",
+                "TCACTG"
+        }));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar filas inválidas con el motivo correspondiente")
+    void testInvalidRows() {
+        assertEquals(DnaValidationError.TOO_SMALL, new RollingDnaScanner(3).accept("ATG"));
+        assertEquals(DnaValidationError.NULL_ROW, new RollingDnaScanner(4).accept(null));
+        assertEquals(DnaValidationError.NOT_SQUARE, new RollingDnaScanner(4).accept("ATG"));
+        assertEquals(DnaValidationError.INVALID_BASE, new RollingDnaScanner(4).accept("ATXC"));
+
+        RollingDnaScanner missingRows = new RollingDnaScanner(4);
+        assertNull(missingRows.accept("ATGC"));
+        assertEquals(DnaValidationError.NOT_SQUARE, missingRows.finish());
+
+        RollingDnaScanner extraRows = new RollingDnaScanner(4);
+        for (int i = 0; i < 4; i++) {
+            assertNull(extraRows.accept("ATGC"));
+        }
+        assertEquals(DnaValidationError.NOT_SQUARE, extraRows.accept("ATGC"));
+    }
+
+    @Test
+    @DisplayName("Debe validar las celdas restantes después de encontrar 2 secuencias")
+    void testValidatesAfterEarlyTermination() {
+        RollingDnaScanner sameRow = new RollingDnaScanner(9);
+        assertEquals(DnaValidationError.INVALID_BASE, sameRow.accept("AAAAACGTX"));
+
+        RollingDnaScanner nextRow = new RollingDnaScanner(4);
+        assertNull(nextRow.accept("AAAA"));
+        assertNull(nextRow.accept("CCCC"));
+
+        assertTrue(nextRow.isMutant());
+        assertEquals(DnaValidationError.INVALID_BASE, nextRow.accept("ATXC"));
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el motor escalar en matrices aleatorias")
+    void testMatchesScalarOnRandomMatrices() {
+        Random random = new Random(11);
+        char[] bases = {'A', 'T', 'C', 'G'};
+
+        for (int i = 0; i < 5_000; i++) {
+            int n = 4 + random.nextInt(10);
+            String[] dna = new String[n];
+            for (int row = 0; row < n; row++) {
+                char[] chars = new char[n];
+                for (int col = 0; col < n; col++) {
+                    chars[col] = bases[random.nextInt(4)];
+                }
+                dna[row] = new String(chars);
+            }
+
+            assertEquals(scalar.isMutant(dna), scan(dna),
+                    "Resultado distinto para matriz de " + n + "x" + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el motor escalar para cualquier K y T")
+    void testMatchesScalarForAnyRule() {
+        Random random = new Random(17);
+        char[] bases = {'A', 'T'}; // Dos bases: corridas largas frecuentes
+
+        for (int k = 2; k <= 8; k++) {
+            for (int t = 1; t <= 4; t++) {
+                DetectionRule rule = new DetectionRule(k, t);
+                DetectionEngine reference = new ScalarDetectionEngine(rule);
+
+                for (int i = 0; i < 300; i++) {
+                    int n = k + random.nextInt(8);
+                    String[] dna = new String[n];
+                    for (int row = 0; row < n; row++) {
+                        char[] chars = new char[n];
+                        for (int col = 0; col < n; col++) {
+                            chars[col] = bases[random.nextInt(bases.length)];
+                        }
+                        dna[row] = new String(chars);
+                    }
+
+                    assertEquals(reference.isMutant(dna), scan(dna, rule),
+                            "Resultado distinto con " + rule + " para matriz de " + n + "x" + n);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debe cortar en la celda en que el conteo llega exactamente a T")
+    void testEarlyTerminationAtExactlyT() {
+        // Con K = 4 la corrida AAAAAA aporta secuencias en las columnas 3, 4 y 5
+        RollingDnaScanner three = new RollingDnaScanner(7, new DetectionRule(4, 3));
+        assertNull(three.accept("AAAAAAT"));
+        assertTrue(three.isMutant());
+        assertEquals(6, three.getCellsScanned());
+
+        RollingDnaScanner four = new RollingDnaScanner(7, new DetectionRule(4, 4));
+        assertNull(four.accept("AAAAAAT"));
+        assertFalse(four.isMutant());
+    }
+
+    @Test
+    @DisplayName("Debe exigir N >= K como tamaño mínimo")
+    void testMinSizeFollowsSequenceLength() {
+        DetectionRule rule = new DetectionRule(5, 2);
+
+        assertEquals(DnaValidationError.TOO_SMALL, new RollingDnaScanner(4, rule).accept("ATGC"));
+        assertNull(new RollingDnaScanner(5, rule).accept("ATGCA"));
+        assertThrows(IllegalArgumentException.class, () -> new DetectionRule(1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new DetectionRule(4, 0));
+    }
+
+    private boolean scan(String[] dna) {
+        return scan(dna, DetectionRule.DEFAULT);
+    }
+
+    private boolean scan(String[] dna, DetectionRule rule) {
+        RollingDnaScanner scanner = new RollingDnaScanner(dna.length, rule);
+        for (String row : dna) {
+            assertNull(scanner.accept(row));
+        }
+        assertNull(scanner.finish());
+        return scanner.isMutant();
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.service.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para RunLengthDetectionEngine.
+ * Compara el resultado contra el motor escalar original, de forma exhaustiva
+ * en matrices chicas y con matrices aleatorias en las grandes.
+ */
+@DisplayName("RunLengthDetectionEngine - Tests Unitarios")
+class RunLengthDetectionEngineTest {
+
+    private final DetectionEngine runLength = new RunLengthDetectionEngine();
+
+    @Test
+    @DisplayName("Debe detectar secuencias en las 4 direcciones")
+    void testAllDirections() {
+        String[] horizontalAndVertical = {
+                "ATGCGA",
+                "ATGTGC",
+                "ATATGT",
+                "AGAAGG",
+                "CCCCTA",
+                "TCACTG"
+        };
+        String[] descendingAndAscending = {
+                "ATGCGA",
+                "CAGTGC",
+                "TTAGGT",
+                "AGGAGG",
+                "CGCCAA",
+                "TCACTG"
+        };
+        String[] oneAscending = {
+                "TCGA",
+                "CGAC",
+                "GATG",
+                "ACTT"
+        };
+
+        assertTrue(runLength.isMutant(horizontalAndVertical));
+        assertTrue(runLength.isMutant(descendingAndAscending));
+        assertFalse(runLength.isMutant(oneAscending), "Una sola diagonal ↗ no alcanza");
+    }
+
+    @Test
+    @DisplayName("Debe contar corridas solapadas como el motor escalar (AAAAA = 2)")
+    void testOverlappingRuns() {
+        String[] dna = {
+                "AAAAAT",
+                "CAGTGC",
+                "TTATGT",
+                "AGACGG",
+                "GCGTCA",
+                "TCACTG"
+        };
+
+        assertTrue(runLength.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el escalar en todas las matrices 4x4 de dos bases, para K 2..4 y T 1..4")
+    void testExhaustiveBinary4x4() {
+        List<DetectionRule> rules = rules(2, 4);
+
+        for (int bits = 0; bits < 1 << 16; bits++) {
+            String[] dna = matrix(4, bits, 2);
+            assertSameAsScalar(dna, rules);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el escalar en todas las matrices 3x3 de tres bases, para K 2..3 y T 1..4")
+    void testExhaustiveTernary3x3() {
+        List<DetectionRule> rules = rules(2, 3);
+
+        int matrices = 1;
+        for (int i = 0; i < 9; i++) {
+            matrices *= 3;
+        }
+        for (int digits = 0; digits < matrices; digits++) {
+            String[] dna = matrix(3, digits, 3);
+            assertSameAsScalar(dna, rules);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el escalar en matrices aleatorias de hasta 60x60")
+    void testMatchesScalarOnRandomMatrices() {
+        Random random = new Random(23);
+        List<DetectionRule> rules = rules(2, 8);
+        char[] bases = {'A', 'T', 'C', 'G'};
+
+        for (int i = 0; i < 500; i++) {
+            int n = 8 + random.nextInt(53);
+            // Menos bases = corridas más largas y más secuencias por matriz
+            int alphabet = 2 + random.nextInt(3);
+            String[] dna = new String[n];
+            for (int row = 0; row < n; row++) {
+                char[] chars = new char[n];
+                for (int col = 0; col < n; col++) {
+                    chars[col] = bases[random.nextInt(alphabet)];
+                }
+                dna[row] = new String(chars);
+            }
+
+            assertSameAsScalar(dna, rules);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe decidir igual que el escalar en matrices grandes")
+    void testLargeMatrix() {
+        Random random = new Random(5);
+        char[] bases = {'A', 'T', 'C', 'G'};
+        int n = 1000;
+        String[] dna = new String[n];
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = bases[random.nextInt(4)];
+            }
+            dna[row] = new String(chars);
+        }
+
+        assertEquals(new ScalarDetectionEngine().isMutant(dna), runLength.isMutant(dna));
+    }
+
+    private static void assertSameAsScalar(String[] dna, List<DetectionRule> rules) {
+        for (DetectionRule rule : rules) {
+            if (dna.length < rule.sequenceLength()) {
+                continue;
+            }
+            assertEquals(new ScalarDetectionEngine(rule).isMutant(dna),
+                    new RunLengthDetectionEngine(rule).isMutant(dna),
+                    () -> "Resultado distinto con " + rule + " para " + String.join(",", dna));
+        }
+    }
+
+    /**
+     * Reglas con K en [minLength, maxLength] y T en [1, 4].
+     */
+    private static List<DetectionRule> rules(int minLength, int maxLength) {
+        List<DetectionRule> rules = new ArrayList<>();
+        for (int k = minLength; k <= maxLength; k++) {
+            for (int t = 1; t <= 4; t++) {
+                rules.add(new DetectionRule(k, t));
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Matriz n x n cuyas celdas son los dígitos de value en base alphabet.
+     */
+    private static String[] matrix(int n, int value, int alphabet) {
+        char[] bases = {'A', 'T', 'C', 'G'};
+        String[] dna = new String[n];
+        int rest = value;
+        for (int row = 0; row < n; row++) {
+            char[] chars = new char[n];
+            for (int col = 0; col < n; col++) {
+                chars[col] = bases[rest % alphabet];
+                rest /= alphabet;
+            }
+            dna[row] = new String(chars);
+        }
+        return dna;
+    }
+}
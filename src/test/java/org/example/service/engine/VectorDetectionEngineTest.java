@@ -0,0 +1,71 @@
+package org.example.service.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para VectorDetectionEngine.
+ * Requiere --add-modules jdk.incubator.vector (configurado en build.gradle).
+ */
+@DisplayName("VectorDetectionEngine - Tests Unitarios")
+class VectorDetectionEngineTest {
+
+    private final DetectionEngine vector = new VectorDetectionEngine();
+    private final DetectionEngine scalar = new ScalarDetectionEngine();
+
+    @Test
+    @DisplayName("Debe detectar mutante con secuencias horizontal y diagonal")
+    void testMutant() {
+        String[] dna = {
+                "ATGCGA",
+                "CAGTGC",
+                "TTATGT",
+                "AGAAGG",
+                "CCCCTA",
+                "TCACTG"
+        };
+
+        assertTrue(vector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe retornar false cuando solo hay 1 secuencia")
+    void testHumanWithOneSequence() {
+        String[] dna = {
+                "ATGCGA",
+                "CAGTGC",
+                "TTATTT",
+                "AGACGG",
+                "GCGTCA",
+                "TCACTG"
+        };
+
+        assertFalse(vector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con el motor escalar en matrices mayores a un vector")
+    void testMatchesScalarOnRandomMatrices() {
+        Random random = new Random(7);
+        char[] bases = {'A', 'T', 'C', 'G'};
+
+        for (int i = 0; i < 2_000; i++) {
+            int n = 4 + random.nextInt(i % 20 == 0 ? 200 : 12);
+            String[] dna = new String[n];
+            for (int row = 0; row < n; row++) {
+                char[] chars = new char[n];
+                for (int col = 0; col < n; col++) {
+                    chars[col] = bases[random.nextInt(4)];
+                }
+                dna[row] = new String(chars);
+            }
+
+            assertEquals(scalar.isMutant(dna), vector.isMutant(dna),
+                    "Resultado distinto para matriz de " + n + "x" + n);
+        }
+    }
+}
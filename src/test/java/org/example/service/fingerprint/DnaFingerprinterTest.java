@@ -0,0 +1,81 @@
+package org.example.service.fingerprint;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para las estrategias de huella de ADN.
+ */
+@DisplayName("DnaFingerprinter - Tests Unitarios")
+class DnaFingerprinterTest {
+
+    private static final String[] DNA = {
+            "ATGCGA",
+            "CAGTGC",
+            "TTATGT",
+            "AGAAGG",
+            "CCCCTA",
+            "TCACTG"
+    };
+
+    private final DnaFingerprinter murmur3 = new Murmur3Fingerprinter();
+    private final DnaFingerprinter sha256 = new Sha256Fingerprinter();
+
+    @Test
+    @DisplayName("Murmur3 debe coincidir con el vector de referencia de MurmurHash3_x64_128")
+    void testMurmur3_ReferenceVector() {
+        DnaFingerprint fingerprint = murmur3.fingerprint(
+                new String[]{"The quick brown fox jumps over the lazy dog"});
+
+        assertEquals(0xe34bbc7bbc071b6cL, fingerprint.high());
+        assertEquals(0x7a433ca9c49a9347L, fingerprint.low());
+    }
+
+    @Test
+    @DisplayName("Murmur3 debe ser independiente de cómo se parte el texto en filas")
+    void testMurmur3_RowSplitMatchesConcatenation() {
+        assertEquals(
+                murmur3.fingerprint(new String[]{String.join("", DNA)}),
+                murmur3.fingerprint(DNA));
+    }
+
+    @Test
+    @DisplayName("SHA-256 debe coincidir con los primeros 128 bits del hash de la concatenación")
+    void testSha256_TruncatedDigest() {
+        // sha256("ATGCGACAGTGCTTATGTAGAAGGCCCCTATCACTG") = a65d94c3e61fa215 13338bde031f5306 ...
+        assertEquals(UUID.fromString("a65d94c3-e61f-a215-1333-8bde031f5306"), sha256.fingerprint(DNA).toUuid());
+    }
+
+    @Test
+    @DisplayName("Debe producir huellas distintas para ADN distinto")
+    void testDifferentDna_DifferentFingerprint() {
+        String[] other = DNA.clone();
+        other[5] = "TCACTA";
+
+        assertNotEquals(murmur3.fingerprint(DNA), murmur3.fingerprint(other));
+        assertNotEquals(sha256.fingerprint(DNA), sha256.fingerprint(other));
+    }
+
+    @Test
+    @DisplayName("Un carácter no ASCII no debe colisionar con la base de su byte bajo")
+    void testNonAsciiDoesNotAliasBase() {
+        String[] invalid = DNA.clone();
+        invalid[0] = "ŁTGCGA"; // 0x141: byte bajo 0x41 = 'A'
+
+        assertNotEquals(murmur3.fingerprint(DNA), murmur3.fingerprint(invalid));
+        assertNotEquals(sha256.fingerprint(DNA), sha256.fingerprint(invalid));
+    }
+
+    @Test
+    @DisplayName("La conversión a UUID (clave de dna_records) debe ser reversible")
+    void testUuidRoundTrip() {
+        DnaFingerprint fingerprint = new DnaFingerprint(0x00000000000000ffL, 0xfedcba9876543210L);
+
+        assertEquals(UUID.fromString("00000000-0000-00ff-fedc-ba9876543210"), fingerprint.toUuid());
+        assertEquals(fingerprint, DnaFingerprint.fromUuid(fingerprint.toUuid()));
+    }
+}